@@ -0,0 +1,16 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Columnar form of {@link MatrixDTO}. Key names and every distinct string (performance indicator, course and
+ * semester labels included) are sent once in {@code keys} and {@code strings}. Each entry of {@code values} holds,
+ * for every key, the index of its string or -1 when the cell has no such key. Only populated cells are listed in
+ * {@code cells}, flattened as {@code row, column, valueIndex} triples; every other cell of the
+ * {@code rowCount} x {@code columnCount} matrix is empty.
+ */
+@Builder
+public record CompactMatrixDTO(int rowCount, int columnCount, List<String> keys, List<String> strings,
+        List<int[]> values, int[] cells) { }
@@ -0,0 +1,14 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum CurrMapExportFormat {
+    CSV("text/csv", "csv"),
+    SPREADSHEET_XML("application/vnd.ms-excel", "xml");
+
+    private final String mediaType;
+    private final String extension;
+}
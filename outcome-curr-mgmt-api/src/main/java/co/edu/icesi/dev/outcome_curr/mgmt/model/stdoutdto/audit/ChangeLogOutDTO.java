@@ -8,6 +8,8 @@ public record ChangeLogOutDTO(
         String clogAffectedTable,
         String clogLogNewVal,
         String clogLogOldVal,
+        Integer clogVersion,
+        String clogPatch,
         String clogTimestamp,
         String user
 ) {
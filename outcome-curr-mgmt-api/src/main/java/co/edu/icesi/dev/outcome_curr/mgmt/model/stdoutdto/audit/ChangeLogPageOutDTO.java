@@ -0,0 +1,16 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * One page of a changelog search, newest first. {@code nextCursor} is sent back to get the following page and is
+ * null on the last one.
+ */
+@Builder
+public record ChangeLogPageOutDTO(
+        List<ChangeLogOutDTO> changes,
+        String nextCursor
+) {
+}
@@ -0,0 +1,16 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit;
+
+import lombok.Builder;
+
+/**
+ * A record as it was after one of its changes, rebuilt from the changelog. {@code clogValue} is the JSON of the
+ * record, or {@code null} if the change deleted it.
+ */
+@Builder
+public record ChangeLogVersionOutDTO(
+        String clogAffectedTable,
+        String clogAffectedRecordId,
+        int clogVersion,
+        String clogValue
+) {
+}
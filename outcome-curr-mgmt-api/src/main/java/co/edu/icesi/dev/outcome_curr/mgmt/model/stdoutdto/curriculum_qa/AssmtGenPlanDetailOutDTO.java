@@ -0,0 +1,10 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record AssmtGenPlanDetailOutDTO(String asgplaId, String asgplaStatus, String startAcPeriodId,
+                                       String endAcPeriodId, List<AssmtPlanCycleOutDTO> assmtPlanCycles) {
+}
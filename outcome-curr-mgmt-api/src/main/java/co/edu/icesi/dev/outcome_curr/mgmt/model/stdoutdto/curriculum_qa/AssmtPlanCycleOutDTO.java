@@ -0,0 +1,10 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record AssmtPlanCycleOutDTO(String asgplacycleId, String startAcPeriodId, String endAcPeriodId,
+                                   List<AssmtPlanSubcyclevOutDTO> assmtPlanSubcyclevs) {
+}
@@ -0,0 +1,7 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa;
+
+import lombok.Builder;
+
+@Builder
+public record AssmtPlanSubcyclevOutDTO(String asgplasubcycleId, String acPeriodId) {
+}
@@ -0,0 +1,10 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa;
+
+import lombok.Builder;
+
+import java.util.Date;
+
+@Builder
+public record CurrMapOutDTO(long cmId, String requestState, String cmComment, Date cmRequestDate,
+                            Date cmAcceptedDate, Date cmRejectedDate) {
+}
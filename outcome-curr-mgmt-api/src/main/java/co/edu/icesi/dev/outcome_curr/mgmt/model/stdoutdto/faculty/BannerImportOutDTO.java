@@ -0,0 +1,16 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty;
+
+import lombok.Builder;
+
+/**
+ * Result of importing every faculty and academic program from Banner. Skipped records were already imported, or
+ * for faculties, clash with the name of an existing one.
+ */
+@Builder
+public record BannerImportOutDTO(
+        int facultiesImported,
+        int facultiesSkipped,
+        int acadProgramsImported,
+        int acadProgramsSkipped
+) {
+}
@@ -2,6 +2,8 @@ package co.edu.icesi.dev.outcome_curr.mgmt.rs.audit;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.audit.ChangeLogFilterInDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogPageOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogVersionOutDTO;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,8 +14,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -27,6 +31,8 @@ public interface AuthChangeLogController {
     String UNAUTHORIZED = "A permission of administrator is required for this operation";
 
     String BAD_REQUEST="Date in filter has invalid format";
+    String BAD_SEARCH_REQUEST="Date in filter or cursor has invalid format";
+    String VERSION_NOT_FOUND="The record has no such version in ChangeLog";
     @GetMapping
     @PreAuthorize("hasAnyRole('ROLE_Query-changelog')")
     @Operation(summary = "Get the changes in ChangeLog")
@@ -50,4 +56,37 @@ public interface AuthChangeLogController {
     })
     List<ChangeLogOutDTO> getAllChangesByFilter(@Valid @RequestBody ChangeLogFilterInDTO changeLogDateFilterInDTO);
 
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ROLE_Query-changelog')")
+    @Operation(summary = "Get one page of the changes in ChangeLog, newest first, filtered by the given parameters. "
+            + "The nextCursor of a page is passed as cursor to get the following one.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = ChangeLogPageOutDTO.class, $comment = OK), mediaType = "application/json")}),
+            @ApiResponse(responseCode = "401", content = {
+                    @Content(schema = @Schema($comment = UNAUTHORIZED))}),
+            @ApiResponse(responseCode = "400", content = {
+                    @Content(schema = @Schema($comment = BAD_SEARCH_REQUEST))})
+    })
+    ChangeLogPageOutDTO searchChanges(@RequestParam(value = "usrName", required = false) String usrName,
+            @RequestParam(value = "entityName", required = false) String entityName,
+            @RequestParam(value = "clogStartDate", required = false) String clogStartDate,
+            @RequestParam(value = "clogEndDate", required = false) String clogEndDate,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "50") int limit);
+
+    @GetMapping("/versions/{entityName}/{recordId}/{clogVersion}")
+    @PreAuthorize("hasAnyRole('ROLE_Query-changelog')")
+    @Operation(summary = "Get a record as it was after the given version of its changes in ChangeLog")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = ChangeLogVersionOutDTO.class, $comment = OK), mediaType = "application/json")}),
+            @ApiResponse(responseCode = "401", content = {
+                    @Content(schema = @Schema($comment = UNAUTHORIZED))}),
+            @ApiResponse(responseCode = "404", content = {
+                    @Content(schema = @Schema($comment = VERSION_NOT_FOUND))})
+    })
+    ChangeLogVersionOutDTO getVersion(@PathVariable("entityName") String entityName,
+            @PathVariable("recordId") String recordId, @PathVariable("clogVersion") int clogVersion);
+
 }
@@ -1,6 +1,7 @@
 package co.edu.icesi.dev.outcome_curr.mgmt.rs.banner;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.FacultyNamesRequestDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.BannerImportOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.FacultyOutDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -85,4 +86,20 @@ public interface BannerFacultyImportController {
     List<FacultyOutDTO> importFaculties(
         @Valid @RequestBody FacultyNamesRequestDTO facultyNamesRequestDTO
     );
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Import every faculty in banner with all its academic programs")
+    @PreAuthorize("hasRole('"+ROLE_ADMIN_FACULTIES_ANY+"')")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = BannerImportOutDTO.class, $comment = OK), mediaType = "application/json")}),
+            @ApiResponse(responseCode = "401", content = {
+                    @Content(schema = @Schema($comment = UN_AUTHORIZED))}),
+            @ApiResponse(responseCode = "403", content = {
+                    @Content(schema = @Schema($comment = "Required permissions for this operation: "+ ROLE_ADMIN_FACULTIES_ANY))}),
+            @ApiResponse(responseCode = "404", content = {
+                    @Content(schema = @Schema($comment = "Theres no faculties in banner"))
+            })
+    })
+    BannerImportOutDTO importAll();
 }
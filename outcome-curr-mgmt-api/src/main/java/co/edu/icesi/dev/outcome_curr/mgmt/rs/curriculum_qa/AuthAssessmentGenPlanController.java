@@ -1,5 +1,6 @@
 package co.edu.icesi.dev.outcome_curr.mgmt.rs.curriculum_qa;
 
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanDetailOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanOutDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -37,7 +38,7 @@ public interface AuthAssessmentGenPlanController {
             +"'"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_ANY+"','"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_FAC+"',"
             + "'"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_PRG+"','"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_ANY+"',"
             + "'"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_FAC+"','"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_PRG+"')")
-    @Operation(summary = "Get the General Assessment plans")
+    @Operation(summary = "Get the General Assessment plans, without their cycles")
     @ApiResponses({@ApiResponse(responseCode = "200", content = {
             @Content(schema = @Schema(implementation = AssmtGenPlanOutDTO.class, $comment = OK), mediaType = "application/json")}),
             @ApiResponse(responseCode = "401", content = {
@@ -56,7 +57,7 @@ public interface AuthAssessmentGenPlanController {
             +"'"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_ANY+"','"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_FAC+"',"
             + "'"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_PRG+"','"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_ANY+"',"
             + "'"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_FAC+"','"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_PRG+"')")
-    @Operation(summary = "Get a General Assessment Plan by Id")
+    @Operation(summary = "Get a General Assessment Plan by Id, without its cycles")
     @ApiResponses({@ApiResponse(responseCode = "200", content = {
             @Content(schema = @Schema(implementation = AssmtGenPlanOutDTO.class, $comment = OK), mediaType = "application/json")}),
             @ApiResponse(responseCode = "401", content = {
@@ -70,5 +71,26 @@ public interface AuthAssessmentGenPlanController {
     AssmtGenPlanOutDTO getAssmntGenPlanById(@PathVariable("facultyId") long facultyId,
             @PathVariable("acadprogId") long acadProgId, @PathVariable("asgplaId") long asgplaId);
 
+    @GetMapping("/{asgplaId}/detail")
+    @PreAuthorize("hasAnyRole('"+ROLE_QUERY_FUTURE_GEN_ASSMNT_PLAN_ANY+"','"+ROLE_QUERY_FUTURE_GEN_ASSMNT_PLAN_FAC+"',"
+            + "'"+ROLE_QUERY_FUTURE_GEN_ASSMNT_PLAN_PRG+"','"+ROLE_QUERY_EXEC_GEN_ASSMNT_PLAN_ANY+"',"
+            + "'"+ROLE_QUERY_EXEC_GEN_ASSMNT_PLAN_FAC+"','"+ROLE_QUERY_EXEC_GEN_ASSMNT_PLAN_PRG+"',"
+            +"'"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_ANY+"','"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_FAC+"',"
+            + "'"+ROLE_QUERY_REVIEW_GEN_ASSMNT_PLAN_PRG+"','"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_ANY+"',"
+            + "'"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_FAC+"','"+ROLE_QUERY_CLOSED_GEN_ASSMNT_PLAN_PRG+"')")
+    @Operation(summary = "Get a General Assessment Plan by Id with its cycles and subcycles")
+    @ApiResponses({@ApiResponse(responseCode = "200", content = {
+            @Content(schema = @Schema(implementation = AssmtGenPlanDetailOutDTO.class, $comment = OK), mediaType = "application/json")}),
+            @ApiResponse(responseCode = "401", content = {
+                    @Content(schema = @Schema($comment = UN_AUTHORIZED))}),
+            @ApiResponse(responseCode = "403", content = {
+                    @Content(schema = @Schema($comment = QUERY_OWN_ASSMNT_REQUIRED))}),
+            @ApiResponse(responseCode = "404", content = {
+                    @Content(schema = @Schema($comment = NOT_FOUND))}),
+            @ApiResponse(responseCode = "409", content = {
+                    @Content(schema = @Schema($comment = CONFLICT))})})
+    AssmtGenPlanDetailOutDTO getAssmntGenPlanDetailById(@PathVariable("facultyId") long facultyId,
+            @PathVariable("acadprogId") long acadProgId, @PathVariable("asgplaId") long asgplaId);
+
 }
 
@@ -1,5 +1,6 @@
 package co.edu.icesi.dev.outcome_curr.mgmt.rs.curriculum_qa;
 
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CompactMatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.MatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanOutDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,11 +9,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "CurricularMappingWebService")
@@ -21,6 +26,10 @@ import org.springframework.web.bind.annotation.RestController;
         + "{acadProgCurrId}/curr_map")
 public interface AuthCurrMapController {
 
+    String COMPACT_MATRIX_MEDIA_TYPE = "application/vnd.outcome-curr.matrix-compact+json";
+    String MATRIX_FORMAT_JSON = "json";
+    String MATRIX_FORMAT_COMPACT = "compact";
+
     String OK = "Ok";
 
     String CONFLICT = "Incorrect faculty, program ID or curriculum ID";
@@ -28,8 +37,10 @@ public interface AuthCurrMapController {
     String QUERY_FUTURE_OWN_ACADEMIC_PROGRAMS = "A permission of Query-future-acad_programs-own or superior is required for this operation";
     String BAD_REQUEST = "Missing required fields";
     String NO_CONTENT = "No content";
+    String NOT_MODIFIED = "The matrix has not changed since the ETag sent in If-None-Match";
+    String NOT_ACCEPTABLE = "The format query parameter must be json or compact";
 
-    @GetMapping
+    @GetMapping(params = "!format")
     @PreAuthorize("hasAnyRole('ROLE_Query-future-acad_programs-own', "
             + "'ROLE_Admin-current-acad_programs-own', "
             + "'ROLE_Query-inactive-acad_programs-own')")
@@ -38,15 +49,66 @@ public interface AuthCurrMapController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", content = {
                     @Content(schema = @Schema(implementation = AssmtGenPlanOutDTO.class, $comment = OK), mediaType = "application/json")}),
+            @ApiResponse(responseCode = "304", content = {
+                    @Content(schema = @Schema($comment = NOT_MODIFIED))}),
+            @ApiResponse(responseCode = "401", content = {
+                    @Content(schema = @Schema($comment = UN_AUTHORIZED))}),
+            @ApiResponse(responseCode = "403", content = {
+                    @Content(schema = @Schema($comment = QUERY_FUTURE_OWN_ACADEMIC_PROGRAMS))}),
+            @ApiResponse(responseCode = "409", content = {
+                    @Content(schema = @Schema($comment = CONFLICT))})})
+    ResponseEntity<MatrixDTO> getMatrix(@PathVariable("facultyId") long facultyId,
+            @PathVariable("acadprogId") long acadprogId,
+            @PathVariable("acadProgCurrId") long acadProgCurrId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    @GetMapping(params = "!format", produces = COMPACT_MATRIX_MEDIA_TYPE)
+    @PreAuthorize("hasAnyRole('ROLE_Query-future-acad_programs-own', "
+            + "'ROLE_Admin-current-acad_programs-own', "
+            + "'ROLE_Query-inactive-acad_programs-own')")
+    @Operation(summary = "Get the matrix of the current curriculum in compact columnar form, selected with the "
+            + COMPACT_MATRIX_MEDIA_TYPE + " Accept header")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = CompactMatrixDTO.class, $comment = OK), mediaType = COMPACT_MATRIX_MEDIA_TYPE)}),
+            @ApiResponse(responseCode = "304", content = {
+                    @Content(schema = @Schema($comment = NOT_MODIFIED))}),
+            @ApiResponse(responseCode = "401", content = {
+                    @Content(schema = @Schema($comment = UN_AUTHORIZED))}),
+            @ApiResponse(responseCode = "403", content = {
+                    @Content(schema = @Schema($comment = QUERY_FUTURE_OWN_ACADEMIC_PROGRAMS))}),
+            @ApiResponse(responseCode = "409", content = {
+                    @Content(schema = @Schema($comment = CONFLICT))})})
+    ResponseEntity<CompactMatrixDTO> getCompactMatrix(@PathVariable("facultyId") long facultyId,
+            @PathVariable("acadprogId") long acadprogId,
+            @PathVariable("acadProgCurrId") long acadProgCurrId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    @GetMapping(params = "format")
+    @PreAuthorize("hasAnyRole('ROLE_Query-future-acad_programs-own', "
+            + "'ROLE_Admin-current-acad_programs-own', "
+            + "'ROLE_Query-inactive-acad_programs-own')")
+    @Operation(summary = "Get the matrix of the current curriculum in the representation named by the format query "
+            + "parameter, json or compact, whatever the Accept header asks for")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(implementation = MatrixDTO.class, $comment = OK), mediaType = "application/json"),
+                    @Content(schema = @Schema(implementation = CompactMatrixDTO.class, $comment = OK), mediaType = COMPACT_MATRIX_MEDIA_TYPE)}),
+            @ApiResponse(responseCode = "304", content = {
+                    @Content(schema = @Schema($comment = NOT_MODIFIED))}),
             @ApiResponse(responseCode = "401", content = {
                     @Content(schema = @Schema($comment = UN_AUTHORIZED))}),
             @ApiResponse(responseCode = "403", content = {
                     @Content(schema = @Schema($comment = QUERY_FUTURE_OWN_ACADEMIC_PROGRAMS))}),
+            @ApiResponse(responseCode = "406", content = {
+                    @Content(schema = @Schema($comment = NOT_ACCEPTABLE))}),
             @ApiResponse(responseCode = "409", content = {
                     @Content(schema = @Schema($comment = CONFLICT))})})
-    MatrixDTO getMatrix(@PathVariable("facultyId") long facultyId,
+    ResponseEntity<?> getMatrixInFormat(@PathVariable("facultyId") long facultyId,
             @PathVariable("acadprogId") long acadprogId,
-            @PathVariable("acadProgCurrId") long acadProgCurrId);
+            @PathVariable("acadProgCurrId") long acadProgCurrId,
+            @RequestParam("format") String format,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
     @PatchMapping(value = "/prevCurrMapId/{prevCurrMapId}/successorCurrMapId/{successorCurrMapId}/destinationState/{destinationState}")
     @Operation(summary = "Update the state of a curricular mapping")
@@ -0,0 +1,65 @@
+package co.edu.icesi.dev.outcome_curr.mgmt.rs.curriculum_qa;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CurrMapExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "CurricularMappingExportWebService")
+@RestController
+@RequestMapping(value = "/v1/auth/faculties/{facultyId}")
+public interface AuthCurrMapExportController {
+
+    String OK = "Ok";
+    String UN_AUTHORIZED = "User credentials are needed for this request";
+    String QUERY_FUTURE_OWN_ACADEMIC_PROGRAMS = "A permission of Query-future-acad_programs-own or superior is required for this operation";
+    String BAD_REQUEST = "Unknown export file type";
+
+    @GetMapping("/acad_programs/{acadprogId}/acadprg_curriculums/{acadProgCurrId}/curr_map/export")
+    @PreAuthorize("hasAnyRole('ROLE_Query-future-acad_programs-own', "
+            + "'ROLE_Admin-current-acad_programs-own', "
+            + "'ROLE_Query-inactive-acad_programs-own')")
+    @Operation(summary = "Download the matrix of a curriculum as CSV or spreadsheet XML")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(type = "string", format = "binary", $comment = OK))}),
+            @ApiResponse(responseCode = "400", content = {
+                    @Content(schema = @Schema($comment = BAD_REQUEST))}),
+            @ApiResponse(responseCode = "401", content = {
+                    @Content(schema = @Schema($comment = UN_AUTHORIZED))}),
+            @ApiResponse(responseCode = "403", content = {
+                    @Content(schema = @Schema($comment = QUERY_FUTURE_OWN_ACADEMIC_PROGRAMS))})})
+    ResponseEntity<StreamingResponseBody> exportCurrMap(@PathVariable("facultyId") long facultyId,
+            @PathVariable("acadprogId") long acadprogId,
+            @PathVariable("acadProgCurrId") long acadProgCurrId,
+            @RequestParam(value = "fileType", defaultValue = "CSV") CurrMapExportFormat fileType);
+
+    @GetMapping("/curr_map/export")
+    @PreAuthorize("hasAnyRole('ROLE_Query-future-acad_programs-own', "
+            + "'ROLE_Admin-current-acad_programs-own', "
+            + "'ROLE_Query-inactive-acad_programs-own')")
+    @Operation(summary = "Download the matrices of every curriculum of a faculty as a zip archive")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(schema = @Schema(type = "string", format = "binary", $comment = OK),
+                            mediaType = "application/zip")}),
+            @ApiResponse(responseCode = "400", content = {
+                    @Content(schema = @Schema($comment = BAD_REQUEST))}),
+            @ApiResponse(responseCode = "401", content = {
+                    @Content(schema = @Schema($comment = UN_AUTHORIZED))}),
+            @ApiResponse(responseCode = "403", content = {
+                    @Content(schema = @Schema($comment = QUERY_FUTURE_OWN_ACADEMIC_PROGRAMS))})})
+    ResponseEntity<StreamingResponseBody> exportFacultyCurrMaps(@PathVariable("facultyId") long facultyId,
+            @RequestParam(value = "fileType", defaultValue = "CSV") CurrMapExportFormat fileType);
+}
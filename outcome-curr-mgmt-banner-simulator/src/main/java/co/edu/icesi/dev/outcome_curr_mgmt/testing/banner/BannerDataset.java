@@ -0,0 +1,142 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.testing.banner;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Faculties and programs served by the simulator. They are read from recorded fixtures when a fixtures directory is
+ * configured, and otherwise generated from the seed, so the same settings always give the same catalog.
+ */
+@Component
+public class BannerDataset {
+    private static final Logger logger = LoggerFactory.getLogger(BannerDataset.class);
+    private static final String[] FIELDS_ENG = {"Engineering", "Law", "Medicine", "Economics", "Design", "Education",
+            "Humanities", "Sciences", "Management", "Communication"};
+    private static final String[] FIELDS_SPA = {"Ingeniería", "Derecho", "Medicina", "Economía", "Diseño",
+            "Educación", "Humanidades", "Ciencias", "Administración", "Comunicación"};
+
+    public record Faculty(String facId, String isActive, String facNameEng, String facNameSpa) {
+    }
+
+    public record FacultyRef(String facultyId, String facNameEng) {
+    }
+
+    public record Program(long acpId, String acpIsActive, String acpProgNameEng, String acpProgNameSpa,
+                          String acpProgDescEng, String acpProgDescSpa, String acpSnies, FacultyRef faculty) {
+    }
+
+    private final List<Faculty> faculties;
+    private final List<Program> programs;
+    private final Random random;
+    private final Instant programsModified;
+    private volatile Instant facultiesModified;
+
+    public BannerDataset(BannerSimulatorProperties properties, ObjectMapper objectMapper) {
+        this.random = new Random(properties.seed());
+        if (properties.fixturesDir().isBlank()) {
+            this.faculties = new CopyOnWriteArrayList<>(generateFaculties(properties.faculties()));
+            this.programs = new CopyOnWriteArrayList<>(generatePrograms(faculties, properties.programsPerFaculty()));
+        } else {
+            Path fixtures = Path.of(properties.fixturesDir());
+            this.faculties = new CopyOnWriteArrayList<>(read(objectMapper, fixtures.resolve("faculties.json"),
+                    new TypeReference<List<Faculty>>() {}));
+            this.programs = new CopyOnWriteArrayList<>(read(objectMapper, fixtures.resolve("programs.json"),
+                    new TypeReference<List<Program>>() {}));
+        }
+        this.programsModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        this.facultiesModified = programsModified;
+        logger.info("Banner simulator serving {} faculties and {} programs.", faculties.size(), programs.size());
+    }
+
+    public List<Faculty> faculties() {
+        return faculties;
+    }
+
+    /**
+     * When the faculties last changed, to the second as HTTP dates carry it.
+     */
+    public Instant facultiesModified() {
+        return facultiesModified;
+    }
+
+    public Instant programsModified() {
+        return programsModified;
+    }
+
+    public List<Program> programs(String facultyId) {
+        if (facultyId == null) {
+            return programs;
+        }
+        return programs.stream().filter(program -> facultyId.equals(program.faculty().facultyId())).toList();
+    }
+
+    /**
+     * Renames some faculties, so that incremental synchronization has changes to pick up.
+     */
+    public synchronized int touchFaculties(int count) {
+        int touched = Math.min(count, faculties.size());
+        for (int i = 0; i < touched; i++) {
+            int index = random.nextInt(faculties.size());
+            Faculty faculty = faculties.get(index);
+            faculties.set(index, new Faculty(faculty.facId(), faculty.isActive(),
+                    faculty.facNameEng() + "'", faculty.facNameSpa() + "'"));
+        }
+        if (touched > 0) {
+            // Always move forward a whole second, or a client asking within the same second would miss the change
+            Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            Instant next = facultiesModified.plusSeconds(1);
+            facultiesModified = now.isAfter(next) ? now : next;
+        }
+        return touched;
+    }
+
+    private static List<Faculty> generateFaculties(int count) {
+        List<Faculty> generated = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            int field = (i - 1) % FIELDS_ENG.length;
+            int series = (i - 1) / FIELDS_ENG.length;
+            String suffix = series == 0 ? "" : " " + (series + 1);
+            generated.add(new Faculty(String.valueOf(i), "Y", "Faculty of " + FIELDS_ENG[field] + suffix,
+                    "Facultad de " + FIELDS_SPA[field] + suffix));
+        }
+        return generated;
+    }
+
+    private List<Program> generatePrograms(List<Faculty> faculties, int programsPerFaculty) {
+        List<Program> generated = new ArrayList<>(faculties.size() * programsPerFaculty);
+        long acpId = 1;
+        for (Faculty faculty : faculties) {
+            FacultyRef facultyRef = new FacultyRef(faculty.facId(), faculty.facNameEng());
+            for (int i = 1; i <= programsPerFaculty; i++, acpId++) {
+                generated.add(new Program(acpId, random.nextInt(10) == 0 ? "N" : "Y",
+                        "Program " + acpId + " of " + faculty.facNameEng(),
+                        "Programa " + acpId + " de " + faculty.facNameSpa(),
+                        "Undergraduate program " + acpId, "Programa de pregrado " + acpId,
+                        String.valueOf(100000 + random.nextInt(900000)), facultyRef));
+            }
+        }
+        return generated;
+    }
+
+    private static <T> List<T> read(ObjectMapper objectMapper, Path file, TypeReference<List<T>> type) {
+        try {
+            return objectMapper.readValue(Files.readAllBytes(file), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the Banner fixture " + file, e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.testing.banner;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Stand-in for the Banner REST interfaces, for load tests and offline runs. It serves generated or recorded
+ * faculties and programs the way Banner does, and can be slowed down, made to fail or throttled through the
+ * banner.simulator.* properties. Run it on its own, or start it from a test with {@link #start(String...)}.
+ */
+@SpringBootApplication
+@EnableConfigurationProperties(BannerSimulatorProperties.class)
+public class BannerSimulatorApplication {
+
+    public static void main(String[] args) {
+        start(args);
+    }
+
+    /**
+     * Starts the simulator; arguments such as {@code --server.port=0} or {@code --banner.simulator.faculties=500}
+     * override the defaults. Closing the returned context stops it.
+     */
+    public static ConfigurableApplicationContext start(String... args) {
+        return SpringApplication.run(BannerSimulatorApplication.class, args);
+    }
+}
@@ -0,0 +1,182 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.testing.banner;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Banner's endpoints as the outcome-curr-mgmt client uses them: a login that hands out a bearer token with an
+ * {@code exp}, and faculties and programs paginated with {@code _page}/{@code _limit}, answered with
+ * {@code Link}, {@code X-Total-Count}, an {@code ETag} and a {@code Last-Modified}. A repeated request gets a 304
+ * when its {@code If-None-Match} matches the page or, without one, when nothing changed after its
+ * {@code If-Modified-Since}.
+ */
+@RestController
+public class BannerSimulatorController {
+    private static final int DEFAULT_LIMIT = 10;
+
+    public record Credentials(String username, String password) {
+    }
+
+    public record Jwt(String token, String message) {
+    }
+
+    private final BannerDataset dataset;
+    private final BannerSimulatorProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public BannerSimulatorController(BannerDataset dataset, BannerSimulatorProperties properties,
+            ObjectMapper objectMapper) {
+        this.dataset = dataset;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping("/login")
+    public ResponseEntity<Jwt> login(@RequestBody Credentials credentials) {
+        if (!properties.username().equals(credentials.username())
+                || !properties.password().equals(credentials.password())) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new Jwt(null, "Invalid credentials"));
+        }
+        long expiry = Instant.now().plusSeconds(properties.tokenLifetimeSeconds()).getEpochSecond();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString("{\"alg\":\"none\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(("{\"sub\":\"" + credentials.username() + "\",\"exp\":" + expiry + "}")
+                .getBytes(StandardCharsets.UTF_8)) + ".simulated";
+        return ResponseEntity.ok(new Jwt(token, "Login successful"));
+    }
+
+    @GetMapping("/faculties")
+    public ResponseEntity<List<BannerDataset.Faculty>> getFaculties(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince,
+            @RequestParam(value = "_page", required = false) Integer page,
+            @RequestParam(value = "_limit", required = false) Integer limit) {
+        return answer(authorization, ifNoneMatch, ifModifiedSince, dataset.facultiesModified(), dataset.faculties(),
+                page, limit);
+    }
+
+    @GetMapping("/programs")
+    public ResponseEntity<List<BannerDataset.Program>> getPrograms(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince,
+            @RequestParam(value = "faculty.facultyId", required = false) String facultyId,
+            @RequestParam(value = "_page", required = false) Integer page,
+            @RequestParam(value = "_limit", required = false) Integer limit) {
+        return answer(authorization, ifNoneMatch, ifModifiedSince, dataset.programsModified(),
+                dataset.programs(facultyId), page, limit);
+    }
+
+    @PostMapping("/_simulator/faculties/touch")
+    public Map<String, Integer> touchFaculties(@RequestParam(value = "count", defaultValue = "1") int count) {
+        return Map.of("touched", dataset.touchFaculties(count));
+    }
+
+    private <T> ResponseEntity<List<T>> answer(String authorization, String ifNoneMatch, String ifModifiedSince,
+            Instant lastModified, List<T> elements, Integer page, Integer limit) {
+        if (!isAuthorized(authorization)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        HttpHeaders headers = new HttpHeaders();
+        List<T> content = elements;
+        if (page != null || limit != null) {
+            int pageSize = limit == null || limit < 1 ? DEFAULT_LIMIT : limit;
+            int pageNumber = page == null || page < 1 ? 1 : page;
+            int lastPage = Math.max(1, (elements.size() + pageSize - 1) / pageSize);
+            int from = Math.min(elements.size(), (pageNumber - 1) * pageSize);
+            content = new ArrayList<>(elements.subList(from, Math.min(elements.size(), from + pageSize)));
+            headers.set(HttpHeaders.LINK, links(pageNumber, lastPage));
+        }
+        headers.set("X-Total-Count", String.valueOf(elements.size()));
+        String eTag = eTag(content);
+        headers.setETag(eTag);
+        headers.setLastModified(lastModified);
+        if (ifNoneMatch != null ? eTag.equals(ifNoneMatch) : isUnmodifiedSince(ifModifiedSince, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        return ResponseEntity.ok().headers(headers).contentType(MediaType.APPLICATION_JSON).body(content);
+    }
+
+    private static String links(int page, int lastPage) {
+        List<String> links = new ArrayList<>();
+        links.add(link(1, "first"));
+        if (page > 1) {
+            links.add(link(Math.min(page - 1, lastPage), "prev"));
+        }
+        if (page < lastPage) {
+            links.add(link(page + 1, "next"));
+        }
+        links.add(link(lastPage, "last"));
+        return String.join(", ", links);
+    }
+
+    private static String link(int page, String relation) {
+        String target = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("_page", page)
+                .toUriString();
+        return "<" + target + ">; rel=\"" + relation + "\"";
+    }
+
+    private static boolean isUnmodifiedSince(String ifModifiedSince, Instant lastModified) {
+        if (ifModifiedSince == null) {
+            return false;
+        }
+        try {
+            Instant since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return !lastModified.isAfter(since);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private boolean isAuthorized(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return false;
+        }
+        String[] parts = authorization.substring("Bearer ".length()).trim().split("\\.");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            long expiry = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1])).path("exp").asLong();
+            return Instant.now().getEpochSecond() < expiry;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String eTag(Object content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(content));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not compute the ETag", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.testing.banner;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param seed                  seed of the generated catalog and of the injected latency jitter and failures
+ * @param fixturesDir           directory with recorded faculties.json and programs.json; generated data is used
+ *                              when it is empty
+ * @param errorRate             share of requests, between 0 and 1, answered with a 503
+ * @param maxRequestsPerSecond  requests served per second before answering 429; 0 disables throttling
+ */
+@ConfigurationProperties("banner.simulator")
+public record BannerSimulatorProperties(
+        @DefaultValue("banner_test") String username,
+        @DefaultValue("banner_pass") String password,
+        @DefaultValue("42") long seed,
+        @DefaultValue("20") int faculties,
+        @DefaultValue("10") int programsPerFaculty,
+        @DefaultValue("") String fixturesDir,
+        @DefaultValue("1440") long tokenLifetimeSeconds,
+        @DefaultValue("0") long latencyMs,
+        @DefaultValue("0") long latencyJitterMs,
+        @DefaultValue("0.0") double errorRate,
+        @DefaultValue("0") int maxRequestsPerSecond
+) {
+}
@@ -0,0 +1,83 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.testing.banner;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Makes the simulator behave like a loaded Banner: every request waits for the configured latency plus a random
+ * jitter, requests above the per-second limit get a 429 with Retry-After, and the configured share of the rest gets
+ * a 503. The jitter and the failures are drawn from a generator seeded with {@code banner.simulator.seed}, so the
+ * same settings and the same request order give the same faults. The simulator's own control endpoints are left
+ * alone.
+ */
+@Component
+public class FaultInjectionFilter extends OncePerRequestFilter {
+    private final BannerSimulatorProperties properties;
+    private final Random random;
+    private final Object windowLock = new Object();
+    private long windowStart;
+    private int windowRequests;
+
+    public FaultInjectionFilter(BannerSimulatorProperties properties) {
+        this.properties = properties;
+        this.random = new Random(properties.seed());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().contains("/_simulator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isThrottled()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+            return;
+        }
+        delay();
+        if (properties.errorRate() > 0 && random.nextDouble() < properties.errorRate()) {
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isThrottled() {
+        if (properties.maxRequestsPerSecond() <= 0) {
+            return false;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        synchronized (windowLock) {
+            if (second != windowStart) {
+                windowStart = second;
+                windowRequests = 0;
+            }
+            return ++windowRequests > properties.maxRequestsPerSecond();
+        }
+    }
+
+    private void delay() {
+        long jitter = properties.latencyJitterMs() > 0
+                ? random.nextLong(properties.latencyJitterMs() + 1) : 0;
+        long delay = properties.latencyMs() + jitter;
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
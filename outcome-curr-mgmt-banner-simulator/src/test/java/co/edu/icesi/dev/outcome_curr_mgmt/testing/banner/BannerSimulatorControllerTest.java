@@ -0,0 +1,102 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.testing.banner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"banner.simulator.faculties=25", "banner.simulator.programs-per-faculty=3"})
+class BannerSimulatorControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private HttpHeaders headers;
+
+    @BeforeEach
+    void login() {
+        var login = restTemplate.postForEntity("/login",
+                new BannerSimulatorController.Credentials("banner_test", "banner_pass"),
+                BannerSimulatorController.Jwt.class);
+        assertNotNull(login.getBody());
+        headers = new HttpHeaders();
+        headers.setBearerAuth(login.getBody().token());
+    }
+
+    // Pages come with the links and total the Banner client reads.
+    @Test
+    void testFacultiesArePaginatedWithLinks() {
+        // Act
+        var response = getFaculties("/faculties?_page=2&_limit=10", headers);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(10, response.getBody().size());
+        assertEquals("11", response.getBody().get(0).facId());
+        assertEquals("25", response.getHeaders().getFirst("X-Total-Count"));
+        String link = response.getHeaders().getFirst(HttpHeaders.LINK);
+        assertTrue(link.contains("_page=3") && link.contains("rel=\"next\"") && link.contains("rel=\"last\""));
+    }
+
+    // Asking again with the ETag of the page gets a 304 until the page changes.
+    @Test
+    void testRepeatedRequestIsNotModified() {
+        // Arrange
+        var first = getFaculties("/faculties?_page=1&_limit=50", headers);
+        HttpHeaders conditional = new HttpHeaders(headers);
+        conditional.setIfNoneMatch(first.getHeaders().getETag());
+
+        // Act
+        var second = getFaculties("/faculties?_page=1&_limit=50", conditional);
+        restTemplate.postForEntity("/_simulator/faculties/touch?count=1", null, String.class);
+        var third = getFaculties("/faculties?_page=1&_limit=50", conditional);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(HttpStatus.OK, third.getStatusCode());
+    }
+
+    // Asking again with the Last-Modified of the page gets a 304 until the faculties change.
+    @Test
+    void testRequestUnmodifiedSinceIsNotModified() {
+        // Arrange
+        var first = getFaculties("/faculties?_page=1&_limit=50", headers);
+        HttpHeaders conditional = new HttpHeaders(headers);
+        conditional.setIfModifiedSince(first.getHeaders().getLastModified());
+
+        // Act
+        var second = getFaculties("/faculties?_page=1&_limit=50", conditional);
+        restTemplate.postForEntity("/_simulator/faculties/touch?count=1", null, String.class);
+        var third = getFaculties("/faculties?_page=1&_limit=50", conditional);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(HttpStatus.OK, third.getStatusCode());
+    }
+
+    @Test
+    void testRequestWithoutTokenIsRejected() {
+        var response = getFaculties("/faculties", new HttpHeaders());
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    private ResponseEntity<List<BannerDataset.Faculty>> getFaculties(String url, HttpHeaders requestHeaders) {
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(requestHeaders),
+                new ParameterizedTypeReference<>() {});
+    }
+}
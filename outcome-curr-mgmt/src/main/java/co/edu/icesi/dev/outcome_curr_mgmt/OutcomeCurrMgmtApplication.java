@@ -192,6 +192,10 @@ public class OutcomeCurrMgmtApplication {
     //                .build();
     //
               return args -> {
+                  // Disk-backed databases keep the sample data across restarts.
+                  if (facultyRepository.count() > 0) {
+                      return;
+                  }
                   AcPeriod acadPeriod1= acPeriodRepository.save(acPeriod1);
                   AcPeriod acadPeriod2= acPeriodRepository.save(acPeriod2);
 
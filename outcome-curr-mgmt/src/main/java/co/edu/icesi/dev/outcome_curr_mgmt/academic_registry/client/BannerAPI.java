@@ -6,13 +6,20 @@ import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.AcadProgramOut
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface BannerAPI {
     List<FacultyInDTO> getFacultiesList();
     Page<FacultyInDTO> getFacultiesPage(int page, int size);
+    Stream<FacultyInDTO> streamFaculties();
     List<FacultyInDTO> importFaculties(List<String> facultiesNames);
+    BannerConditionalPage<FacultyInDTO> getFacultiesPageIfChanged(int page, int size, String eTag,
+            String lastModified);
 
     List<AcadProgramOutDTO> getAcadProgramsList(String facultyName);
     Page<AcadProgramOutDTO> getAcadProgramsPage(int page, int size, String facultyName);
+    Stream<AcadProgramOutDTO> streamAcadPrograms(String facultyName);
     List<AcadProgramOutDTO> importAcadPrograms(String facultyName, List<String> acadProgramsNames);
+    BannerConditionalPage<AcadProgramOutDTO> getAcadProgramsPageIfChanged(String facultyName, int page, int size,
+            String eTag, String lastModified);
 }
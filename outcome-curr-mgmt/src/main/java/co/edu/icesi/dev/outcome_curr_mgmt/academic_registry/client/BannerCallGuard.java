@@ -0,0 +1,77 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.config.BannerResilienceConfig;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs every call to Banner through a bulkhead, which caps the calls in flight, and a circuit breaker, which stops
+ * calling for a while once too many fail and then lets a few probes through before closing again. Reads are also
+ * retried with jittered exponential backoff. The login only goes through the bulkhead. A rejected or failed call
+ * reaches the caller as BANNER_UNAVAILABLE, so requests fail fast with a 503 instead of waiting on a Banner that is
+ * down.
+ */
+@Component
+public class BannerCallGuard {
+    private static final Logger logger = LoggerFactory.getLogger(BannerCallGuard.class);
+    private static final String BANNER = "banner";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+
+    public BannerCallGuard(CircuitBreakerRegistry bannerCircuitBreakerRegistry,
+            BulkheadRegistry bannerBulkheadRegistry, RetryRegistry bannerRetryRegistry) {
+        this.circuitBreaker = bannerCircuitBreakerRegistry.circuitBreaker(BANNER);
+        this.bulkhead = bannerBulkheadRegistry.bulkhead(BANNER);
+        this.retry = bannerRetryRegistry.retry(BANNER);
+    }
+
+    /**
+     * Idempotent call, retried on failures that may go away.
+     */
+    public <T> T read(Supplier<T> call) {
+        return unavailableOnFailure(Retry.decorateSupplier(retry, guarded(call)));
+    }
+
+    /**
+     * Login for the service token. It is kept out of the circuit breaker: it runs once per token rather than once per
+     * read, so counting it would skew the failure rate of the calls the breaker protects, and a failed background
+     * renewal is already retried by the token manager.
+     */
+    public <T> T login(Supplier<T> call) {
+        return unavailableOnFailure(Bulkhead.decorateSupplier(bulkhead, call));
+    }
+
+    private <T> Supplier<T> guarded(Supplier<T> call) {
+        return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call));
+    }
+
+    private static <T> T unavailableOnFailure(Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            logger.warn("Call to Banner rejected: {}", e.getMessage());
+            throw new OutCurrException(OutCurrExceptionType.BANNER_UNAVAILABLE);
+        } catch (RuntimeException e) {
+            if (BannerResilienceConfig.isBannerFailure(e)) {
+                logger.error("Call to Banner failed.", e);
+                throw new OutCurrException(OutCurrExceptionType.BANNER_UNAVAILABLE);
+            }
+            throw e;
+        }
+    }
+}
@@ -9,11 +9,13 @@ import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.config.BannerClientC
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.faculty.FacultyServiceImpl;
+import co.edu.icesi.dev.outcome_curr_mgmt.util.ServiceTokenManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -21,43 +23,93 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.time.Instant;
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Component
 public class BannerClientImpl implements BannerAPI, BannerClient {
     private static final Logger logger = LoggerFactory.getLogger(FacultyServiceImpl.class);
+    private static final String REQUEST_TIMER = "banner.request";
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String ALL_FACULTIES = "all";
     private final BannerClientConfig bannerClientConfig;
     private final RestTemplate restTemplate;
-    private String authToken;
-    private Instant tokenExpiration;
+    private final MeterRegistry meterRegistry;
+    private final BannerCallGuard bannerCallGuard;
+    private final int streamPageSize;
+    private final ExecutorService readAheadExecutor;
+    private final StaleWhileRevalidateCache<String, List<FacultyInDTO>> facultiesCache;
+    private final StaleWhileRevalidateCache<String, List<AcadProgramOutDTO>> programsCache;
+    private final ServiceTokenManager tokenManager;
 
     @Autowired
-    public BannerClientImpl(BannerClientConfig bannerClientConfig) {
+    public BannerClientImpl(BannerClientConfig bannerClientConfig, RestTemplate outboundRestTemplate,
+            MeterRegistry meterRegistry, BannerCallGuard bannerCallGuard,
+            @Value("${banner.stream.page-size:100}") int streamPageSize,
+            @Value("${banner.stream.read-ahead-threads:4}") int readAheadThreads,
+            @Value("${banner.cache.time-to-live-ms:300000}") long cacheTimeToLiveMillis,
+            @Value("${banner.cache.max-stale-ms:86400000}") long cacheMaxStaleMillis,
+            @Value("${banner.token.refresh-ahead-s:60}") long tokenRefreshAheadSeconds,
+            @Value("${banner.token.fallback-lifetime-s:1440}") long tokenFallbackLifetimeSeconds) {
         this.bannerClientConfig = bannerClientConfig;
-        restTemplate = new RestTemplate();
+        this.restTemplate = outboundRestTemplate;
+        this.meterRegistry = meterRegistry;
+        this.bannerCallGuard = bannerCallGuard;
+        this.streamPageSize = streamPageSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.readAheadExecutor = Executors.newFixedThreadPool(readAheadThreads, runnable -> {
+            Thread thread = new Thread(runnable, "banner-read-ahead-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.facultiesCache = new StaleWhileRevalidateCache<>("faculties", cacheTimeToLiveMillis,
+                cacheMaxStaleMillis, readAheadExecutor, meterRegistry, System::currentTimeMillis);
+        this.programsCache = new StaleWhileRevalidateCache<>("programs", cacheTimeToLiveMillis,
+                cacheMaxStaleMillis, readAheadExecutor, meterRegistry, System::currentTimeMillis);
+        this.tokenManager = new ServiceTokenManager("banner", this::requestAuthToken,
+                Duration.ofSeconds(tokenRefreshAheadSeconds), Duration.ofSeconds(tokenFallbackLifetimeSeconds));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tokenManager.close();
+        readAheadExecutor.shutdownNow();
     }
 
     @Override
-    @Cacheable(value = "faculties", unless = "#result == null")
     public List<FacultyInDTO> getFacultiesList() {
+        return facultiesCache.get(ALL_FACULTIES, key -> requestFacultiesList());
+    }
+
+    private List<FacultyInDTO> requestFacultiesList() {
         UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(bannerClientConfig.getBannerUrl())
                 .path("faculties");
-        ResponseEntity<List<FacultyInDTO>> response = restTemplate.exchange(
+        HttpEntity<String> authHeader = getAuthHeader();
+        ResponseEntity<List<FacultyInDTO>> response = read("faculties", () -> restTemplate.exchange(
                 uri.toUriString(),
                 HttpMethod.GET,
-                getAuthHeader(),
-                new ParameterizedTypeReference<>() {}
-        );
-        System.out.println(response.getBody());
+                authHeader,
+                new ParameterizedTypeReference<List<FacultyInDTO>>() {}
+        ));
         return response.getBody();
     }
 
@@ -67,23 +119,46 @@ public class BannerClientImpl implements BannerAPI, BannerClient {
                 .path("faculties")
                 .queryParam("_limit", size)
                 .queryParam("_page", page);
-        ResponseEntity<List<FacultyInDTO>> listResponseEntity = restTemplate.exchange(
+        HttpEntity<String> authHeader = getAuthHeader();
+        ResponseEntity<List<FacultyInDTO>> listResponseEntity = read("faculties", () -> restTemplate.exchange(
                 uri.toUriString(),
                 HttpMethod.GET,
-                getAuthHeader(),
-                new ParameterizedTypeReference<>() {}
-        );
+                authHeader,
+                new ParameterizedTypeReference<List<FacultyInDTO>>() {}
+        ));
         return formatPageResponse(page, size, listResponseEntity);
     }
 
     @Override
-    @CacheEvict(value = "faculties")
+    public BannerConditionalPage<FacultyInDTO> getFacultiesPageIfChanged(int page, int size, String eTag,
+            String lastModified) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(bannerClientConfig.getBannerUrl())
+                .path("faculties")
+                .queryParam("_limit", size)
+                .queryParam("_page", page);
+        HttpEntity<String> conditionalHeader = getConditionalHeader(eTag, lastModified);
+        ResponseEntity<List<FacultyInDTO>> listResponseEntity = read("faculties", () -> restTemplate.exchange(
+                uri.toUriString(),
+                HttpMethod.GET,
+                conditionalHeader,
+                new ParameterizedTypeReference<List<FacultyInDTO>>() {}
+        ));
+        return formatConditionalResponse(listResponseEntity);
+    }
+
+    @Override
+    public Stream<FacultyInDTO> streamFaculties() {
+        return stream("faculties", UriComponentsBuilder.fromHttpUrl(bannerClientConfig.getBannerUrl())
+                .path("faculties"), new ParameterizedTypeReference<List<FacultyInDTO>>() {});
+    }
+
+    @Override
     public List<FacultyInDTO> importFaculties(List<String> facultiesNames) {
-        List<FacultyInDTO> foundFaculties = getFacultiesList().stream()
-                .filter(faculty ->
-                        facultiesNames.contains(faculty.facNameEng()) ||
-                        facultiesNames.contains(faculty.facNameSpa())
-                ).toList();
+        List<FacultyInDTO> foundFaculties;
+        try (Stream<FacultyInDTO> faculties = streamFaculties()) {
+            foundFaculties = findByNames(faculties, facultiesNames, FacultyInDTO::facNameEng,
+                    FacultyInDTO::facNameSpa);
+        }
         if (foundFaculties.isEmpty()) {
             logger.error("The faculties dont match the given names");
             throw new OutCurrException(OutCurrExceptionType.FACULTY_NOT_FOUND);
@@ -92,17 +167,21 @@ public class BannerClientImpl implements BannerAPI, BannerClient {
     }
 
     @Override
-    @Cacheable(value = "programs", key = "'faculty-' + #facultyName", unless = "#result == null")
     public List<AcadProgramOutDTO> getAcadProgramsList(String facultyName) {
+        return programsCache.get(facultyName, this::requestAcadProgramsList);
+    }
+
+    private List<AcadProgramOutDTO> requestAcadProgramsList(String facultyName) {
         UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(bannerClientConfig.getBannerUrl())
                 .path("programs")
                 .queryParam("faculty.facultyId", facultyName);
-        ResponseEntity<List<AcadProgramOutDTO>> listResponseEntity = restTemplate.exchange(
+        HttpEntity<String> authHeader = getAuthHeader();
+        ResponseEntity<List<AcadProgramOutDTO>> listResponseEntity = read("programs", () -> restTemplate.exchange(
                 uri.toUriString(),
                 HttpMethod.GET,
-                getAuthHeader(),
-                new ParameterizedTypeReference<>() {}
-        );
+                authHeader,
+                new ParameterizedTypeReference<List<AcadProgramOutDTO>>() {}
+        ));
         return listResponseEntity.getBody();
     }
 
@@ -113,57 +192,130 @@ public class BannerClientImpl implements BannerAPI, BannerClient {
                 .queryParam("faculty.facultyId", facultyName)
                 .queryParam("_limit", size)
                 .queryParam("_page", page);
-        ResponseEntity<List<AcadProgramOutDTO>> listResponseEntity = restTemplate.exchange(
+        HttpEntity<String> authHeader = getAuthHeader();
+        ResponseEntity<List<AcadProgramOutDTO>> listResponseEntity = read("programs", () -> restTemplate.exchange(
                 uri.toUriString(),
                 HttpMethod.GET,
-                getAuthHeader(),
-                new ParameterizedTypeReference<>() {}
-        );
+                authHeader,
+                new ParameterizedTypeReference<List<AcadProgramOutDTO>>() {}
+        ));
         return formatPageResponse(page, size, listResponseEntity);
     }
 
     @Override
-    @CacheEvict(value = "programs", key = "'faculty-' + #facultyName")
+    public Stream<AcadProgramOutDTO> streamAcadPrograms(String facultyName) {
+        return stream("programs", UriComponentsBuilder.fromHttpUrl(bannerClientConfig.getBannerUrl())
+                .path("programs")
+                .queryParam("faculty.facultyId", facultyName),
+                new ParameterizedTypeReference<List<AcadProgramOutDTO>>() {});
+    }
+
+    @Override
     public List<AcadProgramOutDTO> importAcadPrograms(String facultyName, List<String> acadProgramsNames) {
-        return getAcadProgramsList(facultyName).stream()
-                .filter(faculty -> acadProgramsNames.contains(faculty.acpProgNameSpa())
-                                || acadProgramsNames.contains(faculty.acpProgNameEng())
-                ).toList();
+        try (Stream<AcadProgramOutDTO> acadPrograms = streamAcadPrograms(facultyName)) {
+            return findByNames(acadPrograms, acadProgramsNames, AcadProgramOutDTO::acpProgNameEng,
+                    AcadProgramOutDTO::acpProgNameSpa);
+        }
+    }
+
+    @Override
+    public BannerConditionalPage<AcadProgramOutDTO> getAcadProgramsPageIfChanged(String facultyName, int page,
+            int size, String eTag, String lastModified) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(bannerClientConfig.getBannerUrl())
+                .path("programs")
+                .queryParam("faculty.facultyId", facultyName)
+                .queryParam("_limit", size)
+                .queryParam("_page", page);
+        HttpEntity<String> conditionalHeader = getConditionalHeader(eTag, lastModified);
+        ResponseEntity<List<AcadProgramOutDTO>> listResponseEntity = read("programs", () -> restTemplate.exchange(
+                uri.toUriString(),
+                HttpMethod.GET,
+                conditionalHeader,
+                new ParameterizedTypeReference<List<AcadProgramOutDTO>>() {}
+        ));
+        return formatConditionalResponse(listResponseEntity);
     }
 
     @Override
     public String getAuthToken() {
-        if (authToken == null || isAuthTokenExpired()) {
-            return authToken = requestAuthToken();
+        return tokenManager.getToken();
+    }
+
+    private String requestAuthToken() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<BannerCredentialsDTO> request = new HttpEntity<>(
+                new BannerCredentialsDTO(
+                        bannerClientConfig.getBannerUser(),
+                        bannerClientConfig.getBannerPass()
+                ),
+                headers
+        );
+        ResponseEntity<BannerJwtDTO> responseEntity = login(() -> restTemplate.postForEntity(
+                bannerClientConfig.getBannerUrl() + "login",
+                request,
+                BannerJwtDTO.class
+        ));
+        if (responseEntity.getBody() == null) {
+            logger.error("Banner answered the login without a token.");
+            throw new OutCurrException(OutCurrExceptionType.BANNER_UNAVAILABLE);
         }
-        return authToken;
+        return responseEntity.getBody().token();
     }
 
-    private boolean isAuthTokenExpired() {
-        return tokenExpiration != null && Instant.now().isAfter(tokenExpiration);
+    private <T> Stream<T> stream(String endpoint, UriComponentsBuilder resource,
+            ParameterizedTypeReference<List<T>> responseType) {
+        return BannerPager.stream(page -> {
+            String uri = resource.cloneBuilder()
+                    .queryParam("_limit", streamPageSize)
+                    .queryParam("_page", page)
+                    .toUriString();
+            HttpEntity<String> authHeader = getAuthHeader();
+            ResponseEntity<List<T>> response = read(endpoint, () -> restTemplate.exchange(
+                    uri,
+                    HttpMethod.GET,
+                    authHeader,
+                    responseType
+            ));
+            List<T> content = Objects.requireNonNullElse(response.getBody(), List.of());
+            BannerLinks links = BannerLinks.parse(response.getHeaders().getFirst(HttpHeaders.LINK));
+            //Without links a full page is the only sign that another one may follow
+            boolean hasNext = links.isEmpty() ? content.size() >= streamPageSize : links.has("next");
+            return new BannerPager.Page<>(content, page, hasNext);
+        }, readAheadExecutor, 1);
     }
 
-    private String requestAuthToken() {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<BannerCredentialsDTO> request = new HttpEntity<>(
-                    new BannerCredentialsDTO(
-                            bannerClientConfig.getBannerUser(),
-                            bannerClientConfig.getBannerPass()
-                    ),
-                    headers
-            );
-            ResponseEntity<BannerJwtDTO> responseEntity = restTemplate.postForEntity(
-                    bannerClientConfig.getBannerUrl() + "login",
-                    request,
-                    BannerJwtDTO.class
-            );
-            tokenExpiration = Instant.now().plusSeconds(1440);
-            return Objects.requireNonNull(responseEntity.getBody()).token();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+    /**
+     * Elements whose English or Spanish name is among the given names. Reading stops as soon as every name has
+     * been matched, so the rest of the resource is never downloaded.
+     */
+    private static <T> List<T> findByNames(Stream<T> elements, Collection<String> names,
+            Function<T, String> nameEng, Function<T, String> nameSpa) {
+        Set<String> wanted = new HashSet<>(names);
+        Set<String> missing = new HashSet<>(names);
+        List<T> found = new ArrayList<>();
+        Iterator<T> iterator = elements.iterator();
+        while (!missing.isEmpty() && iterator.hasNext()) {
+            T element = iterator.next();
+            if (wanted.contains(nameEng.apply(element)) || wanted.contains(nameSpa.apply(element))) {
+                found.add(element);
+                missing.remove(nameEng.apply(element));
+                missing.remove(nameSpa.apply(element));
+            }
         }
+        return found;
+    }
+
+    private <T> T read(String endpoint, Supplier<T> call) {
+        return bannerCallGuard.read(() -> timed(endpoint, call));
+    }
+
+    private <T> T login(Supplier<T> call) {
+        return bannerCallGuard.login(() -> timed("login", call));
+    }
+
+    private <T> T timed(String endpoint, Supplier<T> call) {
+        return meterRegistry.timer(REQUEST_TIMER, "endpoint", endpoint).record(call);
     }
 
     private HttpEntity<String> getAuthHeader() {
@@ -173,27 +325,62 @@ public class BannerClientImpl implements BannerAPI, BannerClient {
         return new HttpEntity<>(headers);
     }
 
+    private HttpEntity<String> getConditionalHeader(String eTag, String lastModified) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Authorization", "Bearer " + getAuthToken());
+        if (eTag != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, eTag);
+        }
+        if (lastModified != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+        return new HttpEntity<>(headers);
+    }
+
+    private <T> BannerConditionalPage<T> formatConditionalResponse(ResponseEntity<List<T>> bannerResponse) {
+        if (bannerResponse.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            return BannerConditionalPage.unchanged();
+        }
+        return new BannerConditionalPage<>(
+                false,
+                Objects.requireNonNullElse(bannerResponse.getBody(), List.of()),
+                bannerResponse.getHeaders().getETag(),
+                bannerResponse.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+                getLastPage(bannerResponse)
+        );
+    }
+
     private <T> Page<T> formatPageResponse(int page, int size, ResponseEntity<List<T>> bannerResponse) {
+        List<T> content = Objects.requireNonNull(bannerResponse.getBody());
         return new PageImpl<>(
-                Objects.requireNonNull(bannerResponse.getBody()),
+                content,
                 PageRequest.of(page, size),
-                (long) size * getLastPage(bannerResponse)
+                getTotalCount(page, size, content.size(), bannerResponse)
         );
     }
 
-    private <T> Integer getLastPage(ResponseEntity<List<T>> bannerResponse) {
-        String linkHeader = bannerResponse.getHeaders().getFirst("Link");
-        if (linkHeader != null) {
-            String[] links = linkHeader.split(",");
-            String last = Arrays.stream(links)
-                    .filter(link -> link.contains("last")).findFirst().orElse(null);
-            if (last != null) {
-                String[] parts = last.split("page=");
-                String[] partsSecond = parts[1].split(">");
-                return Integer.parseInt(partsSecond[0]);
+    /**
+     * Total given by Banner in X-Total-Count. Without it the total is exact on the last page and an upper bound,
+     * derived from the last page number, on the others.
+     */
+    private <T> long getTotalCount(int page, int size, int pageElements, ResponseEntity<List<T>> bannerResponse) {
+        String totalCount = bannerResponse.getHeaders().getFirst(TOTAL_COUNT_HEADER);
+        if (totalCount != null) {
+            try {
+                return Long.parseLong(totalCount.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring an invalid {} header from Banner: {}", TOTAL_COUNT_HEADER, totalCount);
             }
-            return 1;
         }
-        return 1;
+        int lastPage = getLastPage(bannerResponse);
+        if (page >= lastPage) {
+            return (long) size * (lastPage - 1) + pageElements;
+        }
+        return (long) size * lastPage;
+    }
+
+    private <T> int getLastPage(ResponseEntity<List<T>> bannerResponse) {
+        return BannerLinks.parse(bannerResponse.getHeaders().getFirst(HttpHeaders.LINK)).page("last", 1);
     }
 }
@@ -0,0 +1,20 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client;
+
+import java.util.List;
+
+/**
+ * Answer to a conditional page request. When Banner reports the page as not modified there is no content, and the
+ * caller keeps what it stored from the previous answer.
+ */
+public record BannerConditionalPage<T>(
+        boolean notModified,
+        List<T> content,
+        String eTag,
+        String lastModified,
+        int lastPage
+) {
+
+    public static <T> BannerConditionalPage<T> unchanged() {
+        return new BannerConditionalPage<>(true, List.of(), null, null, 0);
+    }
+}
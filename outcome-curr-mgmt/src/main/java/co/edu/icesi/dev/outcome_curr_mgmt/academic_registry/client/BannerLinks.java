@@ -0,0 +1,79 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the pagination links Banner sends in the {@code Link} header (RFC 8288), such as
+ * {@code <http://banner/api/faculties?_page=3&_limit=10>; rel="last"}. Relations may be quoted, unquoted or
+ * several to one link, and the page number is taken from the {@code _page} query parameter of the target.
+ */
+final class BannerLinks {
+    private static final Pattern REL = Pattern.compile(";\\s*rel\\s*=\\s*(?:\"([^\"]*)\"|([^\\s;,]+))",
+            Pattern.CASE_INSENSITIVE);
+    private static final String PAGE_PARAM = "_page";
+
+    private final Map<String, String> targets;
+
+    private BannerLinks(Map<String, String> targets) {
+        this.targets = targets;
+    }
+
+    static BannerLinks parse(String linkHeader) {
+        Map<String, String> targets = new HashMap<>();
+        if (linkHeader == null) {
+            return new BannerLinks(targets);
+        }
+        int position = 0;
+        int start;
+        while ((start = linkHeader.indexOf('<', position)) >= 0) {
+            int end = linkHeader.indexOf('>', start);
+            if (end < 0) {
+                break;
+            }
+            int nextLink = linkHeader.indexOf('<', end);
+            String params = linkHeader.substring(end + 1, nextLink < 0 ? linkHeader.length() : nextLink);
+            Matcher rel = REL.matcher(params);
+            if (rel.find()) {
+                String relations = rel.group(1) != null ? rel.group(1) : rel.group(2);
+                for (String relation : relations.trim().split("\\s+")) {
+                    targets.putIfAbsent(relation.toLowerCase(Locale.ROOT), linkHeader.substring(start + 1, end));
+                }
+            }
+            position = end + 1;
+        }
+        return new BannerLinks(targets);
+    }
+
+    boolean isEmpty() {
+        return targets.isEmpty();
+    }
+
+    boolean has(String relation) {
+        return targets.containsKey(relation);
+    }
+
+    /**
+     * Page number the given relation points to, or the fallback when Banner did not send it.
+     */
+    int page(String relation, int fallback) {
+        String target = targets.get(relation);
+        if (target == null) {
+            return fallback;
+        }
+        String page = UriComponentsBuilder.fromUriString(target).build().getQueryParams().getFirst(PAGE_PARAM);
+        if (page == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(page.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a paginated Banner resource one element at a time. The first page is requested on the caller's thread
+ * when the first element is needed; while a page is being consumed the next one is already requested on the
+ * executor, so the network wait overlaps the work done with each element. At most one page is read ahead, and a
+ * closed pager drops it.
+ */
+final class BannerPager<T> implements Iterator<T>, AutoCloseable {
+
+    record Page<T>(List<T> content, int number, boolean hasNext) {
+    }
+
+    private final IntFunction<Page<T>> fetcher;
+    private final Executor executor;
+    private final int firstPage;
+    private Iterator<T> current = Collections.emptyIterator();
+    private CompletableFuture<Page<T>> readAhead;
+    private boolean started;
+    private boolean exhausted;
+
+    private BannerPager(IntFunction<Page<T>> fetcher, Executor executor, int firstPage) {
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.firstPage = firstPage;
+    }
+
+    /**
+     * Lazy stream over the resource; it must be closed, usually with try-with-resources, when it is abandoned
+     * before its end.
+     */
+    static <T> Stream<T> stream(IntFunction<Page<T>> fetcher, Executor executor, int firstPage) {
+        BannerPager<T> pager = new BannerPager<>(fetcher, executor, firstPage);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(pager, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pager::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+            Page<T> page = takePage();
+            if (page.hasNext() && !page.content().isEmpty()) {
+                int pageToRead = page.number() + 1;
+                readAhead = CompletableFuture.supplyAsync(() -> fetcher.apply(pageToRead), executor);
+            } else {
+                readAhead = null;
+                exhausted = true;
+            }
+            current = page.content().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        exhausted = true;
+        current = Collections.emptyIterator();
+        if (readAhead != null) {
+            readAhead.cancel(false);
+            readAhead = null;
+        }
+    }
+
+    private Page<T> takePage() {
+        if (!started) {
+            started = true;
+            return fetcher.apply(firstPage);
+        }
+        try {
+            return readAhead.join();
+        } catch (CompletionException e) {
+            exhausted = true;
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache for Banner lists. A fresh entry is returned as is. Past its time to live the entry is still returned, for
+ * up to the maximum staleness, while one background reload per key replaces it; a failed reload keeps serving the
+ * old entry, so a Banner outage only shows once the entry is too old. Only a missing or too old entry makes the
+ * caller wait for Banner.
+ */
+final class StaleWhileRevalidateCache<K, V> {
+    private static final Logger logger = LoggerFactory.getLogger(StaleWhileRevalidateCache.class);
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Set<K> reloading = ConcurrentHashMap.newKeySet();
+    private final String name;
+    private final long timeToLiveMillis;
+    private final long maxStaleMillis;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final Counter staleServed;
+    private final Counter reloadFailures;
+
+    StaleWhileRevalidateCache(String name, long timeToLiveMillis, long maxStaleMillis, Executor executor,
+            MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.maxStaleMillis = maxStaleMillis;
+        this.executor = executor;
+        this.clock = clock;
+        this.staleServed = meterRegistry.counter("banner.cache.stale", "cache", name);
+        this.reloadFailures = meterRegistry.counter("banner.cache.reload.failures", "cache", name);
+    }
+
+    V get(K key, Function<K, V> loader) {
+        Entry<V> entry = entries.get(key);
+        long age = entry == null ? Long.MAX_VALUE : clock.getAsLong() - entry.loadedAt();
+        if (age < timeToLiveMillis) {
+            return entry.value();
+        }
+        if (age - timeToLiveMillis < maxStaleMillis) {
+            reloadInBackground(key, loader);
+            staleServed.increment();
+            return entry.value();
+        }
+        return load(key, loader);
+    }
+
+    void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    private V load(K key, Function<K, V> loader) {
+        V value = loader.apply(key);
+        if (value != null) {
+            entries.put(key, new Entry<>(value, clock.getAsLong()));
+        }
+        return value;
+    }
+
+    private void reloadInBackground(K key, Function<K, V> loader) {
+        if (!reloading.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    reloadFailures.increment();
+                    logger.warn("Could not reload {} from Banner, serving the stale entry: {}", name, e.getMessage());
+                } finally {
+                    reloading.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reloading.remove(key);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker, bulkhead and retry policies for the calls to Banner, with their state published to Micrometer
+ * (resilience4j.circuitbreaker.state, resilience4j.bulkhead.available.concurrent.calls, resilience4j.retry.calls).
+ * Only failures that say something about Banner's health count: connection errors, timeouts, 5xx and 429.
+ */
+@Configuration
+public class BannerResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry bannerCircuitBreakerRegistry(MeterRegistry meterRegistry,
+            @Value("${banner.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${banner.resilience.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${banner.resilience.minimum-calls:10}") int minimumCalls,
+            @Value("${banner.resilience.open-state-ms:30000}") long openStateMillis,
+            @Value("${banner.resilience.half-open-calls:3}") int halfOpenCalls) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(Duration.ofMillis(openStateMillis))
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .recordException(BannerResilienceConfig::isBannerFailure)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bannerBulkheadRegistry(MeterRegistry meterRegistry,
+            @Value("${banner.resilience.max-concurrent-calls:8}") int maxConcurrentCalls,
+            @Value("${banner.resilience.max-wait-ms:500}") long maxWaitMillis) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public RetryRegistry bannerRetryRegistry(MeterRegistry meterRegistry,
+            @Value("${banner.resilience.retry-attempts:3}") int retryAttempts,
+            @Value("${banner.resilience.retry-initial-backoff-ms:200}") long initialBackoffMillis) {
+        RetryRegistry registry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(retryAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(initialBackoffMillis, 2.0, 0.5))
+                .retryOnException(BannerResilienceConfig::isBannerFailure)
+                .build());
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    public static boolean isBannerFailure(Throwable throwable) {
+        return throwable instanceof ResourceAccessException
+                || throwable instanceof HttpServerErrorException
+                || throwable instanceof HttpClientErrorException.TooManyRequests;
+    }
+}
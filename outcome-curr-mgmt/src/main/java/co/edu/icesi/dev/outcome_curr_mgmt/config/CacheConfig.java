@@ -1,21 +1,72 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Caffeine backed cache tier. Every cache is declared in {@code cache.specs.<name>} with a Caffeine spec (for example
+ * {@code maximumSize=1000,expireAfterWrite=10m}); names that are not declared there are rejected instead of silently
+ * creating an unbounded cache. Statistics are always recorded, so Boot's cache metrics publish hits, misses, evictions
+ * and load times per cache.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    static final String SPECS_PREFIX = "cache.specs";
+
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(Arrays.asList("faculty", "programs", "faculties"));
+    public CacheManager cacheManager(Environment environment, ObjectProvider<NamedCacheLoader> loaders) {
+        Map<String, String> specs = Binder.get(environment)
+                .bind(SPECS_PREFIX, Bindable.mapOf(String.class, String.class))
+                .orElse(Collections.emptyMap());
+        return cacheManager(specs, loaders.orderedStream()
+                .collect(Collectors.toMap(NamedCacheLoader::cacheName, Function.identity())));
+    }
+
+    static CaffeineCacheManager cacheManager(Map<String, String> specs, Map<String, NamedCacheLoader> loaders) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(Collections.emptyList());
+        specs.forEach((name, spec) -> cacheManager.registerCustomCache(name, buildCache(name, spec, loaders.get(name))));
         return cacheManager;
     }
+
+    static Cache<Object, Object> buildCache(String name, String spec, NamedCacheLoader loader) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec);
+        if (!hasOption(spec, "recordStats")) {
+            builder.recordStats();
+        }
+        if (hasOption(spec, "maximumWeight")) {
+            builder.weigher((Object key, Object value) -> value instanceof Collection<?> values ? values.size() : 1);
+        }
+        if (hasOption(spec, "refreshAfterWrite")) {
+            if (loader == null) {
+                throw new IllegalStateException("Cache '" + name + "' uses refreshAfterWrite but no loader is registered");
+            }
+            return builder.build(loader);
+        }
+        return builder.build();
+    }
+
+    private static boolean hasOption(String spec, String option) {
+        return Arrays.stream(spec.split(","))
+                .map(String::trim)
+                .anyMatch(entry -> entry.equals(option) || entry.startsWith(option + "="));
+    }
 }
@@ -0,0 +1,94 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.config.ReadWriteRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Splits the database traffic between two Hikari pools once {@code spring.datasource.replica.url} is set: read-only
+ * transactions run on the replica and the rest on the primary. Both pools take the {@code spring.datasource.hikari.*}
+ * settings, the replica overrides them with {@code spring.datasource.replica.hikari.*}, and each pool is named after
+ * its route so the Hikari and {@code jdbc.connections} metrics are reported per route. Without a replica the
+ * auto-configured single pool is used.
+ * <p>
+ * Routing also changes two Hibernate settings. Connections are released when each transaction ends instead of being
+ * held by the session: with open-in-view the session spans the request, and a held connection would keep whichever
+ * route the first transaction of the request took, sending a later write to the replica. The query cache is turned
+ * off, because a query run on a lagging replica after a write would be cached as newer than that write. Entities
+ * still use the second-level cache; a write puts its committed state there and a load never replaces an entry that
+ * is already cached, so a replica load can only fill an entry that was missing (after an eviction, expiry or
+ * delete), and that entry expires after {@code cache.hibernate.expire-after-write-s}. The application caches load
+ * through {@link PrimaryReads}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class DataSourceRoutingConfig {
+
+    @Value("${spring.datasource.hikari.pool-name:outcome-curr}")
+    private String poolName;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        return configurePool(dataSource, environment, "spring.datasource.hikari", Route.PRIMARY);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment,
+            @Value("${spring.datasource.replica.url}") String url,
+            @Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setReadOnly(true);
+        configurePool(dataSource, environment, "spring.datasource.hikari", Route.REPLICA);
+        return configurePool(dataSource, environment, "spring.datasource.replica.hikari", Route.REPLICA);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource,
+                Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer routingHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                    PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+        };
+    }
+
+    private HikariDataSource configurePool(HikariDataSource dataSource, Environment environment, String prefix,
+            Route route) {
+        Binder.get(environment).bind(prefix, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName + "-" + route.name().toLowerCase());
+        return dataSource;
+    }
+}
@@ -0,0 +1,71 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.Collections;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regions of Hibernate's second-level cache, backed by Caffeine through JCache. Every region is declared in
+ * {@code cache.hibernate.regions.<region>} with its maximum number of entries and expires after
+ * {@code cache.hibernate.expire-after-write-s}, except the update timestamps region, which Hibernate needs to keep for
+ * as long as the query results that depend on it. Hit, miss and put counts per region come from Hibernate's
+ * statistics through Boot's Hibernate metrics.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    static final String REGIONS_PREFIX = "cache.hibernate.regions";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // The caching provider hands out one shared manager per class loader, so it is not closed with the context.
+    @Bean(destroyMethod = "")
+    public CacheManager hibernateCacheManager(Environment environment,
+            @Value("${cache.hibernate.expire-after-write-s:3600}") long expireAfterWriteS) {
+        Map<String, Long> regions = Binder.get(environment)
+                .bind(REGIONS_PREFIX, Bindable.mapOf(String.class, Long.class))
+                .orElse(Collections.emptyMap());
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return hibernateCacheManager(cachingProvider.getCacheManager(), regions, expireAfterWriteS);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    static CacheManager hibernateCacheManager(CacheManager cacheManager, Map<String, Long> regions,
+            long expireAfterWriteS) {
+        regions.forEach((region, maximumSize) -> {
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, regionConfiguration(region, maximumSize, expireAfterWriteS));
+            }
+        });
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(String region, long maximumSize,
+            long expireAfterWriteS) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (!UPDATE_TIMESTAMPS_REGION.equals(region)) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(expireAfterWriteS)));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,56 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Outbound HTTP client shared by the Banner and SAAMFI clients. Connections are pooled and kept alive between calls,
+ * with a cap per host so a slow remote cannot take the whole pool, and every call is bounded by a connect and a read
+ * timeout. Responses are requested and decompressed as gzip.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(
+            @Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMillis,
+            @Value("${http.client.read-timeout-ms:10000}") long readTimeoutMillis,
+            @Value("${http.client.max-connections:50}") int maxConnections,
+            @Value("${http.client.max-connections-per-host:10}") int maxConnectionsPerHost,
+            @Value("${http.client.idle-timeout-ms:30000}") long idleTimeoutMillis) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMillis))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate outboundRestTemplate(CloseableHttpClient outboundHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(outboundHttpClient));
+    }
+}
@@ -0,0 +1,12 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+/**
+ * Loader backing a cache declared with {@code refreshAfterWrite}. Caffeine reloads such entries in the background
+ * through this loader, so every refreshing cache needs exactly one bean whose {@link #cacheName()} matches it.
+ */
+public interface NamedCacheLoader extends CacheLoader<Object, Object> {
+
+    String cacheName();
+}
@@ -0,0 +1,66 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the reads that fill an application cache against the primary. A replica can lag behind a write that has
+ * already committed and evicted the cache, and whatever a loader reads there would stay cached after the replica
+ * caught up. With a replica the loader therefore runs in its own read-write transaction, which the
+ * {@link ReadWriteRoutingDataSource} sends to the primary; without one every read already goes to the primary and the
+ * loader runs in the caller's transaction, so it never takes a second connection from the same pool. The
+ * transaction manager is looked up on the first read: the caches are reached from entity listeners, which Hibernate
+ * creates while the entity manager factory the transaction manager needs is still being built.
+ */
+@Component
+public class PrimaryReads {
+
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final boolean replicated;
+    private volatile TransactionTemplate primaryTransaction;
+
+    @Autowired
+    public PrimaryReads(ObjectProvider<PlatformTransactionManager> transactionManager,
+            @Value("${spring.datasource.replica.url:}") String replicaUrl) {
+        this(transactionManager, !replicaUrl.isBlank());
+    }
+
+    private PrimaryReads(ObjectProvider<PlatformTransactionManager> transactionManager, boolean replicated) {
+        this.transactionManager = transactionManager;
+        this.replicated = replicated;
+    }
+
+    /**
+     * Reads in the caller's transaction, as when there is no replica.
+     */
+    public static PrimaryReads inCallerTransaction() {
+        return new PrimaryReads(null, false);
+    }
+
+    /**
+     * Runs the loader on the primary. Exceptions thrown by the loader reach the caller unchanged.
+     */
+    public <T> T read(Supplier<T> loader) {
+        if (!replicated) {
+            return loader.get();
+        }
+        return primaryTransaction().execute(status -> loader.get());
+    }
+
+    private TransactionTemplate primaryTransaction() {
+        TransactionTemplate transactionTemplate = primaryTransaction;
+        if (transactionTemplate == null) {
+            transactionTemplate = new TransactionTemplate(transactionManager.getObject());
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            primaryTransaction = transactionTemplate;
+        }
+        return transactionTemplate;
+    }
+}
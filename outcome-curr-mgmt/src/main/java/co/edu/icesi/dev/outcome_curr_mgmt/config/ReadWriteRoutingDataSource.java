@@ -0,0 +1,21 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends the connections of read-only transactions to the replica and everything else, including work outside a
+ * transaction, to the primary. The read-only flag is only set once the transaction has begun, so this data source
+ * must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
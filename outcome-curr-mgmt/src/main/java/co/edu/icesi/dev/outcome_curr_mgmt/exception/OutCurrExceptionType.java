@@ -103,6 +103,12 @@ public enum OutCurrExceptionType {
     CLOG_INVALID_DATE_FORMAT(4152,"Date in filter for changeLog has invalid format","clogStartDate or clogEndDate",HttpStatus.BAD_REQUEST,
             LogLevel.INFO),
     FACULTY_ALREADY_IMPORTED(4153, "Faculty already imported", Constants.FAC_ID, HttpStatus.CONFLICT, LogLevel.INFO),
+    CLOG_INVALID_CURSOR(4154,"Cursor for changeLog search is not valid","cursor",HttpStatus.BAD_REQUEST,
+            LogLevel.INFO),
+    CLOG_VERSION_NOT_FOUND(4155,"ChangeLog version not found","clogVersion",HttpStatus.NOT_FOUND,
+            LogLevel.INFO),
+    BANNER_UNAVAILABLE(4156, "Banner is not available, try again later", "banner", HttpStatus.SERVICE_UNAVAILABLE,
+            LogLevel.WARN),
     ;
 
     private final int code;
@@ -9,7 +9,7 @@ import org.mapstruct.Mapping;
 @Mapper
 public interface ChangeLogMapper {
 
-    @Mapping(target="user", expression="java(changelog.getUser().getUsrName())")
+    @Mapping(target="user", expression="java(changelog.getUser() == null ? null : changelog.getUser().getUsrName())")
     @Mapping(source="clogTimestamp", target="clogTimestamp", dateFormat = ChangeLogServiceImpl.DATEFORMAT)
     ChangeLogOutDTO fromChangeLog(Changelog changelog);
 }
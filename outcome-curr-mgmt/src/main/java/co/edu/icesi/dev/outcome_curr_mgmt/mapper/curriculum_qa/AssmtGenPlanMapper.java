@@ -1,9 +1,15 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.mapper.curriculum_qa;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.curriculum_qa.AssmtGenPlanInDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanDetailOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtPlanCycleOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtPlanSubcyclevOutDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtGenPlan;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtPlanCycle;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtPlanSubcyclev;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.List;
@@ -16,6 +22,26 @@ public interface AssmtGenPlanMapper {
 
     List<AssmtGenPlanOutDTO> assmtGenPlansToAssmtGenPlanOutDTOs(List<AssmtGenPlan> assmtGenPlan);
 
+    @Mapping(target = "startAcPeriodId", source = "startAcPeriod.acPeriodId")
+    @Mapping(target = "endAcPeriodId", source = "endAcPeriod.acPeriodId")
+    AssmtGenPlanDetailOutDTO assmtGenPlanToAssmtGenPlanDetailOutDTO(AssmtGenPlan assmtGenPlan);
+
+    @Mapping(target = "startAcPeriodId", source = "startAcPeriod.acPeriodId")
+    @Mapping(target = "endAcPeriodId", source = "endAcPeriod.acPeriodId")
+    AssmtPlanCycleOutDTO assmtPlanCycleToAssmtPlanCycleOutDTO(AssmtPlanCycle assmtPlanCycle);
+
+    @Mapping(target = "acPeriodId", source = "acPeriod.acPeriodId")
+    AssmtPlanSubcyclevOutDTO assmtPlanSubcyclevToAssmtPlanSubcyclevOutDTO(AssmtPlanSubcyclev assmtPlanSubcyclev);
+
+    @Mapping(target = "asgplaId", ignore = true)
+    @Mapping(target = "asgplaStatus", ignore = true)
+    @Mapping(target = "acadProgram", ignore = true)
+    @Mapping(target = "startAcPeriod", ignore = true)
+    @Mapping(target = "endAcPeriod", ignore = true)
+    @Mapping(target = "assmtPlanCycles", ignore = true)
+    @Mapping(target = "improvementPlans", ignore = true)
+    @Mapping(target = "studOutcomes", ignore = true)
+    @Mapping(target = "usrAssmtGens", ignore = true)
     void updateAssmtGenPlan(AssmtGenPlanInDTO assmtGenPlanInDTO,
             @MappingTarget AssmtGenPlan assmtGenPlan);
 }
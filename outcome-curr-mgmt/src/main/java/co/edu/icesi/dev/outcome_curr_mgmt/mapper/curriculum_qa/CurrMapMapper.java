@@ -1,6 +1,8 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.mapper.curriculum_qa;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.ValueDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.CurrMapOutDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.CurrMap;
 import org.mapstruct.Mapper;
 
 import java.util.Map;
@@ -8,4 +10,6 @@ import java.util.Map;
 @Mapper(componentModel = "spring")
 public interface CurrMapMapper {
     ValueDTO fromMapElementToValueDTO(Map.Entry<String, String> entry);
+
+    CurrMapOutDTO currMapToCurrMapOutDTO(CurrMap currMap);
 }
@@ -4,6 +4,7 @@ import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.AcadProgramInDT
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.AcadProgramOutDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.List;
@@ -16,6 +17,36 @@ public interface AcadProgramMapper {
 
     AcadProgramOutDTO acadProgramToAcadProgramOutDto(AcadProgram acadProgramOutDTO);
 
+    @Mapping(target = "acpId", ignore = true)
+    @Mapping(target = "externalId", expression = "java(String.valueOf(bannerAcadProgram.acpId()))")
+    @Mapping(target = "startAcPeriod", ignore = true)
+    @Mapping(target = "endAcPeriod", ignore = true)
+    @Mapping(target = "faculty", ignore = true)
+    @Mapping(target = "acadProgCurriculums", ignore = true)
+    @Mapping(target = "acpCourseblocks", ignore = true)
+    @Mapping(target = "assessmentTypes", ignore = true)
+    @Mapping(target = "assmtGenPlans", ignore = true)
+    @Mapping(target = "perfLvls", ignore = true)
+    @Mapping(target = "piLvlCategs", ignore = true)
+    @Mapping(target = "users", ignore = true)
+    @Mapping(target = "usrPrgs", ignore = true)
+    AcadProgram bannerAcadProgramToAcadProgram(AcadProgramOutDTO bannerAcadProgram);
+
+    @Mapping(target = "acpId", ignore = true)
+    @Mapping(target = "externalId", ignore = true)
+    @Mapping(target = "startAcPeriod", ignore = true)
+    @Mapping(target = "endAcPeriod", ignore = true)
+    @Mapping(target = "faculty", ignore = true)
+    @Mapping(target = "acadProgCurriculums", ignore = true)
+    @Mapping(target = "acpCourseblocks", ignore = true)
+    @Mapping(target = "assessmentTypes", ignore = true)
+    @Mapping(target = "assmtGenPlans", ignore = true)
+    @Mapping(target = "perfLvls", ignore = true)
+    @Mapping(target = "piLvlCategs", ignore = true)
+    @Mapping(target = "users", ignore = true)
+    @Mapping(target = "usrPrgs", ignore = true)
+    void updateAcadProgramFromBanner(AcadProgramOutDTO bannerAcadProgram, @MappingTarget AcadProgram acadProgram);
+
     List<AcadProgramOutDTO> acadProgramsToAcadProgramOutDtos(List<AcadProgram> acadProgramOutDTO);
 
 }
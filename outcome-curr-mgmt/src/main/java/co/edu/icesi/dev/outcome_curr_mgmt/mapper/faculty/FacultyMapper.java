@@ -5,6 +5,7 @@ import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.FacultyOutDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -17,6 +18,11 @@ public interface FacultyMapper {
 
     FacultyOutDTO facultyToFacultyOutDTO(Faculty faculty);
 
+    // Shape of a faculty in the changelog: its programs are audited as records of their own
+    @Named("facultyToFacultyChangeDTO")
+    @Mapping(target = "acadPrograms", ignore = true)
+    FacultyOutDTO facultyToFacultyChangeDTO(Faculty faculty);
+
     List<FacultyOutDTO> facultiesToFacultiesOutDTO(List<Faculty> all);
 
     @Mapping(target = "facIsActive", expression = "java(facultyInDTO.isActive().charAt(0))")
@@ -7,12 +7,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.NamedQuery;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.Length;
 
 import java.io.Serializable;
 import java.sql.Timestamp;
@@ -21,12 +24,18 @@ import java.sql.Timestamp;
 @DataModelerGenerated
 @Builder
 @AllArgsConstructor
+@Table(name = "CHANGELOG", indexes = {
+        @Index(name = "CHANGELOG_TIMESTAMP_IDX", columnList = "CLOG_TIMESTAMP, CLOG_ID"),
+        @Index(name = "CHANGELOG_TABLE_TIMESTAMP_IDX", columnList = "CLOG_AFFECTED_TABLE, CLOG_TIMESTAMP, CLOG_ID"),
+        @Index(name = "CHANGELOG_USER_TIMESTAMP_IDX", columnList = "USR_USR_ID, CLOG_TIMESTAMP, CLOG_ID"),
+        @Index(name = "CHANGELOG_RECORD_VERSION_IDX",
+                columnList = "CLOG_AFFECTED_TABLE, CLOG_AFFECTED_RECORD_ID, CLOG_VERSION", unique = true)})
 @NamedQuery(name = "Changelog.findAll", query = "SELECT c FROM Changelog c")
 public class Changelog implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "CHANGELOG_CLOGID_GENERATOR", allocationSize = 1, sequenceName = "CHANGELOG_SEQ")
+    @SequenceGenerator(name = "CHANGELOG_CLOGID_GENERATOR", allocationSize = 50, sequenceName = "CHANGELOG_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CHANGELOG_CLOGID_GENERATOR")
     @Column(name = "CLOG_ID")
     private long clogId;
@@ -40,12 +49,25 @@ public class Changelog implements Serializable {
     @Column(name="CLOG_AFFECTED_TABLE")
     private String clogAffectedTable;
 
+    //Full values of changes written before diffs were stored; null on newer rows
     @Column(name="CLOG_LOG_NEW_VAL", length = 1000)
     private String clogLogNewVal;
 
     @Column(name="CLOG_LOG_OLD_VAL", length = 1000)
     private String clogLogOldVal;
 
+    //Version of the affected record after this change, starting at 1
+    @Column(name="CLOG_VERSION")
+    private Integer clogVersion;
+
+    //JSON Patch from the previous version of the record to this one
+    @Column(name="CLOG_PATCH", length = Length.LONG)
+    private String clogPatch;
+
+    //Gzipped JSON of the record after this change, kept every few versions to rebuild the history from
+    @Column(name="CLOG_SNAPSHOT", length = Length.LONG)
+    private byte[] clogSnapshot;
+
     @Column(name="CLOG_TIMESTAMP")
     private Timestamp clogTimestamp;
 
@@ -105,6 +127,30 @@ public class Changelog implements Serializable {
         this.clogLogOldVal = clogLogOldVal;
     }
 
+    public Integer getClogVersion() {
+        return this.clogVersion;
+    }
+
+    public void setClogVersion(Integer clogVersion) {
+        this.clogVersion = clogVersion;
+    }
+
+    public String getClogPatch() {
+        return this.clogPatch;
+    }
+
+    public void setClogPatch(String clogPatch) {
+        this.clogPatch = clogPatch;
+    }
+
+    public byte[] getClogSnapshot() {
+        return this.clogSnapshot;
+    }
+
+    public void setClogSnapshot(byte[] clogSnapshot) {
+        this.clogSnapshot = clogSnapshot;
+    }
+
     public Timestamp getClogTimestamp() {
         return this.clogTimestamp;
     }
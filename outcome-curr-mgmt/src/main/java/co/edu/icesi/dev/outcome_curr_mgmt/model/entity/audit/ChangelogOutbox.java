@@ -0,0 +1,90 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.hibernate.Length;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * A change captured inside the transaction that made it and not yet copied to {@link Changelog}. Rows are written
+ * with the business transaction, together with the serialized new and old values, so they survive a restart until
+ * the changelog writer moves them.
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@Table(name = "CHANGELOG_OUTBOX")
+public class ChangelogOutbox implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @SequenceGenerator(name = "CHANGELOG_OUTBOX_COUTID_GENERATOR", allocationSize = 50, sequenceName = "CHANGELOG_OUTBOX_SEQ")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CHANGELOG_OUTBOX_COUTID_GENERATOR")
+    @Column(name = "COUT_ID")
+    private long coutId;
+
+    @Column(name = "CLOG_ACTION")
+    private String clogAction;
+
+    @Column(name = "CLOG_AFFECTED_RECORD_ID")
+    private String clogAffectedRecordId;
+
+    @Column(name = "CLOG_AFFECTED_TABLE")
+    private String clogAffectedTable;
+
+    @Column(name = "CLOG_LOG_NEW_VAL", length = Length.LONG)
+    private String clogLogNewVal;
+
+    @Column(name = "CLOG_LOG_OLD_VAL", length = Length.LONG)
+    private String clogLogOldVal;
+
+    @Column(name = "CLOG_TIMESTAMP")
+    private Timestamp clogTimestamp;
+
+    @Column(name = "USR_NAME")
+    private String usrName;
+
+    public ChangelogOutbox() {
+    }
+
+    public long getCoutId() {
+        return this.coutId;
+    }
+
+    public String getClogAction() {
+        return this.clogAction;
+    }
+
+    public String getClogAffectedRecordId() {
+        return this.clogAffectedRecordId;
+    }
+
+    public String getClogAffectedTable() {
+        return this.clogAffectedTable;
+    }
+
+    public String getClogLogNewVal() {
+        return this.clogLogNewVal;
+    }
+
+    public String getClogLogOldVal() {
+        return this.clogLogOldVal;
+    }
+
+    public Timestamp getClogTimestamp() {
+        return this.clogTimestamp;
+    }
+
+    public String getUsrName() {
+        return this.usrName;
+    }
+}
@@ -0,0 +1,102 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.model.entity.banner;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * Outcome of one synchronization run with Banner.
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@Table(name = "BANNER_SYNC_REPORT")
+public class BannerSyncReport implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @SequenceGenerator(name = "BANNER_SYNC_REPORT_BSRID_GENERATOR", allocationSize = 50, sequenceName = "BANNER_SYNC_REPORT_SEQ")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "BANNER_SYNC_REPORT_BSRID_GENERATOR")
+    @Column(name = "BSR_ID")
+    private long bsrId;
+
+    @Column(name = "BSR_STARTED_AT")
+    private Timestamp bsrStartedAt;
+
+    @Column(name = "BSR_FINISHED_AT")
+    private Timestamp bsrFinishedAt;
+
+    @Column(name = "BSR_STATUS")
+    private String bsrStatus;
+
+    @Column(name = "BSR_PAGES_FETCHED")
+    private int bsrPagesFetched;
+
+    @Column(name = "BSR_PAGES_NOT_MODIFIED")
+    private int bsrPagesNotModified;
+
+    @Column(name = "BSR_CREATED")
+    private int bsrCreated;
+
+    @Column(name = "BSR_UPDATED")
+    private int bsrUpdated;
+
+    @Column(name = "BSR_DEACTIVATED")
+    private int bsrDeactivated;
+
+    @Column(name = "BSR_MESSAGE", length = 1000)
+    private String bsrMessage;
+
+    public BannerSyncReport() {
+        //Entity constructor
+    }
+
+    public long getBsrId() {
+        return this.bsrId;
+    }
+
+    public Timestamp getBsrStartedAt() {
+        return this.bsrStartedAt;
+    }
+
+    public Timestamp getBsrFinishedAt() {
+        return this.bsrFinishedAt;
+    }
+
+    public String getBsrStatus() {
+        return this.bsrStatus;
+    }
+
+    public int getBsrPagesFetched() {
+        return this.bsrPagesFetched;
+    }
+
+    public int getBsrPagesNotModified() {
+        return this.bsrPagesNotModified;
+    }
+
+    public int getBsrCreated() {
+        return this.bsrCreated;
+    }
+
+    public int getBsrUpdated() {
+        return this.bsrUpdated;
+    }
+
+    public int getBsrDeactivated() {
+        return this.bsrDeactivated;
+    }
+
+    public String getBsrMessage() {
+        return this.bsrMessage;
+    }
+}
@@ -0,0 +1,133 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.model.entity.banner;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.hibernate.Length;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * What was last seen on one page of a Banner resource: the validators to send on the next conditional request,
+ * the hash of its content and the external ids it listed, which stand in for the page when Banner answers that it
+ * did not change.
+ */
+@Entity
+@Builder
+@AllArgsConstructor
+@Table(name = "BANNER_SYNC_STATE", indexes = {
+        @Index(name = "BANNER_SYNC_STATE_RESOURCE_IDX", columnList = "BSS_RESOURCE, BSS_PAGE", unique = true)})
+public class BannerSyncState implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @SequenceGenerator(name = "BANNER_SYNC_STATE_BSSID_GENERATOR", allocationSize = 50, sequenceName = "BANNER_SYNC_STATE_SEQ")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "BANNER_SYNC_STATE_BSSID_GENERATOR")
+    @Column(name = "BSS_ID")
+    private long bssId;
+
+    @Column(name = "BSS_RESOURCE")
+    private String bssResource;
+
+    @Column(name = "BSS_PAGE")
+    private int bssPage;
+
+    @Column(name = "BSS_LAST_PAGE")
+    private int bssLastPage;
+
+    @Column(name = "BSS_ETAG")
+    private String bssETag;
+
+    @Column(name = "BSS_LAST_MODIFIED")
+    private String bssLastModified;
+
+    @Column(name = "BSS_CONTENT_HASH")
+    private String bssContentHash;
+
+    //Comma separated external ids listed on the page
+    @Column(name = "BSS_EXTERNAL_IDS", length = Length.LONG)
+    private String bssExternalIds;
+
+    @Column(name = "BSS_SYNCED_AT")
+    private Timestamp bssSyncedAt;
+
+    public BannerSyncState() {
+        //Entity constructor
+    }
+
+    public long getBssId() {
+        return this.bssId;
+    }
+
+    public String getBssResource() {
+        return this.bssResource;
+    }
+
+    public void setBssResource(String bssResource) {
+        this.bssResource = bssResource;
+    }
+
+    public int getBssPage() {
+        return this.bssPage;
+    }
+
+    public void setBssPage(int bssPage) {
+        this.bssPage = bssPage;
+    }
+
+    public int getBssLastPage() {
+        return this.bssLastPage;
+    }
+
+    public void setBssLastPage(int bssLastPage) {
+        this.bssLastPage = bssLastPage;
+    }
+
+    public String getBssETag() {
+        return this.bssETag;
+    }
+
+    public void setBssETag(String bssETag) {
+        this.bssETag = bssETag;
+    }
+
+    public String getBssLastModified() {
+        return this.bssLastModified;
+    }
+
+    public void setBssLastModified(String bssLastModified) {
+        this.bssLastModified = bssLastModified;
+    }
+
+    public String getBssContentHash() {
+        return this.bssContentHash;
+    }
+
+    public void setBssContentHash(String bssContentHash) {
+        this.bssContentHash = bssContentHash;
+    }
+
+    public String getBssExternalIds() {
+        return this.bssExternalIds;
+    }
+
+    public void setBssExternalIds(String bssExternalIds) {
+        this.bssExternalIds = bssExternalIds;
+    }
+
+    public Timestamp getBssSyncedAt() {
+        return this.bssSyncedAt;
+    }
+
+    public void setBssSyncedAt(Timestamp bssSyncedAt) {
+        this.bssSyncedAt = bssSyncedAt;
+    }
+}
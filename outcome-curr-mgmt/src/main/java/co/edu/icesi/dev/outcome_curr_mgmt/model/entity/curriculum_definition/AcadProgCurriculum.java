@@ -33,7 +33,7 @@ public class AcadProgCurriculum implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "ACAD_PROG_CURRICULUM_APCID_GENERATOR", allocationSize = 1, sequenceName = "ACAD_PROG_CURRICULUM_SEQ")
+    @SequenceGenerator(name = "ACAD_PROG_CURRICULUM_APCID_GENERATOR", allocationSize = 50, sequenceName = "ACAD_PROG_CURRICULUM_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ACAD_PROG_CURRICULUM_APCID_GENERATOR")
     @Column(name = "APC_ID")
     private long apcId;
@@ -35,7 +35,7 @@ public class Course extends Cell implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "COURSE_COURSEID_GENERATOR", allocationSize = 1, sequenceName = "COURSE_SEQ")
+    @SequenceGenerator(name = "COURSE_COURSEID_GENERATOR", allocationSize = 50, sequenceName = "COURSE_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "COURSE_COURSEID_GENERATOR")
     @Column(name = "COURSE_ID")
     private long courseId;
@@ -34,7 +34,7 @@ public class CourseBlock implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "COURSE_BLOCK_BLOCKID_GENERATOR", allocationSize = 1, sequenceName = "COURSE_BLOCK_SEQ")
+    @SequenceGenerator(name = "COURSE_BLOCK_BLOCKID_GENERATOR", allocationSize = 50, sequenceName = "COURSE_BLOCK_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "COURSE_BLOCK_BLOCKID_GENERATOR")
     @Column(name = "BLOCK_ID")
     private long blockId;
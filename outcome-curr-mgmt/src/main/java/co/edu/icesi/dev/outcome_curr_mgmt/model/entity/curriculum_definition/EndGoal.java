@@ -31,7 +31,7 @@ public class EndGoal implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "END_GOAL_EGID_GENERATOR", allocationSize = 1, sequenceName = "END_GOAL_SEQ")
+    @SequenceGenerator(name = "END_GOAL_EGID_GENERATOR", allocationSize = 50, sequenceName = "END_GOAL_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "END_GOAL_EGID_GENERATOR")
     @Column(name = "EG_ID")
     private long egId;
@@ -31,7 +31,7 @@ public class OfferedCourse implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "OFFERED_COURSE_OFCID_GENERATOR", allocationSize = 1, sequenceName = "OFFERED_COURSE_SEQ")
+    @SequenceGenerator(name = "OFFERED_COURSE_OFCID_GENERATOR", allocationSize = 50, sequenceName = "OFFERED_COURSE_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "OFFERED_COURSE_OFCID_GENERATOR")
     @Column(name = "OFC_ID")
     private long ofcId;
@@ -27,7 +27,7 @@ public class RubricCellFilled implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "RUBRIC_CELL_FILLED_RCFID_GENERATOR", allocationSize = 1, sequenceName = "RUBRIC_CELL_FILLED_SEQ")
+    @SequenceGenerator(name = "RUBRIC_CELL_FILLED_RCFID_GENERATOR", allocationSize = 50, sequenceName = "RUBRIC_CELL_FILLED_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "RUBRIC_CELL_FILLED_RCFID_GENERATOR")
     @Column(name = "RCF_ID")
     private long rcfId;
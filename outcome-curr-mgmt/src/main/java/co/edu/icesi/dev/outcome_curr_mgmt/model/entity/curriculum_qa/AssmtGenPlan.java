@@ -6,7 +6,6 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.AcPeriod;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.UsrAssmtGen;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -14,6 +13,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.NamedQuery;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -21,6 +21,7 @@ import lombok.Builder;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @DataModelerGenerated
@@ -32,7 +33,7 @@ public class AssmtGenPlan implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "ASSMT_GEN_PLAN_ASGPLAID_GENERATOR", allocationSize = 1, sequenceName = "ASSMT_GEN_PLAN_SEQ")
+    @SequenceGenerator(name = "ASSMT_GEN_PLAN_ASGPLAID_GENERATOR", allocationSize = 50, sequenceName = "ASSMT_GEN_PLAN_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ASSMT_GEN_PLAN_ASGPLAID_GENERATOR")
     @Column(name = "ASGPLA_ID")
     private long asgplaId;
@@ -56,8 +57,9 @@ public class AssmtGenPlan implements Serializable {
     private AcPeriod endAcPeriod;
 
     //bi-directional many-to-one association to AssmtPlanCycle
-    @OneToMany(mappedBy = "assmtGenPlan", fetch = FetchType.EAGER)
-    private List<AssmtPlanCycle> assmtPlanCycles;
+    @OneToMany(mappedBy = "assmtGenPlan")
+    @OrderBy("asgplacycleId")
+    private Set<AssmtPlanCycle> assmtPlanCycles;
 
     //bi-directional many-to-one association to ImprovementPlan
     @OneToMany(mappedBy = "assmtGenPlan")
@@ -115,11 +117,11 @@ public class AssmtGenPlan implements Serializable {
         this.endAcPeriod = acPeriod2;
     }
 
-    public List<AssmtPlanCycle> getAssmtPlanCycles() {
+    public Set<AssmtPlanCycle> getAssmtPlanCycles() {
         return this.assmtPlanCycles;
     }
 
-    public void setAssmtPlanCycles(List<AssmtPlanCycle> assmtPlanCycles) {
+    public void setAssmtPlanCycles(Set<AssmtPlanCycle> assmtPlanCycles) {
         this.assmtPlanCycles = assmtPlanCycles;
     }
 
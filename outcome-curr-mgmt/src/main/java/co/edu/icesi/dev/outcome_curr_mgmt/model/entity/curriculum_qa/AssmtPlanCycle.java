@@ -4,7 +4,6 @@ import co.edu.icesi.dev.outcome_curr_mgmt.config.DataModelerGenerated;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.AcPeriod;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -12,13 +11,14 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.NamedQuery;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 
 import java.io.Serializable;
-import java.util.List;
+import java.util.Set;
 
 @Entity
 @DataModelerGenerated
@@ -30,7 +30,7 @@ public class AssmtPlanCycle implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "ASSMT_PLAN_CYCLE_ASGPLACYCLEID_GENERATOR", allocationSize = 1, sequenceName = "ASSMT_PLAN_CYCLE_SEQ")
+    @SequenceGenerator(name = "ASSMT_PLAN_CYCLE_ASGPLACYCLEID_GENERATOR", allocationSize = 50, sequenceName = "ASSMT_PLAN_CYCLE_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ASSMT_PLAN_CYCLE_ASGPLACYCLEID_GENERATOR")
     @Column(name = "ASGPLACYCLE_ID")
     private long asgplacycleId;
@@ -51,8 +51,9 @@ public class AssmtPlanCycle implements Serializable {
     private AssmtGenPlan assmtGenPlan;
 
     //bi-directional many-to-one association to AssmtPlanSubcyclev
-    @OneToMany(mappedBy = "assmtPlanCycle", fetch = FetchType.EAGER)
-    private List<AssmtPlanSubcyclev> assmtPlanSubcyclevs;
+    @OneToMany(mappedBy = "assmtPlanCycle")
+    @OrderBy("asgplasubcycleId")
+    private Set<AssmtPlanSubcyclev> assmtPlanSubcyclevs;
 
     public AssmtPlanCycle() {
         //Entity constructor
@@ -90,11 +91,11 @@ public class AssmtPlanCycle implements Serializable {
         this.assmtGenPlan = assmtGenPlan;
     }
 
-    public List<AssmtPlanSubcyclev> getAssmtPlanSubcyclevs() {
+    public Set<AssmtPlanSubcyclev> getAssmtPlanSubcyclevs() {
         return this.assmtPlanSubcyclevs;
     }
 
-    public void setAssmtPlanSubcyclevs(List<AssmtPlanSubcyclev> assmtPlanSubcyclevs) {
+    public void setAssmtPlanSubcyclevs(Set<AssmtPlanSubcyclev> assmtPlanSubcyclevs) {
         this.assmtPlanSubcyclevs = assmtPlanSubcyclevs;
     }
 
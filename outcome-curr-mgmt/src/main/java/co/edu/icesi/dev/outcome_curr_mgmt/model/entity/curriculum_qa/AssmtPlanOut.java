@@ -32,7 +32,7 @@ public class AssmtPlanOut implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "ASSMT_PLAN_OUT_ASPNOUTID_GENERATOR", allocationSize = 1, sequenceName = "ASSMT_PLAN_OUT_SEQ")
+    @SequenceGenerator(name = "ASSMT_PLAN_OUT_ASPNOUTID_GENERATOR", allocationSize = 50, sequenceName = "ASSMT_PLAN_OUT_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ASSMT_PLAN_OUT_ASPNOUTID_GENERATOR")
     @Column(name = "ASPNOUT_ID")
     private long aspnoutId;
@@ -27,7 +27,7 @@ public class AssmtPlanPi implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "ASSMT_PLAN_PI_ASPNPIID_GENERATOR", allocationSize = 1, sequenceName = "ASSMT_PLAN_PI_SEQ")
+    @SequenceGenerator(name = "ASSMT_PLAN_PI_ASPNPIID_GENERATOR", allocationSize = 50, sequenceName = "ASSMT_PLAN_PI_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ASSMT_PLAN_PI_ASPNPIID_GENERATOR")
     @Column(name = "ASPNPI_ID")
     private long aspnpiId;
@@ -29,7 +29,7 @@ public class AssmtPlanSubcyclev implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "ASSMT_PLAN_SUBCYCLEV_ASGPLASUBCYCLEID_GENERATOR", allocationSize = 1, sequenceName = "ASSMT_PLAN_SUBCYCLEV_SEQ")
+    @SequenceGenerator(name = "ASSMT_PLAN_SUBCYCLEV_ASGPLASUBCYCLEID_GENERATOR", allocationSize = 50, sequenceName = "ASSMT_PLAN_SUBCYCLEV_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ASSMT_PLAN_SUBCYCLEV_ASGPLASUBCYCLEID_GENERATOR")
     @Column(name = "ASGPLASUBCYCLE_ID")
     private long asgplasubcycleId;
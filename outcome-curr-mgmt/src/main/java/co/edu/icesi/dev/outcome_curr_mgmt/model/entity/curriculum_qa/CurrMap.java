@@ -34,7 +34,7 @@ public class CurrMap extends Cell implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "CURR_MAP_CMID_GENERATOR", allocationSize = 1, sequenceName = "CURR_MAP_SEQ")
+    @SequenceGenerator(name = "CURR_MAP_CMID_GENERATOR", allocationSize = 50, sequenceName = "CURR_MAP_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CURR_MAP_CMID_GENERATOR")
     @Column(name = "CM_ID")
     private long cmId;
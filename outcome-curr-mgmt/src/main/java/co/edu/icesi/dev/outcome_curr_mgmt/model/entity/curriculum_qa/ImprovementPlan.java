@@ -29,7 +29,7 @@ public class ImprovementPlan implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "IMPROVEMENT_PLAN_IMPID_GENERATOR", allocationSize = 1, sequenceName = "IMPROVEMENT_PLAN_SEQ")
+    @SequenceGenerator(name = "IMPROVEMENT_PLAN_IMPID_GENERATOR", allocationSize = 50, sequenceName = "IMPROVEMENT_PLAN_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "IMPROVEMENT_PLAN_IMPID_GENERATOR")
     @Column(name = "IMP_ID")
     private long impId;
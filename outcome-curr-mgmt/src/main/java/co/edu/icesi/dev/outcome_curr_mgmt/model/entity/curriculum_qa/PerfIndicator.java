@@ -32,7 +32,7 @@ public class PerfIndicator extends Cell implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "PERF_INDICATOR_PIID_GENERATOR", allocationSize = 1, sequenceName = "PERF_INDICATOR_SEQ")
+    @SequenceGenerator(name = "PERF_INDICATOR_PIID_GENERATOR", allocationSize = 50, sequenceName = "PERF_INDICATOR_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "PERF_INDICATOR_PIID_GENERATOR")
     @Column(name = "PI_ID")
     private long piId;
@@ -33,7 +33,7 @@ public class StudOutcome implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "STUD_OUTCOME_SOID_GENERATOR", allocationSize = 1, sequenceName = "STUD_OUTCOME_SEQ")
+    @SequenceGenerator(name = "STUD_OUTCOME_SOID_GENERATOR", allocationSize = 50, sequenceName = "STUD_OUTCOME_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "STUD_OUTCOME_SOID_GENERATOR")
     @Column(name = "SO_ID")
     private long soId;
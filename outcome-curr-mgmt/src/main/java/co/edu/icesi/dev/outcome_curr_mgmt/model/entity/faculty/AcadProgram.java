@@ -7,11 +7,15 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtGenPla
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.AcPeriod;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.User;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.UsrPrg;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataInvalidationListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
@@ -21,6 +25,8 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.List;
@@ -29,13 +35,17 @@ import java.util.List;
 @DataModelerGenerated
 @Builder
 @AllArgsConstructor
-@Table(name = "ACAD_PROGRAM")
+@Table(name = "ACAD_PROGRAM", indexes = {
+        @Index(name = "ACAD_PROGRAM_EXTERNAL_ID_IDX", columnList = "EXTERNAL_ID", unique = true)})
+@EntityListeners(ReferenceDataInvalidationListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "acad-program")
 @NamedQuery(name = "AcadProgram.findAll", query = "SELECT a FROM AcadProgram a")
 public class AcadProgram implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "ACAD_PROGRAM_ACPID_GENERATOR", allocationSize = 1, sequenceName = "ACAD_PROGRAM_SEQ")
+    @SequenceGenerator(name = "ACAD_PROGRAM_ACPID_GENERATOR", allocationSize = 50, sequenceName = "ACAD_PROGRAM_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ACAD_PROGRAM_ACPID_GENERATOR")
     @Column(name = "ACP_ID")
     private long acpId;
@@ -58,6 +68,9 @@ public class AcadProgram implements Serializable {
     @Column(name = "ACP_SNIES")
     private String acpSnies;
 
+    @Column(name = "EXTERNAL_ID")
+    private String externalId;
+
     //bi-directional many-to-one association to AcPeriod
     @ManyToOne
     @JoinColumn(name = "END_AC_PERIOD_ID")
@@ -165,6 +178,14 @@ public class AcadProgram implements Serializable {
         this.acpSnies = acpSnies;
     }
 
+    public String getExternalId() {
+        return this.externalId;
+    }
+
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
     public AcPeriod getEndAcPeriod() {
         return this.endAcPeriod;
     }
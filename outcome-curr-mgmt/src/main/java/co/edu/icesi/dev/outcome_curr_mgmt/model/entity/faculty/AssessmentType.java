@@ -2,6 +2,7 @@ package co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.config.DataModelerGenerated;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.CurrMap;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -15,6 +16,8 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.List;
@@ -24,12 +27,14 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @Table(name = "ASSESSMENT_TYPE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "assessment-type")
 @NamedQuery(name = "AssessmentType.findAll", query = "SELECT a FROM AssessmentType a")
 public class AssessmentType implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "ASSESSMENT_TYPE_ATID_GENERATOR", allocationSize = 1, sequenceName = "ASSESSMENT_TYPE_SEQ")
+    @SequenceGenerator(name = "ASSESSMENT_TYPE_ATID_GENERATOR", allocationSize = 50, sequenceName = "ASSESSMENT_TYPE_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ASSESSMENT_TYPE_ATID_GENERATOR")
     @Column(name = "AT_ID")
     private long atId;
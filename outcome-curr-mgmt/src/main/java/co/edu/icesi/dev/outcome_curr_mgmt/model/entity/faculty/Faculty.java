@@ -4,18 +4,25 @@ import co.edu.icesi.dev.outcome_curr_mgmt.config.DataModelerGenerated;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_definition.Course;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.User;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.UsrFac;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataInvalidationListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.NamedQuery;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.List;
@@ -24,12 +31,16 @@ import java.util.List;
 @DataModelerGenerated
 @Builder
 @AllArgsConstructor
+@Table(indexes = {@Index(name = "FACULTY_EXTERNAL_ID_IDX", columnList = "EXTERNAL_ID", unique = true)})
+@EntityListeners(ReferenceDataInvalidationListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "faculty")
 @NamedQuery(name = "Faculty.findAll", query = "SELECT f FROM Faculty f")
 public class Faculty implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "FACULTY_FACID_GENERATOR", allocationSize = 1, sequenceName = "FACULTY_SEQ")
+    @SequenceGenerator(name = "FACULTY_FACID_GENERATOR", allocationSize = 50, sequenceName = "FACULTY_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "FACULTY_FACID_GENERATOR")
     @Column(name = "FAC_ID")
     private long facId;
@@ -98,6 +109,14 @@ public class Faculty implements Serializable {
         this.facNameSpa = facNameSpa;
     }
 
+    public String getExternalId() {
+        return this.externalId;
+    }
+
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
     public List<AcadProgram> getAcadPrograms() {
         return this.acadPrograms;
     }
@@ -2,6 +2,7 @@ package co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.config.DataModelerGenerated;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.rubric.RubricCell;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -15,6 +16,8 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.List;
@@ -24,12 +27,14 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @Table(name = "PERF_LVL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "perf-lvl")
 @NamedQuery(name = "PerfLvl.findAll", query = "SELECT p FROM PerfLvl p")
 public class PerfLvl implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "PERF_LVL_PLID_GENERATOR", allocationSize = 1, sequenceName = "PERF_LVL_SEQ")
+    @SequenceGenerator(name = "PERF_LVL_PLID_GENERATOR", allocationSize = 50, sequenceName = "PERF_LVL_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "PERF_LVL_PLID_GENERATOR")
     @Column(name = "PL_ID")
     private long plId;
@@ -3,6 +3,7 @@ package co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty;
 import co.edu.icesi.dev.outcome_curr_mgmt.config.DataModelerGenerated;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_definition.Course;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.Cell;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,6 +14,8 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.List;
@@ -21,12 +24,14 @@ import java.util.List;
 @DataModelerGenerated
 @Builder
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "semester")
 @NamedQuery(name = "Semester.findAll", query = "SELECT s FROM Semester s")
 public class Semester extends Cell implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "SEMESTER_SEMID_GENERATOR", allocationSize = 1, sequenceName = "SEMESTER_SEQ")
+    @SequenceGenerator(name = "SEMESTER_SEMID_GENERATOR", allocationSize = 50, sequenceName = "SEMESTER_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEMESTER_SEMID_GENERATOR")
     @Column(name = "SEM_ID")
     private long semId;
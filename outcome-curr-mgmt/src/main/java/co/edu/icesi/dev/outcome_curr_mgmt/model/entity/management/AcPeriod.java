@@ -11,8 +11,11 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtPlanOu
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtPlanSubcyclev;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.rubric.RubricCell;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataInvalidationListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -22,6 +25,8 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.List;
@@ -31,12 +36,15 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @Table(name = "AC_PERIOD")
+@EntityListeners(ReferenceDataInvalidationListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ac-period")
 @NamedQuery(name = "AcPeriod.findAll", query = "SELECT a FROM AcPeriod a")
 public class AcPeriod implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "AC_PERIOD_ACPERIODID_GENERATOR", allocationSize = 1, sequenceName = "AC_PERIOD_SEQ")
+    @SequenceGenerator(name = "AC_PERIOD_ACPERIODID_GENERATOR", allocationSize = 50, sequenceName = "AC_PERIOD_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "AC_PERIOD_ACPERIODID_GENERATOR")
     @Column(name = "AC_PERIOD_ID")
     private long acPeriodId;
@@ -37,7 +37,7 @@ public class User implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "USERS_USRID_GENERATOR", allocationSize = 1, sequenceName = "USERS_SEQ")
+    @SequenceGenerator(name = "USERS_USRID_GENERATOR", allocationSize = 50, sequenceName = "USERS_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "USERS_USRID_GENERATOR")
     @Column(name = "USR_ID")
     private long usrId;
@@ -27,7 +27,7 @@ public class Factor implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "FACTOR_FACTORID_GENERATOR", allocationSize = 1, sequenceName = "FACTOR_SEQ")
+    @SequenceGenerator(name = "FACTOR_FACTORID_GENERATOR", allocationSize = 50, sequenceName = "FACTOR_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "FACTOR_FACTORID_GENERATOR")
     @Column(name = "FACTOR_ID")
     private long factorId;
@@ -31,7 +31,7 @@ public class RubricCell implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @SequenceGenerator(name = "RUBRIC_CELL_RCID_GENERATOR", allocationSize = 1, sequenceName = "RUBRIC_CELL_SEQ")
+    @SequenceGenerator(name = "RUBRIC_CELL_RCID_GENERATOR", allocationSize = 50, sequenceName = "RUBRIC_CELL_SEQ")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "RUBRIC_CELL_RCID_GENERATOR")
     @Column(name = "RC_ID")
     private long rcId;
@@ -0,0 +1,7 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.model.projection.audit;
+
+/**
+ * Latest changelog version written for one audited record.
+ */
+public record ChangeLogVersionProjection(String clogAffectedTable, String clogAffectedRecordId, Integer clogVersion) {
+}
@@ -0,0 +1,25 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Columns of a {@code CurrMap} needed to fill one cell of the curriculum map matrix, read without loading the
+ * entity and its eager associations.
+ */
+public record CurrMapCellProjection(long cmId, long piId, long courseId, String piLvlCategNameEng,
+        String assessmentTypeNameEng) {
+
+    /**
+     * Same values that {@code CurrMap.initializeCellValues} puts in the cell.
+     */
+    public Map<String, String> getValues() {
+        Map<String, String> values = new HashMap<>();
+        values.put("currMapId", String.valueOf(cmId));
+        values.put("piLvlCategory", piLvlCategNameEng);
+        if (assessmentTypeNameEng != null) {
+            values.put("assessmentType", assessmentTypeNameEng);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,7 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa;
+
+/**
+ * Performance indicator that heads one column of an exported curriculum map.
+ */
+public record CurrMapExportColumnProjection(long piId, String piLongNameEng) {
+}
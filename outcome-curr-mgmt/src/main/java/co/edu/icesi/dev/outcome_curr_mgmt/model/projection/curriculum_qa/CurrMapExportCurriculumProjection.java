@@ -0,0 +1,8 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa;
+
+/**
+ * Curriculum of a faculty included in a curriculum map archive.
+ */
+public record CurrMapExportCurriculumProjection(long acadProgId, long acadProgCurrId, String acpProgNameEng,
+        String apcNameEng) {
+}
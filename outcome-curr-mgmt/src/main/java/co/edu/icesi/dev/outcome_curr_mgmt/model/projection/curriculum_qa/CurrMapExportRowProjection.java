@@ -0,0 +1,9 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa;
+
+/**
+ * One course of a curriculum joined with one of its CurrMaps, or with none when the course has no CurrMap. Rows of a
+ * course arrive together, ordered by semester and course, so an export can write each course as soon as it ends.
+ */
+public record CurrMapExportRowProjection(String semName, long courseId, String courseNameEng, Long piId,
+        String piLvlCategNameEng, String assessmentTypeNameEng) {
+}
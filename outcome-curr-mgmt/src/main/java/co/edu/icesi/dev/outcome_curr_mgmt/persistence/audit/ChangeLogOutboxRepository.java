@@ -0,0 +1,25 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.ChangelogOutbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The writer's reads lock the rows they return, so a row is moved to the changelog by one writer only: another
+ * writer, in this or another instance, waits for the lock and no longer finds the row once it has been deleted.
+ */
+@Repository
+public interface ChangeLogOutboxRepository extends JpaRepository<ChangelogOutbox, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ChangelogOutbox> findAllByCoutIdIn(Collection<Long> coutIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ChangelogOutbox> findAllByOrderByCoutIdAsc(Pageable pageable);
+}
@@ -1,22 +1,39 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.audit.ChangeLogVersionProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ChangeLogRepository extends JpaRepository<Changelog, Long> {
+public interface ChangeLogRepository extends JpaRepository<Changelog, Long>, JpaSpecificationExecutor<Changelog>,
+        ChangeLogSearchRepository {
 
     @Query("SELECT c FROM Changelog c WHERE"
             + " (:usrName IS NULL OR c.user IN (SELECT u FROM User u WHERE u.usrName LIKE %:usrName%))"
             + " AND (:clogAffectedTable IS NULL OR c.clogAffectedTable = :clogAffectedTable)"
             + " AND ((:clogTimestampStart IS NULL AND :clogTimestampEnd IS NULL) OR c.clogTimestamp BETWEEN :clogTimestampStart AND :clogTimestampEnd)")
     List<Changelog> findAllByFilter(@Param("usrName") String usrName, @Param("clogAffectedTable") String clogAffectedTable, @Param("clogTimestampStart") Date clogTimestampStart, @Param("clogTimestampEnd") Date clogTimestampEnd);
-}
 
+    @Query("SELECT new co.edu.icesi.dev.outcome_curr_mgmt.model.projection.audit.ChangeLogVersionProjection("
+            + "c.clogAffectedTable, c.clogAffectedRecordId, MAX(c.clogVersion)) FROM Changelog c"
+            + " WHERE c.clogAffectedTable IN :clogAffectedTables AND c.clogAffectedRecordId IN :clogAffectedRecordIds"
+            + " GROUP BY c.clogAffectedTable, c.clogAffectedRecordId")
+    List<ChangeLogVersionProjection> findLatestVersions(
+            @Param("clogAffectedTables") Collection<String> clogAffectedTables,
+            @Param("clogAffectedRecordIds") Collection<String> clogAffectedRecordIds);
+
+    Optional<Changelog> findFirstByClogAffectedTableAndClogAffectedRecordIdAndClogVersionLessThanEqualAndClogSnapshotIsNotNullOrderByClogVersionDesc(
+            String clogAffectedTable, String clogAffectedRecordId, Integer clogVersion);
 
+    List<Changelog> findAllByClogAffectedTableAndClogAffectedRecordIdAndClogVersionBetweenOrderByClogVersionAsc(
+            String clogAffectedTable, String clogAffectedRecordId, Integer fromVersion, Integer toVersion);
+}
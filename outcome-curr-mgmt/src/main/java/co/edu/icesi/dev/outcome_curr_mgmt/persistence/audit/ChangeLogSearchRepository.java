@@ -0,0 +1,15 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ChangeLogSearchRepository {
+
+    /**
+     * First {@code limit} changes matching the specification, newest first, with their user fetched in the same
+     * query. Unlike a {@code Page} no count query is run.
+     */
+    List<Changelog> findNewest(Specification<Changelog> specification, int limit);
+}
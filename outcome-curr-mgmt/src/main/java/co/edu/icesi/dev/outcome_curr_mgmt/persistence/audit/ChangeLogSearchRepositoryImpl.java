@@ -0,0 +1,36 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class ChangeLogSearchRepositoryImpl implements ChangeLogSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Changelog> findNewest(Specification<Changelog> specification, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Changelog> query = criteriaBuilder.createQuery(Changelog.class);
+        Root<Changelog> root = query.from(Changelog.class);
+        root.fetch("user", JoinType.LEFT);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(criteriaBuilder.desc(root.get("clogTimestamp")),
+                criteriaBuilder.desc(root.get("clogId")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
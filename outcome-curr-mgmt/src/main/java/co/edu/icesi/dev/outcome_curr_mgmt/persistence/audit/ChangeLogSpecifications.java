@@ -0,0 +1,47 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Predicates of the changelog search. Each one compares a column with a value, so only the filters actually given
+ * end up in the query and the changelog indexes can be used.
+ */
+public final class ChangeLogSpecifications {
+
+    private ChangeLogSpecifications() {
+    }
+
+    public static Specification<Changelog> affectedTable(String clogAffectedTable) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("clogAffectedTable"),
+                clogAffectedTable);
+    }
+
+    public static Specification<Changelog> usrName(String usrName) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("user").get("usrName"), usrName);
+    }
+
+    public static Specification<Changelog> timestampFrom(Date start) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get("clogTimestamp"),
+                new Timestamp(start.getTime()));
+    }
+
+    public static Specification<Changelog> timestampTo(Date end) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(root.get("clogTimestamp"),
+                new Timestamp(end.getTime()));
+    }
+
+    /**
+     * Changes that come after the given one in newest-first order: older, or as old and with a lower id.
+     */
+    public static Specification<Changelog> before(Timestamp clogTimestamp, long clogId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("clogTimestamp"), clogTimestamp),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("clogTimestamp"), clogTimestamp),
+                        criteriaBuilder.lessThan(root.get("clogId"), clogId)));
+    }
+}
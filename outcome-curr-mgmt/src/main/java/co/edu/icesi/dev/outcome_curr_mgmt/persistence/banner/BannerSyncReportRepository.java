@@ -0,0 +1,9 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence.banner;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.banner.BannerSyncReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BannerSyncReportRepository extends JpaRepository<BannerSyncReport, Long> {
+}
@@ -0,0 +1,13 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence.banner;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.banner.BannerSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BannerSyncStateRepository extends JpaRepository<BannerSyncState, Long> {
+
+    List<BannerSyncState> findAllByBssResource(String bssResource);
+}
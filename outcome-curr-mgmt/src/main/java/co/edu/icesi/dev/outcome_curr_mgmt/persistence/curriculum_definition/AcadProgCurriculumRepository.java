@@ -1,10 +1,21 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_definition;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_definition.AcadProgCurriculum;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportCurriculumProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface AcadProgCurriculumRepository extends JpaRepository<AcadProgCurriculum, Long> {
 
+    @Query("SELECT new co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportCurriculumProjection("
+            + "acp.acpId, apc.apcId, acp.acpProgNameEng, apc.apcNameEng) "
+            + "FROM AcadProgCurriculum apc "
+            + "JOIN apc.acadProgram acp "
+            + "WHERE acp.faculty.facId = :facultyId "
+            + "ORDER BY acp.acpProgNameEng, apc.apcId")
+    List<CurrMapExportCurriculumProjection> findAllExportCurriculumsByFacultyId(long facultyId);
 }
@@ -10,10 +10,18 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
-    @Query("SELECT acadProgCur.courses "
+    /**
+     * Courses of a curriculum with the semester the curricular map matrix groups them by and their faculty, fetched
+     * in the same statement instead of one select per distinct semester.
+     */
+    @Query("SELECT course "
             + "FROM AcadProgCurriculum acadProgCur "
+            + "JOIN acadProgCur.courses course "
+            + "LEFT JOIN FETCH course.semester "
+            + "LEFT JOIN FETCH course.faculty "
             + "WHERE acadProgCur.acadProgram.acpId = :acadProgId "
             + "AND acadProgCur.acadProgram.faculty.facId = :facultyId "
-            + "AND acadProgCur.apcId = :acadProgCurrId ")
+            + "AND acadProgCur.apcId = :acadProgCurrId "
+            + "ORDER BY course.courseId")
     List<Course> findAllByAcadProgIdAndFacultyIdAndAcadProgCurrId(long acadProgId, long facultyId, long acadProgCurrId);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtGenPlan;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +16,21 @@ public interface AssmtGenPlanRepository extends JpaRepository<AssmtGenPlan, Long
 
     Optional<AssmtGenPlan> findAllByAsgplaIdAndAsgplaStatus(long acadProgId, String asgplaStatus);
 
+    /**
+     * The plan with its whole cycle and subcycle tree in one statement. The joined rows repeat the plan and its
+     * cycles; Hibernate returns the plan once and the ordered sets keep each cycle and subcycle once.
+     */
+    @Query("SELECT assmtGenPlan FROM AssmtGenPlan assmtGenPlan "
+            + "LEFT JOIN FETCH assmtGenPlan.assmtPlanCycles assmtPlanCycle "
+            + "LEFT JOIN FETCH assmtPlanCycle.assmtPlanSubcyclevs "
+            + "WHERE assmtGenPlan.asgplaId = :asgplaId AND assmtGenPlan.asgplaStatus = :asgplaStatus")
+    Optional<AssmtGenPlan> findDetailByAsgplaIdAndAsgplaStatus(@Param("asgplaId") long asgplaId,
+            @Param("asgplaStatus") String asgplaStatus);
+
 
     Optional<AssmtGenPlan> findByAcadProgramAcpIdAndAsgplaId(long acadProgId, long asgplaId);
+
+    @Query("SELECT COUNT(assmtPlanCycle) FROM AssmtPlanCycle assmtPlanCycle "
+            + "WHERE assmtPlanCycle.assmtGenPlan.asgplaId = :asgplaId")
+    long countAssmtPlanCyclesByAsgplaId(@Param("asgplaId") long asgplaId);
 }
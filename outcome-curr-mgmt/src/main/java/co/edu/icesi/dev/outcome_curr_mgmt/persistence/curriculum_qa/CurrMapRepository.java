@@ -1,13 +1,75 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.CurrMap;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapCellProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportRowProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CurrMapRepository extends JpaRepository<CurrMap, Long> {
-    List<CurrMap> getAllByAcadProgCurriculumApcIdAndPerfIndicatorPiIdAndCourseCourseIdAndAcadProgCurriculumAcadProgramAcpIdOrderByCmAcceptedDateDesc(
-            long acadProgCurrId, long perfIndId, long courseId, long acadProgId);
+    @Query("SELECT new co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapCellProjection("
+            + "cm.cmId, cm.perfIndicator.piId, cm.course.courseId, categ.categNameEng, assmtType.atNameEng) "
+            + "FROM CurrMap cm "
+            + "LEFT JOIN cm.piLvlCateg categ "
+            + "LEFT JOIN cm.assessmentType assmtType "
+            + "WHERE cm.acadProgCurriculum.apcId = :acadProgCurrId "
+            + "AND cm.acadProgCurriculum.acadProgram.acpId = :acadProgId "
+            + "ORDER BY cm.cmAcceptedDate DESC, cm.cmId DESC")
+    List<CurrMapCellProjection> findAllCellsByAcadProgCurrIdAndAcadProgId(long acadProgCurrId, long acadProgId);
+
+    /**
+     * Courses of a curriculum with what the matrix renders of them, one line per course, read to fingerprint the
+     * matrix without loading the entities.
+     */
+    @Query("SELECT CONCAT(str(c.courseId), '|', COALESCE(c.courseNameEng, ''), '|', COALESCE(sem.semName, '')) "
+            + "FROM AcadProgCurriculum apc "
+            + "JOIN apc.courses c "
+            + "LEFT JOIN c.semester sem "
+            + "WHERE apc.apcId = :acadProgCurrId "
+            + "AND apc.acadProgram.acpId = :acadProgId "
+            + "AND apc.acadProgram.faculty.facId = :facultyId "
+            + "ORDER BY c.courseId")
+    List<String> findMatrixCourseLines(long acadProgCurrId, long acadProgId, long facultyId);
+
+    /**
+     * Performance indicators of a curriculum with their student outcome, one line per indicator, read to fingerprint
+     * the matrix without loading the entities.
+     */
+    @Query("SELECT CONCAT(str(so.soId), '|', COALESCE(so.soLongNameEng, ''), '|', str(so.soOrdinalNumber), '|', "
+            + "str(pi.piId), '|', COALESCE(pi.piLongNameEng, ''), '|', str(pi.piOrdinalNumber)) "
+            + "FROM AcadProgCurriculum apc "
+            + "JOIN apc.studOutcomes so "
+            + "JOIN so.perfIndicators pi "
+            + "WHERE apc.apcId = :acadProgCurrId "
+            + "AND apc.acadProgram.acpId = :acadProgId "
+            + "AND apc.acadProgram.faculty.facId = :facultyId "
+            + "ORDER BY so.soId, pi.piId")
+    List<String> findMatrixPerfIndicatorLines(long acadProgCurrId, long acadProgId, long facultyId);
+
+    @Query("SELECT new co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportRowProjection("
+            + "sem.semName, c.courseId, c.courseNameEng, pi.piId, categ.categNameEng, assmtType.atNameEng) "
+            + "FROM AcadProgCurriculum apc "
+            + "JOIN apc.courses c "
+            + "LEFT JOIN c.semester sem "
+            + "LEFT JOIN CurrMap cm ON cm.course = c AND cm.acadProgCurriculum = apc "
+            + "LEFT JOIN cm.perfIndicator pi "
+            + "LEFT JOIN cm.piLvlCateg categ "
+            + "LEFT JOIN cm.assessmentType assmtType "
+            + "WHERE apc.apcId = :acadProgCurrId "
+            + "AND apc.acadProgram.acpId = :acadProgId "
+            + "AND apc.acadProgram.faculty.facId = :facultyId "
+            + "ORDER BY sem.semName, c.courseNameEng, c.courseId, cm.cmAcceptedDate DESC, cm.cmId DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<CurrMapExportRowProjection> streamExportRowsByAcadProgCurrIdAndAcadProgIdAndFacultyId(long acadProgCurrId,
+            long acadProgId, long facultyId);
 }
@@ -1,10 +1,22 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.PerfIndicator;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportColumnProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PerfIndicatorRepository extends JpaRepository<PerfIndicator, Long> {
 
+    @Query("SELECT new co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportColumnProjection("
+            + "pi.piId, pi.piLongNameEng) "
+            + "FROM AcadProgCurriculum apc "
+            + "JOIN apc.studOutcomes so "
+            + "JOIN so.perfIndicators pi "
+            + "WHERE apc.apcId = :acadProgCurrId "
+            + "ORDER BY so.soOrdinalNumber, pi.piOrdinalNumber")
+    List<CurrMapExportColumnProjection> findAllExportColumnsByAcadProgCurrId(long acadProgCurrId);
 }
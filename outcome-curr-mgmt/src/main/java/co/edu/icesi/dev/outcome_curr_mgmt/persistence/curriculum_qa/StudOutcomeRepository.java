@@ -10,10 +10,17 @@ import java.util.List;
 @Repository
 public interface StudOutcomeRepository extends JpaRepository<StudOutcome, Long> {
 
-    @Query("SELECT acadProgCur.studOutcomes "
+    /**
+     * Student outcomes of a curriculum with their performance indicators, which the curricular map matrix reads for
+     * every outcome, fetched in the same statement.
+     */
+    @Query("SELECT studOutcome "
             + "FROM AcadProgCurriculum acadProgCur "
+            + "JOIN acadProgCur.studOutcomes studOutcome "
+            + "LEFT JOIN FETCH studOutcome.perfIndicators perfIndicator "
             + "WHERE acadProgCur.apcId = :acadProgCurrId "
             + "AND acadProgCur.acadProgram.faculty.facId = :facultyId "
-            + "AND acadProgCur.acadProgram.acpId = :acadProgId")
+            + "AND acadProgCur.acadProgram.acpId = :acadProgId "
+            + "ORDER BY studOutcome.soId, perfIndicator.piId")
     List<StudOutcome> getAllStudOutcomesByAcadProgCurrIdAndAcadProgIdAndFacultyId(long acadProgCurrId,long acadProgId, long facultyId);
 }
@@ -1,9 +1,15 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,8 +17,21 @@ import java.util.Optional;
 public interface AcadProgramRepository extends JpaRepository<AcadProgram, Long> {
     List<AcadProgram> findAllByFacultyFacId(long facultyId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<AcadProgram> findByFacultyFacIdAndAcpId(long facultyId, long acpId);
 
     Optional<AcadProgram> findByAcpId(Long acpId);
 
+    @Query("SELECT a.externalId FROM AcadProgram a WHERE a.externalId IN :externalIds")
+    List<String> findAllExternalIdsByExternalIdIn(@Param("externalIds") Collection<String> externalIds);
+
+    List<AcadProgram> findAllByExternalIdIn(Collection<String> externalIds);
+
+    List<AcadProgram> findAllByFacultyFacIdAndExternalIdIsNotNull(long facultyId);
+
+    List<AcadProgram> findAllByFacultyFacIdInAndExternalIdIsNotNullAndAcpIsActive(Collection<Long> facultyIds,
+            char acpIsActive);
+
 }
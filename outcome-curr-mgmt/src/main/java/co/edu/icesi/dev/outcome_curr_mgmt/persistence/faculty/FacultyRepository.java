@@ -1,17 +1,45 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FacultyRepository extends JpaRepository<Faculty, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<Faculty> findByFacNameEng(String facNameEng);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<Faculty> findByFacNameSpa(String facNameSpa);
 
     Optional<Faculty> findByExternalId(String externalId);
-}
\ No newline at end of file
+
+    List<Faculty> findAllByExternalIdInOrFacNameEngInOrFacNameSpaIn(Collection<String> externalIds,
+            Collection<String> facNamesEng, Collection<String> facNamesSpa);
+
+    List<Faculty> findAllByExternalIdIsNotNull();
+
+    /**
+     * Whether any academic program or course still belongs to the faculty, answered by the database instead of
+     * loading both collections. The count always returns one row, so an unknown faculty is answered with false.
+     */
+    @Query("SELECT CASE WHEN COUNT(faculty) > 0 THEN true ELSE false END "
+            + "FROM Faculty faculty WHERE faculty.facId = :facId "
+            + "AND (EXISTS (SELECT 1 FROM AcadProgram acadProgram WHERE acadProgram.faculty.facId = :facId) "
+            + "OR EXISTS (SELECT 1 FROM Course course WHERE course.faculty.facId = :facId))")
+    boolean hasAcadProgramsOrCourses(@Param("facId") long facId);
+}
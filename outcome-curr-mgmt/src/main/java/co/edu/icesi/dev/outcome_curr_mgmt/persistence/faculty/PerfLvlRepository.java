@@ -1,7 +1,10 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.PerfLvl;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,12 +13,24 @@ import java.util.Optional;
 @Repository
 public interface PerfLvlRepository extends JpaRepository<PerfLvl, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<PerfLvl> findByAcadProgramAcpIdAndPlNameSpa(long acadProgramId, String name);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<PerfLvl> findByAcadProgramAcpIdAndPlNameEng(long acadProgramId, String name);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     List<PerfLvl> findAllByAcadProgramAcpId(long acadProgramId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<PerfLvl> findByAcadProgramAcpIdAndPlId(long acadProgId,long perfLvlId);
 
 }
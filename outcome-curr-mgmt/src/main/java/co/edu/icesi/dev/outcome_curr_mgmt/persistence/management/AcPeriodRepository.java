@@ -1,7 +1,10 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.persistence.management;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.AcPeriod;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,7 +13,13 @@ import java.util.Optional;
 @Repository
 public interface AcPeriodRepository extends JpaRepository<AcPeriod, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<AcPeriod> findByAcPeriodNameSpa(@Param("acaPeriodSpaName") String acaPeriodSpaName);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<AcPeriod> findByAcPeriodNumeric(@Param("acaPeriodNumeric") int acaPeriodNumeric);
 }
@@ -4,7 +4,12 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByUsrName(String usrName);
+
+    List<User> findAllByUsrNameIn(Collection<String> usrNames);
 }
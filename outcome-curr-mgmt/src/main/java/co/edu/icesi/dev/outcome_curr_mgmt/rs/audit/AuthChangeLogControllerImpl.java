@@ -2,6 +2,8 @@ package co.edu.icesi.dev.outcome_curr_mgmt.rs.audit;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.audit.ChangeLogFilterInDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogPageOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogVersionOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.rs.audit.AuthChangeLogController;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogService;
 import lombok.RequiredArgsConstructor;
@@ -21,4 +23,21 @@ public class AuthChangeLogControllerImpl implements AuthChangeLogController {
     public List<ChangeLogOutDTO> getAllChangesByFilter(ChangeLogFilterInDTO changeLogDateFilterInDTO) {
         return changeLogService.getAllChangesByFilter(changeLogDateFilterInDTO);
     }
+
+    @Override
+    public ChangeLogPageOutDTO searchChanges(String usrName, String entityName, String clogStartDate,
+            String clogEndDate, String cursor, int limit) {
+        ChangeLogFilterInDTO changeLogFilterInDTO = ChangeLogFilterInDTO.builder()
+                .usrName(usrName)
+                .entityName(entityName)
+                .clogStartDate(clogStartDate)
+                .clogEndDate(clogEndDate)
+                .build();
+        return changeLogService.searchChanges(changeLogFilterInDTO, cursor, limit);
+    }
+
+    @Override
+    public ChangeLogVersionOutDTO getVersion(String entityName, String recordId, int clogVersion) {
+        return changeLogService.getVersion(entityName, recordId, clogVersion);
+    }
 }
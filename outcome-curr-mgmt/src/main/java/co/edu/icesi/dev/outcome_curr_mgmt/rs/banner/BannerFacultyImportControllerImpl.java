@@ -1,8 +1,10 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.rs.banner;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.FacultyNamesRequestDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.BannerImportOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.FacultyOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.rs.banner.BannerFacultyImportController;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.banner.BannerBulkImportService;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.banner.BannerFacultyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,6 +17,7 @@ import java.util.List;
 public class BannerFacultyImportControllerImpl implements BannerFacultyImportController {
 
     private final BannerFacultyService bannerFacultyService;
+    private final BannerBulkImportService bannerBulkImportService;
 
     @Override
     public List<FacultyOutDTO> getFacultiesList() {
@@ -30,4 +33,9 @@ public class BannerFacultyImportControllerImpl implements BannerFacultyImportCon
     public List<FacultyOutDTO> importFaculties(FacultyNamesRequestDTO facultyNamesRequestDTO) {
         return bannerFacultyService.importBannerFaculties(facultyNamesRequestDTO.facultiesName());
     }
+
+    @Override
+    public BannerImportOutDTO importAll() {
+        return bannerBulkImportService.importAll();
+    }
 }
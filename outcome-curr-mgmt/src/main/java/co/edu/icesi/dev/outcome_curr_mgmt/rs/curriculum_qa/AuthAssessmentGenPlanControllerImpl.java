@@ -1,5 +1,6 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.rs.curriculum_qa;
 
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanDetailOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.rs.curriculum_qa.AuthAssessmentGenPlanController;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa.AssessmentGenPlanService;
@@ -23,4 +24,9 @@ public class AuthAssessmentGenPlanControllerImpl implements AuthAssessmentGenPla
     public AssmtGenPlanOutDTO getAssmntGenPlanById(long facultyId, long acadProgId, long asgplaId) {
         return assmtGenPlanService.findAssesmentGenPlan(facultyId, acadProgId, asgplaId, "CURRENT");
     }
+
+    @Override
+    public AssmtGenPlanDetailOutDTO getAssmntGenPlanDetailById(long facultyId, long acadProgId, long asgplaId) {
+        return assmtGenPlanService.findAssesmentGenPlanDetail(facultyId, acadProgId, asgplaId, "CURRENT");
+    }
 }
@@ -1,32 +1,126 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.rs.curriculum_qa;
 
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CompactMatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.MatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.rs.curriculum_qa.AuthCurrMapController;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_definition.Course;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.StudOutcome;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_definition.CourseService;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa.CurrMapMatrixCache;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa.CurrMapService;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa.StudOutcomeService;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @RestController
 @RequiredArgsConstructor
 public class AuthCurrMapControllerImpl implements AuthCurrMapController {
+    private static final Pattern ENTITY_TAG = Pattern.compile("\\*|(?:W/)?\"[^\"]*\"");
+
     private final StudOutcomeService studOutcomeService;
     private final CourseService courseService;
     private final CurrMapService currMapService;
+    private final CurrMapMatrixCache currMapMatrixCache;
+
+    @Override
+    public ResponseEntity<MatrixDTO> getMatrix(long facultyId, long acadProgId, long acadProgCurrId,
+            String ifNoneMatch) {
+        return getCachedMatrix(new CurrMapMatrixCache.Key(facultyId, acadProgId, acadProgCurrId),
+                MediaType.APPLICATION_JSON_VALUE, ifNoneMatch, () -> currMapService.getMatrixDTO(acadProgCurrId,
+                        acadProgId, getStudOutcomes(facultyId, acadProgId, acadProgCurrId),
+                        getCourses(facultyId, acadProgId, acadProgCurrId)));
+    }
+
+    @Override
+    public ResponseEntity<CompactMatrixDTO> getCompactMatrix(long facultyId, long acadProgId, long acadProgCurrId,
+            String ifNoneMatch) {
+        return getCachedMatrix(new CurrMapMatrixCache.Key(facultyId, acadProgId, acadProgCurrId),
+                COMPACT_MATRIX_MEDIA_TYPE, ifNoneMatch, () -> currMapService.getCompactMatrixDTO(acadProgCurrId,
+                        acadProgId, getStudOutcomes(facultyId, acadProgId, acadProgCurrId),
+                        getCourses(facultyId, acadProgId, acadProgCurrId)));
+    }
 
     @Override
-    public MatrixDTO getMatrix(long facultyId, long acadProgId, long acadProgCurrId) {
-        List<StudOutcome> studOutcomes = studOutcomeService.getAllStudOutcomesByAcadProgCurrIdAndAcadProgIdAndFacultyId(
-                acadProgCurrId,
+    public ResponseEntity<?> getMatrixInFormat(long facultyId, long acadProgId, long acadProgCurrId, String format,
+            String ifNoneMatch) {
+        return switch (format) {
+            case MATRIX_FORMAT_JSON -> withContentType(getMatrix(facultyId, acadProgId, acadProgCurrId, ifNoneMatch),
+                    MediaType.APPLICATION_JSON_VALUE);
+            case MATRIX_FORMAT_COMPACT -> withContentType(
+                    getCompactMatrix(facultyId, acadProgId, acadProgCurrId, ifNoneMatch), COMPACT_MATRIX_MEDIA_TYPE);
+            default -> ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        };
+    }
+
+    /**
+     * The format parameter overrides the Accept header, so the media type is set on the response instead of being
+     * negotiated.
+     */
+    private static <T> ResponseEntity<T> withContentType(ResponseEntity<T> response, String mediaType) {
+        if (response.getBody() == null) {
+            return response;
+        }
+        return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders())
+                .contentType(MediaType.parseMediaType(mediaType)).body(response.getBody());
+    }
+
+    /**
+     * Both representations are served from the same URL, chosen by the Accept header, so every response says it
+     * varies by Accept and carries an ETag that includes its media type.
+     */
+    private <T> ResponseEntity<T> getCachedMatrix(CurrMapMatrixCache.Key key, String mediaType,
+            String ifNoneMatch, Supplier<T> matrixBuilder) {
+        String currentETag = currMapMatrixCache.currentETag(key, mediaType);
+        if (matchesIfNoneMatch(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
+        }
+        CurrMapMatrixCache.Entry<T> entry = currMapMatrixCache.getOrBuild(key, mediaType, currentETag,
+                matrixBuilder);
+        return ResponseEntity.ok().eTag(entry.eTag()).header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(entry.matrix());
+    }
+
+    /**
+     * If-None-Match evaluation as in RFC 9110: the header is either {@code *} or a list of entity tags, and they are
+     * compared with the weak comparison, so {@code W/"x"} matches {@code "x"}.
+     */
+    static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = withoutWeakPrefix(eTag);
+        Matcher entityTags = ENTITY_TAG.matcher(ifNoneMatch);
+        while (entityTags.find()) {
+            String entityTag = entityTags.group();
+            if (entityTag.equals("*") || withoutWeakPrefix(entityTag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String withoutWeakPrefix(String entityTag) {
+        return entityTag.startsWith("W/") ? entityTag.substring(2) : entityTag;
+    }
+
+    private List<StudOutcome> getStudOutcomes(long facultyId, long acadProgId, long acadProgCurrId) {
+        return studOutcomeService.getAllStudOutcomesByAcadProgCurrIdAndAcadProgIdAndFacultyId(acadProgCurrId,
                 acadProgId, facultyId);
-        List<Course> courses = courseService.findAllByAcadProgIdAndFacultyIdAndAcadProgCurrId(acadProgId, facultyId, acadProgCurrId);
-        return currMapService.getMatrixDTO(acadProgCurrId, acadProgId, studOutcomes, courses);
+    }
+
+    private List<Course> getCourses(long facultyId, long acadProgId, long acadProgCurrId) {
+        return courseService.findAllByAcadProgIdAndFacultyIdAndAcadProgCurrId(acadProgId, facultyId, acadProgCurrId);
     }
 
     @Override
@@ -0,0 +1,44 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.rs.curriculum_qa;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CurrMapExportFormat;
+import co.edu.icesi.dev.outcome_curr.mgmt.rs.curriculum_qa.AuthCurrMapExportController;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa.CurrMapExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class AuthCurrMapExportControllerImpl implements AuthCurrMapExportController {
+    private final CurrMapExportService currMapExportService;
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCurrMap(long facultyId, long acadProgId, long acadProgCurrId,
+            CurrMapExportFormat fileType) {
+        return attachment("curr_map_" + acadProgCurrId + "." + fileType.getExtension(),
+                MediaType.parseMediaType(fileType.getMediaType()),
+                outputStream -> currMapExportService.exportCurrMap(facultyId, acadProgId, acadProgCurrId, fileType,
+                        outputStream));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportFacultyCurrMaps(long facultyId, CurrMapExportFormat fileType) {
+        return attachment("curr_maps_faculty_" + facultyId + ".zip", MediaType.parseMediaType("application/zip"),
+                outputStream -> currMapExportService.exportFacultyCurrMaps(facultyId, fileType, outputStream));
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(String fileName, MediaType mediaType,
+            StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -4,6 +4,7 @@ import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.management.LoginInDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.management.LoginOutDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -28,21 +29,25 @@ import java.security.spec.X509EncodedKeySpec;
 public class SaamfiClient {
     //TODO add test coverage
     protected final Log logger = LogFactory.getLog(this.getClass());
+    private static final String REQUEST_TIMER = "saamfi.request";
     private final String saamfiUrl;
     private final String systemId;
     private final String institutionId;
-    private RestTemplate template;
+    private final RestTemplate template;
+    private final MeterRegistry meterRegistry;
 
     @Getter
     private PublicKey publicKey;
 
     public SaamfiClient(@Value("${saamfi.url}") final String saamfiUrl,
             @Value("${saamfi.system.id}") final String system_id,
-            @Value("${saamfi.institution.id}") final String institution_id) {
+            @Value("${saamfi.institution.id}") final String institution_id,
+            final RestTemplate outboundRestTemplate, final MeterRegistry meterRegistry) {
         this.saamfiUrl = saamfiUrl;
         this.systemId = system_id;
         this.institutionId = institution_id;
-        template = new RestTemplate();
+        this.template = outboundRestTemplate;
+        this.meterRegistry = meterRegistry;
 
         try {
             publicKey = getRemotePublicKey();
@@ -53,7 +58,8 @@ public class SaamfiClient {
     }
 
     public PublicKey getRemotePublicKey() throws InvalidKeySpecException, NoSuchAlgorithmException {
-        String key = template.getForEntity(saamfiUrl + "/public/publicKey", String.class).getBody();
+        String key = meterRegistry.timer(REQUEST_TIMER, "endpoint", "publicKey")
+                .record(() -> template.getForEntity(saamfiUrl + "/public/publicKey", String.class)).getBody();
         if (key != null) {
             key = key.replace("[", "");
             key = key.replace("]", "");
@@ -97,7 +103,9 @@ public class SaamfiClient {
     public LoginOutDTO getUserLogin(LoginInDTO loginInDTO) {
         String endpoint = String.format("/public/institutions/%s/systems/%s/users/login", institutionId, systemId);
         try {
-            return template.postForEntity(saamfiUrl + endpoint, loginInDTO, LoginOutDTO.class).getBody();
+            return meterRegistry.timer(REQUEST_TIMER, "endpoint", "login")
+                    .record(() -> template.postForEntity(saamfiUrl + endpoint, loginInDTO, LoginOutDTO.class))
+                    .getBody();
         } catch (HttpClientErrorException e) {
             throw new OutCurrException(OutCurrExceptionType.USER_INVALID_CREDENTIALS);
         }
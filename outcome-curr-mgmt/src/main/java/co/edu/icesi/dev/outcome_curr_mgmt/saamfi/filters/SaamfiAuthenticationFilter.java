@@ -1,6 +1,7 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.filters;
 
 
+import co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util.SaamfiJwtClaims;
 import co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util.SaamfiJwtTools;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +22,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 
 @Component
@@ -53,25 +53,15 @@ public class SaamfiAuthenticationFilter extends OncePerRequestFilter {
 	protected void doFilterInternal(HttpServletRequest request,@Nonnull HttpServletResponse response, @Nonnull  FilterChain filterChain)
 			throws ServletException, IOException {
 		String header = request.getHeader(HEADER_STRING);
-		String username = null;
 		String authToken = null;
+		SaamfiJwtClaims claims = null;
 
-		long sysid = 1;
-		long instid = 1;
-
-		boolean tokenValid = false;
 		if (header != null && !header.equals("Bearer ") && header.startsWith(TOKEN_PREFIX)) {
 			authToken = header.replace(TOKEN_PREFIX, "").trim();
 			logger.info("\n\ntoken: " + authToken + "\n\n");
 			if (!authToken.trim().equals("null")) {
 				try {
-					if (saamfiJwtTools.validateToken(authToken)) {
-						username = saamfiJwtTools.getUsernameFromJWT(authToken);
-						sysid = saamfiJwtTools.getSysIdFromJWT(authToken);
-						instid = saamfiJwtTools.getInstIdFromJWT(authToken);
-
-						tokenValid = true;
-					}
+					claims = saamfiJwtTools.parseClaims(authToken);
 				} catch (Exception e) {
 					manageTokenInvalid(e, response);
 					return;
@@ -82,17 +72,16 @@ public class SaamfiAuthenticationFilter extends OncePerRequestFilter {
 			logger.warn("couldn't find bearer string, will ignore the header");
 		}
 		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-		if (tokenValid && username != null && auth == null && systemId.equals(sysid+"")
-				&& institution.equals(instid+"")) {
-			Collection<SimpleGrantedAuthority> roles = saamfiJwtTools.getPermissionNamesFromJWT(authToken);
-			if (roles == null) {
-				roles = Collections.emptyList();
-			}
-			UserDetails userDetails = new org.springframework.security.core.userdetails.User(username, "", roles);
-
-			UsernamePasswordAuthenticationToken authentication = saamfiJwtTools.getAuthentication(authToken, userDetails);
+		if (claims != null && claims.username() != null && auth == null
+				&& systemId.equals(claims.systemId() + "") && institution.equals(claims.institutionId() + "")) {
+			Collection<SimpleGrantedAuthority> roles = saamfiJwtTools.getPermissionNames(claims);
+			UserDetails userDetails = new org.springframework.security.core.userdetails.User(claims.username(), "",
+					roles);
+
+			UsernamePasswordAuthenticationToken authentication = saamfiJwtTools.getAuthentication(authToken,
+					userDetails, claims);
 			authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-			logger.info("usr:" + username + ", module auth, path:" + request.getServletPath());
+			logger.info("usr:" + claims.username() + ", module auth, path:" + request.getServletPath());
 			SecurityContextHolder.getContext().setAuthentication(authentication);
 
 		}
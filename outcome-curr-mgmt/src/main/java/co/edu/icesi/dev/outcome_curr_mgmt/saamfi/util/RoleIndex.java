@@ -0,0 +1,47 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.DeclaredPermissions;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stable ordinals of the roles named in the declared permission lists, so sets of roles can be represented as
+ * {@link RoleMask}s. The index is built once and never grows: a role read from a token that no permission list names
+ * has no ordinal, so it can never match.
+ */
+public final class RoleIndex {
+
+    public static final int UNKNOWN = -1;
+
+    private static final RoleIndex DECLARED = of(DeclaredPermissions.PERMISSION_LISTS.stream()
+            .flatMap(List::stream)
+            .toList());
+
+    private final Map<String, Integer> ordinals;
+
+    private RoleIndex(Map<String, Integer> ordinals) {
+        this.ordinals = ordinals;
+    }
+
+    public static RoleIndex declared() {
+        return DECLARED;
+    }
+
+    static RoleIndex of(Collection<String> roleNames) {
+        Map<String, Integer> ordinals = new HashMap<>();
+        roleNames.forEach(roleName -> ordinals.putIfAbsent(roleName, ordinals.size()));
+        return new RoleIndex(Collections.unmodifiableMap(ordinals));
+    }
+
+    public int ordinal(String roleName) {
+        return ordinals.getOrDefault(roleName, UNKNOWN);
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+}
@@ -0,0 +1,63 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable bit set of role ordinals taken from {@link RoleIndex}. Checking whether a user holds any role of a
+ * permission list is a word-by-word AND between the user mask and the permission mask. Roles without an ordinal are
+ * left out of the mask.
+ */
+public final class RoleMask {
+
+    public static final RoleMask EMPTY = new RoleMask(new long[0]);
+
+    private final long[] words;
+
+    private RoleMask(long[] words) {
+        this.words = words;
+    }
+
+    public static RoleMask of(Collection<String> roleNames) {
+        return of(roleNames, RoleIndex.declared());
+    }
+
+    static RoleMask of(Collection<String> roleNames, RoleIndex roleIndex) {
+        if (roleNames == null || roleNames.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (String roleName : roleNames) {
+            int ordinal = roleIndex.ordinal(roleName);
+            if (ordinal == RoleIndex.UNKNOWN) {
+                continue;
+            }
+            int word = ordinal >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << ordinal;
+        }
+        return new RoleMask(words);
+    }
+
+    public boolean intersects(RoleMask other) {
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof RoleMask roleMask && Arrays.equals(words, roleMask.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
+
+import lombok.Getter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Authentication stored in the security context for a request with a valid SAAMFI token. Keeps the raw token as
+ * credentials and the parsed claims so they don't have to be read from the token again.
+ */
+@Getter
+public class SaamfiAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private final transient SaamfiJwtClaims claims;
+
+    public SaamfiAuthenticationToken(UserDetails userDetails, String authToken, SaamfiJwtClaims claims) {
+        super(userDetails, authToken, userDetails.getAuthorities());
+        this.claims = claims;
+    }
+}
@@ -0,0 +1,41 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Immutable view of the claims of an already verified SAAMFI token. The token is parsed once per request and every
+ * later username or permission lookup reads from this object instead of verifying the signature again.
+ */
+public record SaamfiJwtClaims(String username, long systemId, long institutionId, Set<String> roles,
+        Date expiration, RoleMask roleMask) {
+
+    public SaamfiJwtClaims {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+        expiration = expiration == null ? null : new Date(expiration.getTime());
+        roleMask = roleMask == null ? RoleMask.of(roles) : roleMask;
+    }
+
+    public SaamfiJwtClaims(String username, long systemId, long institutionId, Set<String> roles,
+            Date expiration) {
+        this(username, systemId, institutionId, roles, expiration, null);
+    }
+
+    @Override
+    public Date expiration() {
+        return expiration == null ? null : new Date(expiration.getTime());
+    }
+
+    public boolean hasRole(String roleName) {
+        return roles.contains(roleName);
+    }
+
+    public boolean hasAnyRole(Collection<String> roleNames) {
+        return roleNames.stream().anyMatch(roles::contains);
+    }
+
+    public boolean hasAnyRole(RoleMask permissionMask) {
+        return roleMask.intersects(permissionMask);
+    }
+}
@@ -1,14 +1,14 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
 
 import co.edu.icesi.dev.outcome_curr_mgmt.saamfi.delegate.SaamfiClient;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.PermissionMasks;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,9 +17,9 @@ import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -36,36 +36,59 @@ public class SaamfiJwtTools {
 
     private final SaamfiClient saamfiClient;
 
-    public String getUsernameFromJWT(String authToken) {
+    private final SaamfiTokenCache saamfiTokenCache;
+
+    /**
+     * Verifies the token signature and reads every claim used by the application in a single pass. Tokens already
+     * verified and not yet expired are served from {@link SaamfiTokenCache} without checking the signature again.
+     */
+    public SaamfiJwtClaims parseClaims(String authToken) {
+        return saamfiTokenCache.get(authToken).orElseGet(() -> {
+            SaamfiJwtClaims claims = verifyClaims(authToken);
+            saamfiTokenCache.put(authToken, claims);
+            return claims;
+        });
+    }
+
+    private SaamfiJwtClaims verifyClaims(String authToken) {
         Claims claims = Jwts.parserBuilder().setSigningKey(saamfiClient.getPublicKey()).build()
                 .parseClaimsJws(authToken).getBody();
-        return (String) claims.get(USERNAME_CLAIM);
+        return new SaamfiJwtClaims((String) claims.get(USERNAME_CLAIM),
+                ((Number) claims.get(SYSTEM_CLAIM)).longValue(),
+                ((Number) claims.get(INSTITUTION_CLAIM)).longValue(),
+                splitRoles(claims.get(ROLE_KEYS)),
+                claims.getExpiration());
+    }
+
+    private Set<String> splitRoles(Object roles) {
+        if (roles == null) {
+            return Set.of();
+        }
+        return Arrays.stream(roles.toString().split(",")).collect(Collectors.toSet());
+    }
+
+    public String getUsernameFromJWT(String authToken) {
+        return parseClaims(authToken).username();
     }
 
     public long getSysIdFromJWT(String authToken) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(saamfiClient.getPublicKey()).build()
-                .parseClaimsJws(authToken).getBody();
-        return (int) claims.get(SYSTEM_CLAIM);
+        return parseClaims(authToken).systemId();
+    }
+
+    public long getInstIdFromJWT(String authToken) {
+        return parseClaims(authToken).institutionId();
     }
 
     public Collection<SimpleGrantedAuthority> getPermissionNamesFromJWT(String authToken) {
-        final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(saamfiClient.getPublicKey()).build();
-        final Jws<Claims> claimsJws = jwtParser.parseClaimsJws(authToken);
-        final Claims claims = claimsJws.getBody();
-        logger.info("\nroles: " + claims.get(ROLE_KEYS).toString() + "\n\n");
-        Stream<SimpleGrantedAuthority> stream = Arrays.stream(claims.get(ROLE_KEYS).toString().split(","))
-                .map(SimpleGrantedAuthority::new);
-        Collection<SimpleGrantedAuthority> authorities;
-        try {
-            authorities = stream.toList();
-        } catch (Exception e) {
-            authorities = Collections.emptyList();
-        }
-        return authorities;
+        return getPermissionNames(parseClaims(authToken));
+    }
+
+    public Collection<SimpleGrantedAuthority> getPermissionNames(SaamfiJwtClaims claims) {
+        return claims.roles().stream().map(SimpleGrantedAuthority::new).toList();
     }
 
     public boolean validateToken(String authToken) {
-        Jwts.parserBuilder().setSigningKey(saamfiClient.getPublicKey()).build().parseClaimsJws(authToken);
+        parseClaims(authToken);
         return true;
     }
 
@@ -75,29 +98,40 @@ public class SaamfiJwtTools {
         return new UsernamePasswordAuthenticationToken(userDetails, authToken.trim(), authorities);
     }
 
-    public long getInstIdFromJWT(String authToken) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(saamfiClient.getPublicKey()).build()
-                .parseClaimsJws(authToken).getBody();
-        return (int) claims.get(INSTITUTION_CLAIM);
+    public SaamfiAuthenticationToken getAuthentication(String authToken, UserDetails userDetails,
+            SaamfiJwtClaims claims) {
+        return new SaamfiAuthenticationToken(userDetails, authToken.trim(), claims);
     }
 
     public boolean tokenHasPermission(String token, String permissionName) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(saamfiClient.getPublicKey()).build().parseClaimsJws(token)
-                .getBody();
-
-        String roles = claims.get("role", String.class);
+        return parseClaims(token).hasRole(permissionName);
+    }
 
-        return Arrays.asList(roles.split(",")).contains(permissionName);
+    /**
+     * Claims of the logged-in user. Reuses the claims parsed by the authentication filter and only falls back to
+     * parsing the token when the authentication was created somewhere else.
+     */
+    public SaamfiJwtClaims getLoggedInUserClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof SaamfiAuthenticationToken saamfiAuthentication
+                && saamfiAuthentication.getClaims() != null) {
+            return saamfiAuthentication.getClaims();
+        }
+        return parseClaims((String) authentication.getCredentials());
     }
 
     public boolean loggedInUserHasPermission(List<String> permissionNames) {
-        return permissionNames.stream().anyMatch(permissionName -> tokenHasPermission(
-                (String) SecurityContextHolder.getContext().getAuthentication().getCredentials(),
-                permissionName));
+        return getLoggedInUserClaims().hasAnyRole(PermissionMasks.of(permissionNames));
     }
 
+    /**
+     * Username of the logged-in user, or null when the code runs outside a request, as scheduled jobs do.
+     */
     public String getLoggedInUserUsername() {
-        return getUsernameFromJWT((String) SecurityContextHolder.getContext().getAuthentication().getCredentials());
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            return null;
+        }
+        return getLoggedInUserClaims().username();
     }
 
 }
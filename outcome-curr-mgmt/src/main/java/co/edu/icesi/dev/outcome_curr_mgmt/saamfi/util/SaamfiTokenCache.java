@@ -0,0 +1,114 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded LRU cache of already verified SAAMFI tokens. Entries are keyed by the SHA-256 digest of the token, so the
+ * raw token is never kept in memory, and stop being served once the token reaches its {@code exp} claim.
+ */
+@Component
+public class SaamfiTokenCache {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, SaamfiJwtClaims> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public SaamfiTokenCache(@Value("${saamfi.token-cache.max-size:1000}") int maxSize, MeterRegistry meterRegistry) {
+        this(maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    SaamfiTokenCache(int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SaamfiJwtClaims> eldest) {
+                boolean evict = size() > SaamfiTokenCache.this.maxSize;
+                if (evict) {
+                    SaamfiTokenCache.this.evictions.increment();
+                }
+                return evict;
+            }
+        };
+        this.hits = meterRegistry.counter("saamfi.tokenCache.hit");
+        this.misses = meterRegistry.counter("saamfi.tokenCache.miss");
+        this.evictions = meterRegistry.counter("saamfi.tokenCache.eviction");
+        meterRegistry.gaugeMapSize("saamfi.tokenCache.size", Tags.empty(), entries);
+    }
+
+    public Optional<SaamfiJwtClaims> get(String authToken) {
+        String key = digest(authToken);
+        SaamfiJwtClaims claims;
+        synchronized (entries) {
+            claims = entries.get(key);
+            if (claims != null && isExpired(claims)) {
+                entries.remove(key);
+                claims = null;
+            }
+        }
+        if (claims == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(claims);
+    }
+
+    /**
+     * Stores the claims of a token that was just verified. Tokens without an expiration are not cached, because
+     * there would be no point at which the cached verification stops being valid.
+     */
+    public void put(String authToken, SaamfiJwtClaims claims) {
+        if (maxSize <= 0 || claims.expiration() == null || isExpired(claims)) {
+            return;
+        }
+        String key = digest(authToken);
+        synchronized (entries) {
+            entries.put(key, claims);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean isExpired(SaamfiJwtClaims claims) {
+        return !claims.expiration().after(Date.from(clock.instant()));
+    }
+
+    private static String digest(String authToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(authToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+/**
+ * Position of the last change of a search page, sent to the client as an opaque token. The token holds the
+ * timestamp to the nanosecond and the id, which is the sort key of the search.
+ */
+record ChangeLogCursor(Timestamp clogTimestamp, long clogId) {
+
+    static ChangeLogCursor of(Changelog changelog) {
+        return new ChangeLogCursor(changelog.getClogTimestamp(), changelog.getClogId());
+    }
+
+    String encode() {
+        String value = clogTimestamp.getTime() / 1000 + "." + clogTimestamp.getNanos() + "." + clogId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ChangeLogCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\.");
+            if (parts.length != 3) {
+                throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_CURSOR);
+            }
+            Timestamp clogTimestamp = new Timestamp(Long.parseLong(parts[0]) * 1000);
+            clogTimestamp.setNanos(Integer.parseInt(parts[1]));
+            return new ChangeLogCursor(clogTimestamp, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_CURSOR);
+        }
+    }
+}
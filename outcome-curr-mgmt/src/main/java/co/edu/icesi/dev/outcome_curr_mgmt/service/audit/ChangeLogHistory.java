@@ -0,0 +1,58 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.util.List;
+
+/**
+ * Rebuilding of the versions of a record from the changelog: the closest snapshot at or before the version, with the
+ * patches of the versions after it applied in order. Used to read a version and by {@link ChangeLogWriter} to diff a
+ * new change against the version it follows.
+ */
+final class ChangeLogHistory {
+
+    private ChangeLogHistory() {
+    }
+
+    static JsonNode rebuild(ChangeLogRepository changeLogRepository, String clogAffectedTable,
+            String clogAffectedRecordId, int clogVersion) {
+        Changelog base = changeLogRepository
+                .findFirstByClogAffectedTableAndClogAffectedRecordIdAndClogVersionLessThanEqualAndClogSnapshotIsNotNullOrderByClogVersionDesc(
+                        clogAffectedTable, clogAffectedRecordId, clogVersion)
+                .orElseThrow(() -> new OutCurrException(OutCurrExceptionType.CLOG_VERSION_NOT_FOUND));
+        JsonNode value = ChangeLogSnapshots.decompress(base.getClogSnapshot());
+        if (base.getClogVersion() < clogVersion) {
+            List<Changelog> changes = changeLogRepository
+                    .findAllByClogAffectedTableAndClogAffectedRecordIdAndClogVersionBetweenOrderByClogVersionAsc(
+                            clogAffectedTable, clogAffectedRecordId, base.getClogVersion() + 1, clogVersion);
+            if (changes.size() != clogVersion - base.getClogVersion()) {
+                throw new OutCurrException(OutCurrExceptionType.CLOG_VERSION_NOT_FOUND);
+            }
+            for (Changelog change : changes) {
+                value = applyPatch(value, change.getClogPatch());
+            }
+        }
+        return value;
+    }
+
+    private static JsonNode applyPatch(JsonNode value, String clogPatch) {
+        // A version written without its value breaks the chain until the next snapshot
+        if (clogPatch == null) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_VERSION_NOT_FOUND);
+        }
+        JsonNode patch = ChangeLogSnapshots.readValue(clogPatch);
+        if (!patch.isArray()) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_VAL);
+        }
+        try {
+            return JsonPatches.apply(value, (ArrayNode) patch);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_VAL);
+        }
+    }
+}
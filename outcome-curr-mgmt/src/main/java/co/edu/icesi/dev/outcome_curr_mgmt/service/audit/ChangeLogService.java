@@ -2,15 +2,18 @@ package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.audit.ChangeLogFilterInDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogOutDTO;
-import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogPageOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogVersionOutDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
 
 import java.util.List;
 
 public interface ChangeLogService {
 
-    Changelog addChange(ChangeLogAction clogAction,String clogAffectedRecordId,String clogAffectedTable,Object clogLogNewVal,Object clogLogOldVal);
+    void addChange(ChangeLogAction clogAction,String clogAffectedRecordId,String clogAffectedTable,Object clogLogNewVal,Object clogLogOldVal);
     List<ChangeLogOutDTO> getAllChanges();
     List<ChangeLogOutDTO> getAllChangesByFilter(ChangeLogFilterInDTO changeLogDateFilterInDTO);
+    ChangeLogPageOutDTO searchChanges(ChangeLogFilterInDTO changeLogFilterInDTO, String cursor, int limit);
+    ChangeLogVersionOutDTO getVersion(String clogAffectedTable, String clogAffectedRecordId, int clogVersion);
 
 }
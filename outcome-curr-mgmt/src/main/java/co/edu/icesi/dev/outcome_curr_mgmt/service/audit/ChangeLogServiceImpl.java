@@ -2,21 +2,25 @@ package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.audit.ChangeLogFilterInDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogPageOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.audit.ChangeLogVersionOutDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
 import co.edu.icesi.dev.outcome_curr_mgmt.mapper.audit.ChangeLogMapper;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
-import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.User;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.ChangelogOutbox;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogOutboxRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogRepository;
-import co.edu.icesi.dev.outcome_curr_mgmt.persistence.management.UserRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util.SaamfiJwtTools;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.Timestamp;
 import java.text.ParseException;
@@ -24,6 +28,12 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 
+import static co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogSpecifications.affectedTable;
+import static co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogSpecifications.before;
+import static co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogSpecifications.timestampFrom;
+import static co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogSpecifications.timestampTo;
+import static co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogSpecifications.usrName;
+
 @Service
 @RequiredArgsConstructor
 public class ChangeLogServiceImpl implements ChangeLogService {
@@ -31,52 +41,53 @@ public class ChangeLogServiceImpl implements ChangeLogService {
     private final ChangeLogRepository changeLogRepository;
     private final ChangeLogMapper changeLogMapper;
 
-    private final UserRepository userRepository;
+    private final ChangeLogOutboxRepository changeLogOutboxRepository;
+    private final ChangeLogWriter changeLogWriter;
     private final SaamfiJwtTools saamfiJwtTools;
 
     public static final String DATEFORMAT = "dd/MM/yyyy HH:mm";
 
+    static final int MAX_SEARCH_LIMIT = 500;
+
+    /**
+     * Captures the change and its serialized values in the outbox as part of the caller's transaction, so the event
+     * commits or rolls back with it. The values are serialized here because callers pass managed entities that keep
+     * changing afterwards. The user lookup and the changelog insert are left to {@link ChangeLogWriter}, which is
+     * notified once the transaction commits.
+     */
     @Transactional(propagation = Propagation.MANDATORY)
     @Override
-    public Changelog addChange(ChangeLogAction clogAction, String clogAffectedRecordId,
+    public void addChange(ChangeLogAction clogAction, String clogAffectedRecordId,
             String clogAffectedTable, Object clogLogNewVal, Object clogLogOldVal) {
-        User user = userRepository.findByUsrName(saamfiJwtTools.getLoggedInUserUsername());
-
-        String clogLogNewValStr= entityToString(clogLogNewVal);
-        String clogLogOldValStr= entityToString(clogLogOldVal);
-
-        Changelog changelog=Changelog.builder()
+        ChangelogOutbox change=ChangelogOutbox.builder()
                 .clogAction(clogAction.toString())
                 .clogAffectedRecordId(clogAffectedRecordId)
                 .clogAffectedTable(clogAffectedTable)
-                .clogLogNewVal(clogLogNewValStr)
-                .clogLogOldVal(clogLogOldValStr)
+                .clogLogNewVal(ChangeLogSnapshots.writeValue(clogLogNewVal))
+                .clogLogOldVal(ChangeLogSnapshots.writeValue(clogLogOldVal))
                 .clogTimestamp(new Timestamp((new Date()).getTime()))
-                .user(user)
+                .usrName(saamfiJwtTools.getLoggedInUserUsername())
                 .build();
 
-        return changeLogRepository.save(changelog);
-    }
-
-    private String entityToString(Object object) {
-        ObjectMapper objectMapper=new ObjectMapper();
-        try {
-            if(object==null){
-                return null;
-            }
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_VAL);
+        long coutId = changeLogOutboxRepository.save(change).getCoutId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changeLogWriter.enqueue(coutId);
+                }
+            });
         }
-
     }
 
 
+    @Transactional(readOnly = true)
     @Override
     public List<ChangeLogOutDTO> getAllChanges() {
         return changeLogRepository.findAll().stream().map(changeLogMapper::fromChangeLog).toList();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<ChangeLogOutDTO> getAllChangesByFilter(ChangeLogFilterInDTO changeLogFilterInDTO) {
         Date startDate = null;
@@ -93,4 +104,66 @@ public class ChangeLogServiceImpl implements ChangeLogService {
                 changeLogFilterInDTO.entityName(), startDate,endDate).stream().map(changeLogMapper::fromChangeLog).toList();
 
     }
+
+    /**
+     * Keyset pagination over (clogTimestamp, clogId) descending: the cursor is the last change of the previous page
+     * and one extra row is read to know whether there is a next page, so no offset or count is needed.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public ChangeLogPageOutDTO searchChanges(ChangeLogFilterInDTO changeLogFilterInDTO, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        Specification<Changelog> specification = Specification.where(null);
+        if (changeLogFilterInDTO.usrName() != null) {
+            specification = specification.and(usrName(changeLogFilterInDTO.usrName()));
+        }
+        if (changeLogFilterInDTO.entityName() != null) {
+            specification = specification.and(affectedTable(changeLogFilterInDTO.entityName()));
+        }
+        if (changeLogFilterInDTO.clogStartDate() != null) {
+            specification = specification.and(timestampFrom(parseDate(changeLogFilterInDTO.clogStartDate())));
+        }
+        if (changeLogFilterInDTO.clogEndDate() != null) {
+            specification = specification.and(timestampTo(parseDate(changeLogFilterInDTO.clogEndDate())));
+        }
+        if (cursor != null) {
+            ChangeLogCursor position = ChangeLogCursor.decode(cursor);
+            specification = specification.and(before(position.clogTimestamp(), position.clogId()));
+        }
+
+        List<Changelog> changelogs = changeLogRepository.findNewest(specification, pageSize + 1);
+        String nextCursor = null;
+        if (changelogs.size() > pageSize) {
+            changelogs = changelogs.subList(0, pageSize);
+            nextCursor = ChangeLogCursor.of(changelogs.get(pageSize - 1)).encode();
+        }
+        return ChangeLogPageOutDTO.builder()
+                .changes(changelogs.stream().map(changeLogMapper::fromChangeLog).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Rebuilds a version from the closest snapshot at or before it, applying the patches of the versions in between.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public ChangeLogVersionOutDTO getVersion(String clogAffectedTable, String clogAffectedRecordId, int clogVersion) {
+        JsonNode value = ChangeLogHistory.rebuild(changeLogRepository, clogAffectedTable, clogAffectedRecordId,
+                clogVersion);
+        return ChangeLogVersionOutDTO.builder()
+                .clogAffectedTable(clogAffectedTable)
+                .clogAffectedRecordId(clogAffectedRecordId)
+                .clogVersion(clogVersion)
+                .clogValue(value.isNull() ? null : value.toString())
+                .build();
+    }
+
+    private Date parseDate(String date) {
+        try {
+            return new SimpleDateFormat(DATEFORMAT).parse(date);
+        } catch (ParseException e) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_DATE_FORMAT);
+        }
+    }
 }
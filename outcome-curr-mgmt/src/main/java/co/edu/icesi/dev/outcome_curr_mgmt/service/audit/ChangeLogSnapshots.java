@@ -0,0 +1,67 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization of the values captured by the changelog and gzip compression of full snapshots.
+ */
+final class ChangeLogSnapshots {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ChangeLogSnapshots() {
+    }
+
+    static JsonNode readValue(String value) {
+        if (value == null) {
+            return NullNode.getInstance();
+        }
+        try {
+            return OBJECT_MAPPER.readTree(value);
+        } catch (IOException e) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_VAL);
+        }
+    }
+
+    static String writeValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_VAL);
+        }
+    }
+
+    static byte[] compress(JsonNode value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            OBJECT_MAPPER.writeValue(gzip, value);
+        } catch (IOException e) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_VAL);
+        }
+        return bytes.toByteArray();
+    }
+
+    static JsonNode decompress(byte[] snapshot) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(snapshot))) {
+            return OBJECT_MAPPER.readTree(gzip);
+        } catch (IOException e) {
+            throw new OutCurrException(OutCurrExceptionType.CLOG_INVALID_VAL);
+        }
+    }
+}
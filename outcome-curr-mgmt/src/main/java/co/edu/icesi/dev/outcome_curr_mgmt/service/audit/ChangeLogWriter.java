@@ -0,0 +1,313 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.ChangelogOutbox;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.User;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.audit.ChangeLogVersionProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogOutboxRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.management.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Moves captured changes from the outbox to the changelog on a background thread. Ids of committed outbox rows are
+ * handed over through a bounded queue and written in batches. The outbox row holds everything the changelog needs,
+ * values included, so an id that does not fit in the queue is not lost: the row waits in the outbox, and the writer
+ * sweeps it as soon as it is done with the current batch. The sweep also runs when the queue is idle and at startup,
+ * so rows left by a crash or restart are written too. On stop the ids still queued are written before the context
+ * closes.
+ *
+ * <p>A row is read with a write lock and deleted in the same transaction that writes its changelog, so every change
+ * is written once even when the queue, the sweep and other instances reach the same row: whoever waits on the lock
+ * no longer finds the row.</p>
+ *
+ * <p>Each changelog row stores the JSON Patch from the previous version of the record, as rebuilt from the
+ * changelog, instead of both values, and a gzipped snapshot of the whole record on its first version and every
+ * {@code snapshotInterval} versions after it, which is where {@link ChangeLogService#getVersion} starts rebuilding a
+ * version from. When the previous version cannot be rebuilt the new one is stored as a snapshot. Versions are unique
+ * per record: if another writer took the same version first the batch is rolled back and left in the outbox for the
+ * next sweep, which numbers it again from the latest version.</p>
+ */
+@Component
+public class ChangeLogWriter implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogWriter.class);
+
+    private final ChangeLogOutboxRepository changeLogOutboxRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Long> pendingIds;
+    private final int batchSize;
+    private final long sweepIntervalMillis;
+    private final int snapshotInterval;
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter conflictCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private volatile boolean sweepRequested;
+    private Thread worker;
+
+    public ChangeLogWriter(ChangeLogOutboxRepository changeLogOutboxRepository,
+            ChangeLogRepository changeLogRepository, UserRepository userRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${changelog.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${changelog.writer.batch-size:100}") int batchSize,
+            @Value("${changelog.writer.sweep-interval-ms:5000}") long sweepIntervalMillis,
+            @Value("${changelog.snapshot-interval:20}") int snapshotInterval) {
+        this.changeLogOutboxRepository = changeLogOutboxRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pendingIds = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.snapshotInterval = snapshotInterval;
+        this.writtenCounter = meterRegistry.counter("changelog.written");
+        this.overflowCounter = meterRegistry.counter("changelog.queue.overflow");
+        this.conflictCounter = meterRegistry.counter("changelog.version.conflict");
+        this.batchTimer = meterRegistry.timer("changelog.batch");
+        meterRegistry.gauge("changelog.queue.size", pendingIds, BlockingQueue::size);
+    }
+
+    /**
+     * Hands over the id of a committed outbox row. Never blocks the caller: when the queue is full the row stays in
+     * the outbox and the writer sweeps it after the batch in progress.
+     */
+    public void enqueue(long coutId) {
+        if (!pendingIds.offer(coutId)) {
+            overflowCounter.increment();
+            sweepRequested = true;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "changelog-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Lets the batch in progress finish, without interrupting it, and then writes the ids still queued.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(sweepIntervalMillis + TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        sweep();
+        while (running) {
+            try {
+                if (sweepRequested) {
+                    sweepRequested = false;
+                    sweep();
+                }
+                Long first = pendingIds.poll(sweepIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (running) {
+                        sweep();
+                    }
+                    continue;
+                }
+                List<Long> ids = new ArrayList<>(batchSize);
+                ids.add(first);
+                pendingIds.drainTo(ids, batchSize - 1);
+                writeBatch(ids);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Error writing changelog batch, the changes stay in the outbox | message={}",
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes every row left in the outbox, oldest first.
+     */
+    void sweep() {
+        try {
+            int written;
+            do {
+                written = writeOutboxRows(() -> changeLogOutboxRepository
+                        .findAllByOrderByCoutIdAsc(PageRequest.of(0, batchSize)));
+            } while (written == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            logger.error("Error sweeping the changelog outbox | message={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the ids still in the queue. The rows of a batch that fails stay in the outbox for the next sweep.
+     */
+    void drain() {
+        List<Long> ids = new ArrayList<>(batchSize);
+        while (pendingIds.drainTo(ids, batchSize) > 0) {
+            try {
+                writeBatch(ids);
+            } catch (RuntimeException e) {
+                logger.error("Error writing the queued changelog on stop, the changes stay in the outbox | "
+                        + "message={}", e.getMessage(), e);
+                return;
+            }
+            ids.clear();
+        }
+    }
+
+    void writeBatch(List<Long> ids) {
+        writeOutboxRows(() -> changeLogOutboxRepository.findAllByCoutIdIn(ids));
+    }
+
+    private int writeOutboxRows(Supplier<List<ChangelogOutbox>> outboxRows) {
+        Integer written;
+        try {
+            written = batchTimer.record(() -> transactionTemplate.execute(status -> {
+                List<ChangelogOutbox> rows = outboxRows.get().stream()
+                        .sorted(Comparator.comparingLong(ChangelogOutbox::getCoutId)).toList();
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+                List<String> usrNames = rows.stream().map(ChangelogOutbox::getUsrName).filter(Objects::nonNull)
+                        .distinct().toList();
+                Map<String, User> usersByName = usrNames.isEmpty() ? Map.of()
+                        : userRepository.findAllByUsrNameIn(usrNames).stream().collect(
+                                Collectors.toMap(User::getUsrName, Function.identity(), (user, ignored) -> user));
+                Map<RecordKey, LatestVersion> latestVersions = latestVersions(rows);
+                changeLogRepository.saveAllAndFlush(rows.stream()
+                        .map(row -> toChangelog(row, usersByName, latestVersions)).toList());
+                changeLogOutboxRepository.deleteAllInBatch(rows);
+                return rows.size();
+            }));
+        } catch (DataIntegrityViolationException e) {
+            conflictCounter.increment();
+            logger.warn("Changelog version already taken, the changes stay in the outbox for the next sweep | "
+                    + "message={}", e.getMessage());
+            return 0;
+        }
+        int count = written == null ? 0 : written;
+        writtenCounter.increment(count);
+        return count;
+    }
+
+    /**
+     * Latest version of every record in the batch, with its value rebuilt from the changelog, or {@code null} when
+     * the chain from the last snapshot is broken.
+     */
+    private Map<RecordKey, LatestVersion> latestVersions(List<ChangelogOutbox> rows) {
+        Set<String> clogAffectedTables = rows.stream().map(ChangelogOutbox::getClogAffectedTable)
+                .collect(Collectors.toSet());
+        Set<String> clogAffectedRecordIds = rows.stream().map(ChangelogOutbox::getClogAffectedRecordId)
+                .collect(Collectors.toSet());
+        Set<RecordKey> keys = rows.stream()
+                .map(row -> new RecordKey(row.getClogAffectedTable(), row.getClogAffectedRecordId()))
+                .collect(Collectors.toSet());
+        Map<RecordKey, LatestVersion> latestVersions = new HashMap<>();
+        for (ChangeLogVersionProjection latest : changeLogRepository.findLatestVersions(clogAffectedTables,
+                clogAffectedRecordIds)) {
+            RecordKey key = new RecordKey(latest.clogAffectedTable(), latest.clogAffectedRecordId());
+            if (latest.clogVersion() != null && keys.contains(key)) {
+                latestVersions.put(key, new LatestVersion(latest.clogVersion(), rebuild(key, latest.clogVersion())));
+            }
+        }
+        return latestVersions;
+    }
+
+    private JsonNode rebuild(RecordKey key, int clogVersion) {
+        try {
+            return ChangeLogHistory.rebuild(changeLogRepository, key.clogAffectedTable(), key.clogAffectedRecordId(),
+                    clogVersion);
+        } catch (OutCurrException e) {
+            logger.warn("Version {} of {} {} cannot be rebuilt, the next version is stored as a snapshot",
+                    clogVersion, key.clogAffectedTable(), key.clogAffectedRecordId());
+            return null;
+        }
+    }
+
+    /**
+     * The patch goes from the latest version of the record, not from the old value captured with the change, so
+     * replaying the patches gives back every version even when callers captured the old value differently. A record
+     * without versions starts from the captured old value.
+     */
+    private Changelog toChangelog(ChangelogOutbox row, Map<String, User> usersByName,
+            Map<RecordKey, LatestVersion> latestVersions) {
+        RecordKey key = new RecordKey(row.getClogAffectedTable(), row.getClogAffectedRecordId());
+        JsonNode newValue = readValue(row, row.getClogLogNewVal());
+        LatestVersion previous = latestVersions.get(key);
+        int clogVersion = previous == null ? 1 : previous.clogVersion() + 1;
+        JsonNode base = previous == null ? readValue(row, row.getClogLogOldVal()) : previous.value();
+        latestVersions.put(key, new LatestVersion(clogVersion, newValue));
+        boolean snapshot = newValue != null && (base == null || (clogVersion - 1) % snapshotInterval == 0);
+        return Changelog.builder()
+                .clogAction(row.getClogAction())
+                .clogAffectedRecordId(row.getClogAffectedRecordId())
+                .clogAffectedTable(row.getClogAffectedTable())
+                .clogVersion(clogVersion)
+                .clogPatch(base == null || newValue == null ? null : JsonPatches.diff(base, newValue).toString())
+                .clogSnapshot(snapshot ? ChangeLogSnapshots.compress(newValue) : null)
+                .clogTimestamp(row.getClogTimestamp())
+                .user(row.getUsrName() == null ? null : usersByName.get(row.getUsrName()))
+                .build();
+    }
+
+    private static JsonNode readValue(ChangelogOutbox row, String value) {
+        try {
+            return ChangeLogSnapshots.readValue(value);
+        } catch (OutCurrException e) {
+            logger.error("Value of change {} to {} {} cannot be read, it is written without it",
+                    row.getCoutId(), row.getClogAffectedTable(), row.getClogAffectedRecordId());
+            return null;
+        }
+    }
+
+    private record LatestVersion(int clogVersion, JsonNode value) {
+    }
+
+    private record RecordKey(String clogAffectedTable, String clogAffectedRecordId) {
+    }
+}
@@ -0,0 +1,145 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diff and patch of JSON documents with the add, remove and replace operations of RFC 6902 (JSON Patch). A missing
+ * document is represented by {@link NullNode}, so creating and deleting a record replace the whole document.
+ */
+final class JsonPatches {
+
+    private static final String OP = "op";
+    private static final String PATH = "path";
+    private static final String VALUE = "value";
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+    private static final String REPLACE = "replace";
+
+    private JsonPatches() {
+    }
+
+    static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode patch = JsonNodeFactory.instance.arrayNode();
+        diff(patch, "", source, target);
+        return patch;
+    }
+
+    private static void diff(ArrayNode patch, String path, JsonNode source, JsonNode target) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (source.isObject() && target.isObject()) {
+            diffObjects(patch, path, (ObjectNode) source, (ObjectNode) target);
+        } else if (source.isArray() && target.isArray()) {
+            diffArrays(patch, path, (ArrayNode) source, (ArrayNode) target);
+        } else {
+            operation(patch, REPLACE, path).set(VALUE, target);
+        }
+    }
+
+    private static void diffObjects(ArrayNode patch, String path, ObjectNode source, ObjectNode target) {
+        Iterator<String> sourceFields = source.fieldNames();
+        while (sourceFields.hasNext()) {
+            String field = sourceFields.next();
+            if (!target.has(field)) {
+                operation(patch, REMOVE, path + "/" + escape(field));
+            }
+        }
+        Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+        while (targetFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = targetFields.next();
+            String fieldPath = path + "/" + escape(field.getKey());
+            if (source.has(field.getKey())) {
+                diff(patch, fieldPath, source.get(field.getKey()), field.getValue());
+            } else {
+                operation(patch, ADD, fieldPath).set(VALUE, field.getValue());
+            }
+        }
+    }
+
+    private static void diffArrays(ArrayNode patch, String path, ArrayNode source, ArrayNode target) {
+        int common = Math.min(source.size(), target.size());
+        for (int i = 0; i < common; i++) {
+            diff(patch, path + "/" + i, source.get(i), target.get(i));
+        }
+        for (int i = common; i < target.size(); i++) {
+            operation(patch, ADD, path + "/" + i).set(VALUE, target.get(i));
+        }
+        for (int i = source.size() - 1; i >= common; i--) {
+            operation(patch, REMOVE, path + "/" + i);
+        }
+    }
+
+    private static ObjectNode operation(ArrayNode patch, String op, String path) {
+        return patch.addObject().put(OP, op).put(PATH, path);
+    }
+
+    static JsonNode apply(JsonNode document, ArrayNode patch) {
+        JsonNode result = document.deepCopy();
+        for (JsonNode operation : patch) {
+            result = applyOperation(result, operation);
+        }
+        return result;
+    }
+
+    private static JsonNode applyOperation(JsonNode document, JsonNode operation) {
+        String op = operation.path(OP).asText();
+        List<String> tokens = tokens(operation.path(PATH).asText());
+        JsonNode value = operation.get(VALUE);
+        if (tokens.isEmpty()) {
+            if (REMOVE.equals(op)) {
+                return NullNode.getInstance();
+            }
+            return value.deepCopy();
+        }
+        JsonNode parent = document;
+        for (String token : tokens.subList(0, tokens.size() - 1)) {
+            parent = parent.isArray() ? parent.get(Integer.parseInt(token)) : parent.get(token);
+            if (parent == null) {
+                throw new IllegalArgumentException("Patch path not found: " + operation.path(PATH).asText());
+            }
+        }
+        String last = tokens.get(tokens.size() - 1);
+        if (parent instanceof ObjectNode object) {
+            if (REMOVE.equals(op)) {
+                object.remove(last);
+            } else {
+                object.set(last, value.deepCopy());
+            }
+        } else if (parent instanceof ArrayNode array) {
+            int index = "-".equals(last) ? array.size() : Integer.parseInt(last);
+            switch (op) {
+                case ADD -> array.insert(index, value.deepCopy());
+                case REMOVE -> array.remove(index);
+                default -> array.set(index, value.deepCopy());
+            }
+        } else {
+            throw new IllegalArgumentException("Patch path not found: " + operation.path(PATH).asText());
+        }
+        return document;
+    }
+
+    private static List<String> tokens(String path) {
+        List<String> tokens = new ArrayList<>();
+        if (path.isEmpty()) {
+            return tokens;
+        }
+        for (String token : path.substring(1).split("/", -1)) {
+            tokens.add(token.replace("~1", "/").replace("~0", "~"));
+        }
+        return tokens;
+    }
+
+    private static String escape(String field) {
+        return field.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -0,0 +1,7 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.banner;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.BannerImportOutDTO;
+
+public interface BannerBulkImportService {
+    BannerImportOutDTO importAll();
+}
@@ -0,0 +1,229 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.banner;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.FacultyInDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.AcadProgramOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.BannerImportOutDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client.BannerAPI;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.AcadProgramMapper;
+import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.FacultyMapper;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.AcadProgramRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogService;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.FacultyValidator;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.UserPermAccess;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports the whole institution from Banner. The program lists of all faculties are downloaded in parallel on a
+ * bounded pool, sized below the per-host connection limit of the outbound HTTP client. Existing records are found
+ * with one query per entity, and each faculty is written with its programs in its own transaction, so a failure
+ * leaves whole faculties behind. Writes stay on the calling thread, which holds the user that the changelog records.
+ */
+@Service
+public class BannerBulkImportServiceImpl implements BannerBulkImportService {
+    private static final Logger logger = LoggerFactory.getLogger(BannerBulkImportServiceImpl.class);
+    private static final String FACULTY_TABLE = "FACULTY";
+    private static final String ACAD_PROGRAM_TABLE = "ACAD_PROGRAM";
+
+    private final BannerAPI bannerAPI;
+    private final FacultyValidator facultyValidator;
+    private final FacultyRepository facultyRepository;
+    private final AcadProgramRepository acadProgramRepository;
+    private final FacultyMapper facultyMapper;
+    private final AcadProgramMapper acadProgramMapper;
+    private final ChangeLogService changeLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    public BannerBulkImportServiceImpl(BannerAPI bannerAPI, FacultyValidator facultyValidator,
+            FacultyRepository facultyRepository, AcadProgramRepository acadProgramRepository,
+            FacultyMapper facultyMapper, AcadProgramMapper acadProgramMapper, ChangeLogService changeLogService,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${banner.import.parallelism:8}") int parallelism) {
+        this.bannerAPI = bannerAPI;
+        this.facultyValidator = facultyValidator;
+        this.facultyRepository = facultyRepository;
+        this.acadProgramRepository = acadProgramRepository;
+        this.facultyMapper = facultyMapper;
+        this.acadProgramMapper = acadProgramMapper;
+        this.changeLogService = changeLogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "banner-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public BannerImportOutDTO importAll() {
+        logger.info("Checking permissions to execute this operation.");
+        facultyValidator.enforceUsrFacForFaculty(0L, UserPermAccess.ADMIN);
+        return meterRegistry.timer("banner.import").record(this::importFromBanner);
+    }
+
+    private BannerImportOutDTO importFromBanner() {
+        logger.info("Importing every faculty and academic program from Banner.");
+        List<FacultyInDTO> bannerFaculties = bannerAPI.getFacultiesList();
+        if (bannerFaculties == null || bannerFaculties.isEmpty()) {
+            logger.error("There are no faculties in Banner.");
+            throw new OutCurrException(OutCurrExceptionType.FACULTY_NOT_FOUND);
+        }
+
+        Map<String, CompletableFuture<List<AcadProgramOutDTO>>> programDownloads = new LinkedHashMap<>();
+        for (FacultyInDTO bannerFaculty : bannerFaculties) {
+            programDownloads.putIfAbsent(bannerFaculty.externalId(), CompletableFuture.supplyAsync(
+                    () -> bannerAPI.getAcadProgramsList(bannerFaculty.externalId()), executor));
+        }
+
+        ExistingFaculties existingFaculties = findExistingFaculties(bannerFaculties);
+        Map<String, List<AcadProgramOutDTO>> bannerPrograms = joinAll(programDownloads);
+        Set<String> existingProgramIds = new HashSet<>(acadProgramRepository.findAllExternalIdsByExternalIdIn(
+                bannerPrograms.values().stream().flatMap(List::stream)
+                        .map(program -> String.valueOf(program.acpId())).toList()));
+
+        ImportCounts counts = new ImportCounts();
+        Set<String> seenFacultyIds = new HashSet<>();
+        for (FacultyInDTO bannerFaculty : bannerFaculties) {
+            if (!seenFacultyIds.add(bannerFaculty.externalId())) {
+                continue;
+            }
+            Faculty faculty = existingFaculties.byExternalId().get(bannerFaculty.externalId());
+            if (faculty == null && existingFaculties.usesName(bannerFaculty)) {
+                logger.warn("Skipping faculty {}, its name is already used by another faculty.",
+                        bannerFaculty.externalId());
+                counts.facultiesSkipped++;
+                continue;
+            }
+            if (faculty != null) {
+                counts.facultiesSkipped++;
+            }
+            List<AcadProgramOutDTO> newPrograms = new ArrayList<>();
+            for (AcadProgramOutDTO bannerProgram : bannerPrograms.getOrDefault(bannerFaculty.externalId(), List.of())) {
+                if (existingProgramIds.add(String.valueOf(bannerProgram.acpId()))) {
+                    newPrograms.add(bannerProgram);
+                } else {
+                    counts.acadProgramsSkipped++;
+                }
+            }
+            if (faculty != null && newPrograms.isEmpty()) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    importFaculty(bannerFaculty, faculty, newPrograms));
+            if (faculty == null) {
+                counts.facultiesImported++;
+            }
+            counts.acadProgramsImported += newPrograms.size();
+        }
+
+        meterRegistry.counter("banner.import.faculties").increment(counts.facultiesImported);
+        meterRegistry.counter("banner.import.acadPrograms").increment(counts.acadProgramsImported);
+        logger.info("Banner import finished | facultiesImported={}, acadProgramsImported={}",
+                counts.facultiesImported, counts.acadProgramsImported);
+        return BannerImportOutDTO.builder()
+                .facultiesImported(counts.facultiesImported)
+                .facultiesSkipped(counts.facultiesSkipped)
+                .acadProgramsImported(counts.acadProgramsImported)
+                .acadProgramsSkipped(counts.acadProgramsSkipped)
+                .build();
+    }
+
+    private void importFaculty(FacultyInDTO bannerFaculty, Faculty existingFaculty,
+            List<AcadProgramOutDTO> bannerPrograms) {
+        Faculty faculty = existingFaculty;
+        if (faculty == null) {
+            faculty = facultyRepository.save(facultyMapper.facultyInDTOToFaculty(bannerFaculty));
+            changeLogService.addChange(ChangeLogAction.CREATE, Long.toString(faculty.getFacId()), FACULTY_TABLE,
+                    facultyMapper.facultyToFacultyChangeDTO(faculty), null);
+        }
+        List<AcadProgram> acadPrograms = new ArrayList<>(bannerPrograms.size());
+        for (AcadProgramOutDTO bannerProgram : bannerPrograms) {
+            AcadProgram acadProgram = acadProgramMapper.bannerAcadProgramToAcadProgram(bannerProgram);
+            acadProgram.setFaculty(faculty);
+            acadPrograms.add(acadProgram);
+        }
+        for (AcadProgram acadProgram : acadProgramRepository.saveAll(acadPrograms)) {
+            changeLogService.addChange(ChangeLogAction.CREATE, Long.toString(acadProgram.getAcpId()),
+                    ACAD_PROGRAM_TABLE, acadProgramMapper.acadProgramToAcadProgramOutDto(acadProgram), null);
+        }
+    }
+
+    private ExistingFaculties findExistingFaculties(List<FacultyInDTO> bannerFaculties) {
+        List<Faculty> faculties = facultyRepository.findAllByExternalIdInOrFacNameEngInOrFacNameSpaIn(
+                bannerFaculties.stream().map(FacultyInDTO::externalId).toList(),
+                bannerFaculties.stream().map(FacultyInDTO::facNameEng).toList(),
+                bannerFaculties.stream().map(FacultyInDTO::facNameSpa).toList());
+        Map<String, Faculty> byExternalId = new HashMap<>();
+        Set<String> names = new HashSet<>();
+        for (Faculty faculty : faculties) {
+            if (faculty.getExternalId() != null) {
+                byExternalId.put(faculty.getExternalId(), faculty);
+            }
+            names.add(faculty.getFacNameEng());
+            names.add(faculty.getFacNameSpa());
+        }
+        return new ExistingFaculties(byExternalId, names);
+    }
+
+    private static <K, V> Map<K, V> joinAll(Map<K, CompletableFuture<V>> downloads) {
+        try {
+            CompletableFuture.allOf(downloads.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        Map<K, V> results = new HashMap<>();
+        downloads.forEach((key, download) -> results.put(key, download.join()));
+        return results;
+    }
+
+    private record ExistingFaculties(Map<String, Faculty> byExternalId, Collection<String> names) {
+        boolean usesName(FacultyInDTO faculty) {
+            return names.contains(faculty.facNameEng()) || names.contains(faculty.facNameSpa());
+        }
+    }
+
+    private static class ImportCounts {
+        int facultiesImported;
+        int facultiesSkipped;
+        int acadProgramsImported;
+        int acadProgramsSkipped;
+    }
+}
@@ -31,7 +31,6 @@ public class BannerFacultyServiceImpl implements BannerFacultyService {
     private final FacultyProvider facultyProvider;
     private final BannerAPI bannerAPI;
 
-    @Transactional
     @Override
     public List<FacultyOutDTO> getBannerFaculties() {
         logger.info("Getting faculties from Banner");
@@ -46,7 +45,6 @@ public class BannerFacultyServiceImpl implements BannerFacultyService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
     @Override
     public Page<FacultyOutDTO> getBannerFacultiesPage(int page, int size) {
         logger.info("Getting faculties from banner in pages");
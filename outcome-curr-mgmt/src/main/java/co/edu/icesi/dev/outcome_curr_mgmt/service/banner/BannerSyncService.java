@@ -0,0 +1,5 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.banner;
+
+public interface BannerSyncService {
+    void synchronize();
+}
@@ -0,0 +1,383 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.banner;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.FacultyInDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.AcadProgramOutDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.FacultyOutDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client.BannerAPI;
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client.BannerConditionalPage;
+import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.AcadProgramMapper;
+import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.FacultyMapper;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.banner.BannerSyncReport;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.banner.BannerSyncState;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.banner.BannerSyncReportRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.banner.BannerSyncStateRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.AcadProgramRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps faculties and academic programs in step with Banner without pulling the whole catalog. Every page of every
+ * resource is requested with the validators Banner sent last time; a page Banner reports as not modified costs one
+ * round trip and no writes. A page that comes back is hashed, and only a changed hash applies its upserts. After
+ * every complete traversal the imported records Banner no longer lists are deactivated, together with the programs
+ * of the faculties it dropped; the check only reads local tables, so a run that follows an interrupted one still
+ * catches up. Pages are numbered from one, like Banner's.
+ */
+@Service
+public class BannerSyncServiceImpl implements BannerSyncService {
+    private static final Logger logger = LoggerFactory.getLogger(BannerSyncServiceImpl.class);
+    private static final String FACULTY_TABLE = "FACULTY";
+    private static final String ACAD_PROGRAM_TABLE = "ACAD_PROGRAM";
+    private static final String FACULTIES_RESOURCE = "faculties";
+    private static final String PROGRAMS_RESOURCE = "programs:";
+    private static final char ACTIVE = 'Y';
+    private static final char INACTIVE = 'N';
+
+    private final BannerAPI bannerAPI;
+    private final FacultyRepository facultyRepository;
+    private final AcadProgramRepository acadProgramRepository;
+    private final BannerSyncStateRepository bannerSyncStateRepository;
+    private final BannerSyncReportRepository bannerSyncReportRepository;
+    private final FacultyMapper facultyMapper;
+    private final AcadProgramMapper acadProgramMapper;
+    private final ChangeLogService changeLogService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int pageSize;
+
+    public BannerSyncServiceImpl(BannerAPI bannerAPI, FacultyRepository facultyRepository,
+            AcadProgramRepository acadProgramRepository, BannerSyncStateRepository bannerSyncStateRepository,
+            BannerSyncReportRepository bannerSyncReportRepository, FacultyMapper facultyMapper,
+            AcadProgramMapper acadProgramMapper, ChangeLogService changeLogService, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${banner.sync.page-size:50}") int pageSize) {
+        this.bannerAPI = bannerAPI;
+        this.facultyRepository = facultyRepository;
+        this.acadProgramRepository = acadProgramRepository;
+        this.bannerSyncStateRepository = bannerSyncStateRepository;
+        this.bannerSyncReportRepository = bannerSyncReportRepository;
+        this.facultyMapper = facultyMapper;
+        this.acadProgramMapper = acadProgramMapper;
+        this.changeLogService = changeLogService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    @Scheduled(cron = "${banner.sync.cron:-}")
+    public void synchronize() {
+        meterRegistry.timer("banner.sync").record(this::synchronizeWithBanner);
+    }
+
+    private void synchronizeWithBanner() {
+        logger.info("Synchronizing faculties and academic programs with Banner.");
+        SyncCounts counts = new SyncCounts();
+        Timestamp startedAt = now();
+        String status = "COMPLETED";
+        String message = null;
+        try {
+            Set<String> facultyIds = syncResource(FACULTIES_RESOURCE,
+                    (page, eTag, lastModified) -> bannerAPI.getFacultiesPageIfChanged(page, pageSize, eTag,
+                            lastModified),
+                    FacultyInDTO::externalId,
+                    content -> upsertFaculties(content, counts),
+                    counts);
+            deactivateFaculties(facultyIds, counts);
+            for (String facultyId : facultyIds) {
+                syncAcadPrograms(facultyId, counts);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Banner synchronization failed.", e);
+            status = "FAILED";
+            message = Objects.toString(e.getMessage(), e.getClass().getName());
+        } finally {
+            bannerSyncReportRepository.save(BannerSyncReport.builder()
+                    .bsrStartedAt(startedAt)
+                    .bsrFinishedAt(now())
+                    .bsrStatus(status)
+                    .bsrPagesFetched(counts.pagesFetched)
+                    .bsrPagesNotModified(counts.pagesNotModified)
+                    .bsrCreated(counts.created)
+                    .bsrUpdated(counts.updated)
+                    .bsrDeactivated(counts.deactivated)
+                    .bsrMessage(message == null ? null : message.substring(0, Math.min(message.length(), 1000)))
+                    .build());
+            meterRegistry.counter("banner.sync.pages", "result", "fetched").increment(counts.pagesFetched);
+            meterRegistry.counter("banner.sync.pages", "result", "notModified").increment(counts.pagesNotModified);
+            meterRegistry.counter("banner.sync.records", "action", "created").increment(counts.created);
+            meterRegistry.counter("banner.sync.records", "action", "updated").increment(counts.updated);
+            meterRegistry.counter("banner.sync.records", "action", "deactivated").increment(counts.deactivated);
+        }
+        logger.info("Banner synchronization finished | status={}, pagesFetched={}, pagesNotModified={}, "
+                        + "created={}, updated={}, deactivated={}", status, counts.pagesFetched,
+                counts.pagesNotModified, counts.created, counts.updated, counts.deactivated);
+    }
+
+    private void syncAcadPrograms(String facultyId, SyncCounts counts) {
+        Faculty faculty = facultyRepository.findByExternalId(facultyId).orElse(null);
+        if (faculty == null) {
+            logger.warn("Skipping the programs of faculty {}, it was not imported.", facultyId);
+            return;
+        }
+        Set<String> programIds = syncResource(PROGRAMS_RESOURCE + facultyId,
+                (page, eTag, lastModified) -> bannerAPI.getAcadProgramsPageIfChanged(facultyId, page, pageSize,
+                        eTag, lastModified),
+                program -> String.valueOf(program.acpId()),
+                content -> upsertAcadPrograms(faculty.getFacId(), content, counts),
+                counts);
+        deactivateAcadPrograms(faculty.getFacId(), programIds, counts);
+    }
+
+    /**
+     * Walks every page of a resource, applying the pages whose content changed together with their new state.
+     * The ids of an unchanged page are taken from its stored state, so the result always lists the whole resource.
+     */
+    private <T> Set<String> syncResource(String resource, PageFetcher<T> fetcher, Function<T, String> externalId,
+            Consumer<List<T>> applyChanges, SyncCounts counts) {
+        Map<Integer, BannerSyncState> states = new HashMap<>();
+        for (BannerSyncState state : bannerSyncStateRepository.findAllByBssResource(resource)) {
+            states.put(state.getBssPage(), state);
+        }
+        Set<String> externalIds = new LinkedHashSet<>();
+        int page = 1;
+        int lastPage;
+        boolean morePages;
+        do {
+            BannerSyncState state = states.get(page);
+            BannerConditionalPage<T> answer = state == null
+                    ? fetcher.fetch(page, null, null)
+                    : fetcher.fetch(page, state.getBssETag(), state.getBssLastModified());
+            List<String> pageIds;
+            if (answer.notModified() && state != null) {
+                counts.pagesNotModified++;
+                pageIds = splitIds(state.getBssExternalIds());
+                lastPage = state.getBssLastPage();
+            } else {
+                counts.pagesFetched++;
+                List<T> content = answer.content();
+                pageIds = content.stream().map(externalId).toList();
+                lastPage = answer.lastPage();
+                if (content.isEmpty() && page > 1) {
+                    break;
+                }
+                String contentHash = hash(content);
+                boolean contentChanged = state == null || !contentHash.equals(state.getBssContentHash());
+                BannerSyncState newState = state != null ? state : BannerSyncState.builder()
+                        .bssResource(resource)
+                        .bssPage(page)
+                        .build();
+                newState.setBssETag(answer.eTag());
+                newState.setBssLastModified(answer.lastModified());
+                newState.setBssContentHash(contentHash);
+                newState.setBssExternalIds(String.join(",", pageIds));
+                newState.setBssLastPage(lastPage);
+                newState.setBssSyncedAt(now());
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (contentChanged) {
+                        applyChanges.accept(content);
+                    }
+                    bannerSyncStateRepository.save(newState);
+                });
+            }
+            externalIds.addAll(pageIds);
+            //A full last page may have grown a new one that an unchanged first page cannot announce
+            morePages = page < lastPage || pageIds.size() >= pageSize;
+            page++;
+        } while (morePages);
+
+        int pagesSeen = page - 1;
+        List<BannerSyncState> stalePages = states.values().stream()
+                .filter(state -> state.getBssPage() > pagesSeen).toList();
+        if (!stalePages.isEmpty()) {
+            bannerSyncStateRepository.deleteAll(stalePages);
+        }
+        return externalIds;
+    }
+
+    private void upsertFaculties(List<FacultyInDTO> bannerFaculties, SyncCounts counts) {
+        Map<String, Faculty> existingFaculties = new HashMap<>();
+        Set<String> usedNames = new HashSet<>();
+        for (Faculty faculty : facultyRepository.findAllByExternalIdInOrFacNameEngInOrFacNameSpaIn(
+                bannerFaculties.stream().map(FacultyInDTO::externalId).toList(),
+                bannerFaculties.stream().map(FacultyInDTO::facNameEng).toList(),
+                bannerFaculties.stream().map(FacultyInDTO::facNameSpa).toList())) {
+            if (faculty.getExternalId() != null) {
+                existingFaculties.put(faculty.getExternalId(), faculty);
+            }
+            usedNames.add(faculty.getFacNameEng());
+            usedNames.add(faculty.getFacNameSpa());
+        }
+        for (FacultyInDTO bannerFaculty : bannerFaculties) {
+            Faculty faculty = existingFaculties.get(bannerFaculty.externalId());
+            if (faculty == null) {
+                if (usedNames.contains(bannerFaculty.facNameEng()) || usedNames.contains(bannerFaculty.facNameSpa())) {
+                    logger.warn("Skipping faculty {}, its name is already used by another faculty.",
+                            bannerFaculty.externalId());
+                    continue;
+                }
+                faculty = facultyRepository.save(facultyMapper.facultyInDTOToFaculty(bannerFaculty));
+                existingFaculties.put(faculty.getExternalId(), faculty);
+                changeLogService.addChange(ChangeLogAction.CREATE, Long.toString(faculty.getFacId()), FACULTY_TABLE,
+                        facultyMapper.facultyToFacultyChangeDTO(faculty), null);
+                counts.created++;
+                continue;
+            }
+            FacultyOutDTO facultyBefore = facultyMapper.facultyToFacultyChangeDTO(faculty);
+            faculty.setFacNameEng(bannerFaculty.facNameEng());
+            faculty.setFacNameSpa(bannerFaculty.facNameSpa());
+            faculty.setFacIsActive(bannerFaculty.isActive().charAt(0));
+            FacultyOutDTO facultyAfter = facultyMapper.facultyToFacultyChangeDTO(faculty);
+            if (!facultyAfter.equals(facultyBefore)) {
+                facultyRepository.save(faculty);
+                changeLogService.addChange(ChangeLogAction.UPDATE, Long.toString(faculty.getFacId()), FACULTY_TABLE,
+                        facultyAfter, facultyBefore);
+                counts.updated++;
+            }
+        }
+    }
+
+    private void upsertAcadPrograms(long facId, List<AcadProgramOutDTO> bannerPrograms, SyncCounts counts) {
+        Faculty faculty = facultyRepository.getReferenceById(facId);
+        Map<String, AcadProgram> existingPrograms = acadProgramRepository.findAllByExternalIdIn(
+                        bannerPrograms.stream().map(program -> String.valueOf(program.acpId())).toList())
+                .stream().collect(Collectors.toMap(AcadProgram::getExternalId, Function.identity()));
+        for (AcadProgramOutDTO bannerProgram : bannerPrograms) {
+            AcadProgram acadProgram = existingPrograms.get(String.valueOf(bannerProgram.acpId()));
+            if (acadProgram == null) {
+                acadProgram = acadProgramMapper.bannerAcadProgramToAcadProgram(bannerProgram);
+                acadProgram.setFaculty(faculty);
+                acadProgram = acadProgramRepository.save(acadProgram);
+                existingPrograms.put(acadProgram.getExternalId(), acadProgram);
+                changeLogService.addChange(ChangeLogAction.CREATE, Long.toString(acadProgram.getAcpId()),
+                        ACAD_PROGRAM_TABLE, acadProgramMapper.acadProgramToAcadProgramOutDto(acadProgram), null);
+                counts.created++;
+                continue;
+            }
+            AcadProgramOutDTO programBefore = acadProgramMapper.acadProgramToAcadProgramOutDto(acadProgram);
+            boolean movedFaculty = acadProgram.getFaculty() == null || acadProgram.getFaculty().getFacId() != facId;
+            acadProgramMapper.updateAcadProgramFromBanner(bannerProgram, acadProgram);
+            acadProgram.setFaculty(faculty);
+            AcadProgramOutDTO programAfter = acadProgramMapper.acadProgramToAcadProgramOutDto(acadProgram);
+            if (movedFaculty || !programAfter.equals(programBefore)) {
+                acadProgramRepository.save(acadProgram);
+                changeLogService.addChange(ChangeLogAction.UPDATE, Long.toString(acadProgram.getAcpId()),
+                        ACAD_PROGRAM_TABLE, programAfter, programBefore);
+                counts.updated++;
+            }
+        }
+    }
+
+    /**
+     * Deactivates the imported faculties Banner no longer lists and the imported programs of every one of them,
+     * including faculties deactivated by an earlier run.
+     */
+    private void deactivateFaculties(Set<String> bannerIds, SyncCounts counts) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> droppedFacIds = new ArrayList<>();
+            for (Faculty faculty : facultyRepository.findAllByExternalIdIsNotNull()) {
+                if (bannerIds.contains(faculty.getExternalId())) {
+                    continue;
+                }
+                droppedFacIds.add(faculty.getFacId());
+                if (faculty.getFacIsActive() != ACTIVE) {
+                    continue;
+                }
+                FacultyOutDTO facultyBefore = facultyMapper.facultyToFacultyChangeDTO(faculty);
+                faculty.setFacIsActive(INACTIVE);
+                facultyRepository.save(faculty);
+                changeLogService.addChange(ChangeLogAction.UPDATE, Long.toString(faculty.getFacId()), FACULTY_TABLE,
+                        facultyMapper.facultyToFacultyChangeDTO(faculty), facultyBefore);
+                counts.deactivated++;
+            }
+            if (!droppedFacIds.isEmpty()) {
+                acadProgramRepository.findAllByFacultyFacIdInAndExternalIdIsNotNullAndAcpIsActive(droppedFacIds,
+                        ACTIVE).forEach(acadProgram -> deactivateAcadProgram(acadProgram, counts));
+            }
+        });
+    }
+
+    private void deactivateAcadPrograms(long facId, Set<String> bannerIds, SyncCounts counts) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (AcadProgram acadProgram : acadProgramRepository.findAllByFacultyFacIdAndExternalIdIsNotNull(facId)) {
+                if (acadProgram.getAcpIsActive() == ACTIVE && !bannerIds.contains(acadProgram.getExternalId())) {
+                    deactivateAcadProgram(acadProgram, counts);
+                }
+            }
+        });
+    }
+
+    private void deactivateAcadProgram(AcadProgram acadProgram, SyncCounts counts) {
+        AcadProgramOutDTO programBefore = acadProgramMapper.acadProgramToAcadProgramOutDto(acadProgram);
+        acadProgram.setAcpIsActive(INACTIVE);
+        acadProgramRepository.save(acadProgram);
+        changeLogService.addChange(ChangeLogAction.UPDATE, Long.toString(acadProgram.getAcpId()),
+                ACAD_PROGRAM_TABLE, acadProgramMapper.acadProgramToAcadProgramOutDto(acadProgram), programBefore);
+        counts.deactivated++;
+    }
+
+    private String hash(Object content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(content)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not hash a Banner page", e);
+        }
+    }
+
+    private static List<String> splitIds(String externalIds) {
+        if (externalIds == null || externalIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(externalIds.split(","));
+    }
+
+    private static Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+
+    @FunctionalInterface
+    private interface PageFetcher<T> {
+        BannerConditionalPage<T> fetch(int page, String eTag, String lastModified);
+    }
+
+    private static class SyncCounts {
+        int pagesFetched;
+        int pagesNotModified;
+        int created;
+        int updated;
+        int deactivated;
+    }
+}
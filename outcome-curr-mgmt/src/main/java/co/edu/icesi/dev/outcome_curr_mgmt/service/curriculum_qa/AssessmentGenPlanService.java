@@ -1,6 +1,7 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.curriculum_qa.AssmtGenPlanInDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanDetailOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanOutDTO;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,4 +21,7 @@ public interface AssessmentGenPlanService {
 
     AssmtGenPlanOutDTO findAssesmentGenPlan(long facultyId, long acadProgId, long asgplaId,
             String assessmentGenPlanStatus);
+
+    AssmtGenPlanDetailOutDTO findAssesmentGenPlanDetail(long facultyId, long acadProgId, long asgplaId,
+            String assessmentGenPlanStatus);
 }
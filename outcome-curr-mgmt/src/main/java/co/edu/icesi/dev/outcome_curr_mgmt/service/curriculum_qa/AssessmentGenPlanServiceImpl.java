@@ -1,6 +1,7 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.curriculum_qa.AssmtGenPlanInDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanDetailOutDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.AssmtGenPlanOutDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
@@ -29,7 +30,7 @@ public class AssessmentGenPlanServiceImpl implements AssessmentGenPlanService {
     private final AssmtGenPlanMapper assessmentGenPlanMapper;
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public AssmtGenPlanOutDTO createAssmtGenPlan(long facultyId, long acadProgId, AssmtGenPlanInDTO assmtGenPlanInDTO) {
         validateAccess(facultyId, acadProgId, UserPermAccess.ADMIN, FUTURE);
         validateStructure(facultyId, acadProgId);
@@ -104,6 +105,18 @@ public class AssessmentGenPlanServiceImpl implements AssessmentGenPlanService {
                 .orElseThrow(() -> new OutCurrException(OutCurrExceptionType.ASSMTGENPLAN_INVALID_ASGPLA_ID));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AssmtGenPlanDetailOutDTO findAssesmentGenPlanDetail(long facultyId, long acadProgId, long asgplaId,
+            String assessmentGenPlanStatus) {
+        validateAccess(facultyId, acadProgId, asgplaId, UserPermAccess.QUERY,
+                AssessmentGenPlanStatus.fromString(assessmentGenPlanStatus));
+        validateStructure(facultyId, acadProgId, asgplaId);
+        return assmtGenPlanRepository.findDetailByAsgplaIdAndAsgplaStatus(asgplaId, assessmentGenPlanStatus)
+                .map(assessmentGenPlanMapper::assmtGenPlanToAssmtGenPlanDetailOutDTO)
+                .orElseThrow(() -> new OutCurrException(OutCurrExceptionType.ASSMTGENPLAN_INVALID_ASGPLA_ID));
+    }
+
     private void validateAccess(long facultyId, long acadProgId, UserPermAccess permAccess,
             AssessmentGenPlanStatus permStatus) {
         validateAccess(facultyId, acadProgId, 0L, permAccess, permStatus);
@@ -0,0 +1,47 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV, preceded by a byte order mark so spreadsheet programs read the accents of the names as UTF-8.
+ */
+class CsvCurrMapSheetWriter implements CurrMapSheetWriter {
+
+    private final Writer writer;
+
+    CsvCurrMapSheetWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeRow(String[] cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(cells[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,15 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CurrMapExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface CurrMapExportService {
+
+    void exportCurrMap(long facultyId, long acadProgId, long acadProgCurrId, CurrMapExportFormat format,
+            OutputStream outputStream) throws IOException;
+
+    void exportFacultyCurrMaps(long facultyId, CurrMapExportFormat format, OutputStream outputStream)
+            throws IOException;
+}
@@ -0,0 +1,119 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CurrMapExportFormat;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportColumnProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportCurriculumProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportRowProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_definition.AcadProgCurriculumRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa.CurrMapRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa.PerfIndicatorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes curriculum maps straight from a database cursor to the response. Only the performance indicator columns
+ * and the row of the current course are held in memory, whatever the size of the curriculum.
+ */
+@Service
+@RequiredArgsConstructor
+public class CurrMapExportServiceImpl implements CurrMapExportService {
+
+    private static final int FIXED_COLUMNS = 2;
+
+    private final CurrMapRepository currMapRepository;
+    private final PerfIndicatorRepository perfIndicatorRepository;
+    private final AcadProgCurriculumRepository acadProgCurriculumRepository;
+
+    @Transactional(readOnly = true)
+    @Override
+    public void exportCurrMap(long facultyId, long acadProgId, long acadProgCurrId, CurrMapExportFormat format,
+            OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeCurrMap(facultyId, acadProgId, acadProgCurrId, format, "CurrMap " + acadProgCurrId, writer);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void exportFacultyCurrMaps(long facultyId, CurrMapExportFormat format, OutputStream outputStream)
+            throws IOException {
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8));
+        for (CurrMapExportCurriculumProjection curriculum :
+                acadProgCurriculumRepository.findAllExportCurriculumsByFacultyId(facultyId)) {
+            String name = curriculum.acpProgNameEng() + " - " + curriculum.apcNameEng();
+            zipOutputStream.putNextEntry(new ZipEntry(toFileName(name, curriculum.acadProgCurrId(), format)));
+            writeCurrMap(facultyId, curriculum.acadProgId(), curriculum.acadProgCurrId(), format, name, writer);
+            zipOutputStream.closeEntry();
+        }
+        zipOutputStream.finish();
+    }
+
+    private void writeCurrMap(long facultyId, long acadProgId, long acadProgCurrId, CurrMapExportFormat format,
+            String sheetName, Writer writer) throws IOException {
+        List<CurrMapExportColumnProjection> columns =
+                perfIndicatorRepository.findAllExportColumnsByAcadProgCurrId(acadProgCurrId);
+        Map<Long, Integer> columnByPiId = new HashMap<>();
+        String[] header = new String[FIXED_COLUMNS + columns.size()];
+        header[0] = "Semester";
+        header[1] = "Course";
+        for (int i = 0; i < columns.size(); i++) {
+            header[FIXED_COLUMNS + i] = columns.get(i).piLongNameEng();
+            columnByPiId.put(columns.get(i).piId(), FIXED_COLUMNS + i);
+        }
+
+        CurrMapSheetWriter sheetWriter = CurrMapSheetWriter.open(format, writer, sheetName);
+        sheetWriter.writeRow(header);
+        try (Stream<CurrMapExportRowProjection> rows = currMapRepository
+                .streamExportRowsByAcadProgCurrIdAndAcadProgIdAndFacultyId(acadProgCurrId, acadProgId, facultyId)) {
+            String[] courseRow = null;
+            long courseId = 0;
+            Iterator<CurrMapExportRowProjection> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                CurrMapExportRowProjection row = iterator.next();
+                if (courseRow == null || row.courseId() != courseId) {
+                    if (courseRow != null) {
+                        sheetWriter.writeRow(courseRow);
+                    }
+                    courseRow = new String[header.length];
+                    courseRow[0] = row.semName();
+                    courseRow[1] = row.courseNameEng();
+                    courseId = row.courseId();
+                }
+                Integer column = row.piId() == null ? null : columnByPiId.get(row.piId());
+                //Rows of a cell come from the most recently accepted CurrMap, which is the one shown
+                if (column != null && courseRow[column] == null) {
+                    courseRow[column] = toCellText(row);
+                }
+            }
+            if (courseRow != null) {
+                sheetWriter.writeRow(courseRow);
+            }
+        }
+        sheetWriter.finish();
+    }
+
+    private static String toCellText(CurrMapExportRowProjection row) {
+        String category = row.piLvlCategNameEng() == null ? "" : row.piLvlCategNameEng();
+        return row.assessmentTypeNameEng() == null ? category : category + " (" + row.assessmentTypeNameEng() + ")";
+    }
+
+    private static String toFileName(String name, long acadProgCurrId, CurrMapExportFormat format) {
+        return name.replaceAll("[^\\p{L}\\p{N} ._-]", "_").trim() + " (" + acadProgCurrId + ")."
+                + format.getExtension();
+    }
+}
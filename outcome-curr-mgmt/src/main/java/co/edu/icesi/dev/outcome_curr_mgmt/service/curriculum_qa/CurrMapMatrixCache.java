@@ -0,0 +1,73 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.config.PrimaryReads;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Fully built curriculum map matrices keyed by faculty, program and curriculum. The ETag of a matrix is derived from
+ * the persisted rows it is rendered from, as fingerprinted by {@link CurrMapService#getMatrixFingerprint}, so it
+ * changes with every write that changes the matrix, including course links and writes from other instances, and
+ * stays the same across restarts. A cached matrix is only served while its ETag is still the current one, so clients
+ * can revalidate without the matrix being rebuilt. The matrices live in the {@value #CURR_MAP_MATRIX} cache declared
+ * in {@code cache.specs}, which bounds how many are kept and for how long, and the fingerprint and the matrix are both
+ * read through {@link PrimaryReads}, so neither comes from a replica that lags behind.
+ */
+@Component
+public class CurrMapMatrixCache {
+
+    public static final String CURR_MAP_MATRIX = "currMapMatrix";
+
+    public record Key(long facultyId, long acadProgId, long acadProgCurrId) {
+    }
+
+    public record Entry<T>(String eTag, T matrix) {
+    }
+
+    private record EntryKey(Key key, String mediaType) {
+    }
+
+    private final Map<Object, Object> entries;
+    private final PrimaryReads primaryReads;
+    private final CurrMapService currMapService;
+
+    public CurrMapMatrixCache(CacheManager cacheManager, PrimaryReads primaryReads, CurrMapService currMapService) {
+        if (!(cacheManager.getCache(CURR_MAP_MATRIX) instanceof CaffeineCache cache)) {
+            throw new IllegalStateException("Cache '" + CURR_MAP_MATRIX + "' is not declared in cache.specs");
+        }
+        this.entries = cache.getNativeCache().asMap();
+        this.primaryReads = primaryReads;
+        this.currMapService = currMapService;
+    }
+
+    /**
+     * ETag of the representation of the matrix served as the given media type as it is now. The media type is part
+     * of the ETag because every representation is served from the same URL and their bodies differ.
+     */
+    public String currentETag(Key key, String mediaType) {
+        String fingerprint = primaryReads.read(() -> currMapService.getMatrixFingerprint(key.facultyId(),
+                key.acadProgId(), key.acadProgCurrId()));
+        return "\"" + fingerprint + "-" + mediaType + "\"";
+    }
+
+    /**
+     * Returns the cached matrix if it was built under the current ETag, or builds it and caches it under that ETag.
+     * The ETag is read before the matrix, so a matrix built while a write commits is at least as new as its ETag, and
+     * the next request, which sees the write in the fingerprint, builds it again.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Entry<T> getOrBuild(Key key, String mediaType, String currentETag, Supplier<T> matrixBuilder) {
+        EntryKey entryKey = new EntryKey(key, mediaType);
+        Entry<T> entry = (Entry<T>) entries.get(entryKey);
+        if (entry != null && entry.eTag().equals(currentETag)) {
+            return entry;
+        }
+        Entry<T> built = new Entry<>(currentETag, primaryReads.read(matrixBuilder));
+        entries.put(entryKey, built);
+        return built;
+    }
+}
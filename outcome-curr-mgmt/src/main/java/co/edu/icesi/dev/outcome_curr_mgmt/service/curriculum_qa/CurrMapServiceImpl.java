@@ -1,9 +1,11 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CellDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CompactMatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.MatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.RowDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.ValueDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.curriculum_qa.CurrMapOutDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.mapper.curriculum_qa.CurrMapMapper;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_definition.Course;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.CurrMap;
@@ -11,6 +13,7 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.PerfIndicat
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.StudOutcome;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.CurrMapRequestStatus;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapCellProjection;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa.CurrMapRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogService;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.component.management.UserProvider;
@@ -18,12 +21,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -31,25 +43,60 @@ public class CurrMapServiceImpl implements CurrMapService {
 
     private final String TABLE_NAME = "CurrMap";
 
+    private static final CellDTO EMPTY_CELL = CellDTO.builder().values(List.of()).build();
+
     private final CurrMapRepository currMapRepository;
     private final CurrMapMapper currMapMapper;
     private final UserProvider userProvider;
     private final ChangeLogService changeLogService;
 
+    @Transactional(readOnly = true)
     @Override
-    public List<CurrMap> getAllCurrMapByAcadProgCurrIdAndPerfIndIdAndCourseId(long acadProgCurrId, long perfIndId,
-            long courseId, long acadProgId) {
-        return currMapRepository.getAllByAcadProgCurriculumApcIdAndPerfIndicatorPiIdAndCourseCourseIdAndAcadProgCurriculumAcadProgramAcpIdOrderByCmAcceptedDateDesc(
-                acadProgCurrId, perfIndId,
-                courseId, acadProgId);
+    public MatrixDTO getMatrixDTO(long acadProgCurrId, long acadProgId, List<StudOutcome> studOutcomes,
+            List<Course> courses) {
+        List<List<Map<String, String>>> matrix = buildMatrixCells(acadProgCurrId, acadProgId, studOutcomes, courses);
+        return convertMatrixToMatrixDTO(matrix);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
-    public MatrixDTO getMatrixDTO(long acadProgCurrId, long acadProgId, List<StudOutcome> studOutcomes,
+    public CompactMatrixDTO getCompactMatrixDTO(long acadProgCurrId, long acadProgId, List<StudOutcome> studOutcomes,
             List<Course> courses) {
         List<List<Map<String, String>>> matrix = buildMatrixCells(acadProgCurrId, acadProgId, studOutcomes, courses);
-        return convertMatrixToMatrixDTO(matrix);
+        return convertMatrixToCompactMatrixDTO(matrix);
+    }
+
+    /**
+     * Digest of the persisted rows the matrix is rendered from: the courses linked to the curriculum, its performance
+     * indicators and its curriculum maps, in the order the matrix reads them. Any write that changes the matrix changes
+     * the digest, whichever instance made it.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public String getMatrixFingerprint(long facultyId, long acadProgId, long acadProgCurrId) {
+        MessageDigest digest = newMatrixDigest();
+        updateDigest(digest, currMapRepository.findMatrixCourseLines(acadProgCurrId, acadProgId, facultyId));
+        updateDigest(digest, currMapRepository.findMatrixPerfIndicatorLines(acadProgCurrId, acadProgId, facultyId));
+        updateDigest(digest, currMapRepository.findAllCellsByAcadProgCurrIdAndAcadProgId(acadProgCurrId, acadProgId)
+                .stream().map(CurrMapCellProjection::toString).toList());
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private static MessageDigest newMatrixDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint the curriculum map matrix", e);
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, List<String> lines) {
+        for (String line : lines) {
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        //An empty line ends each group, so a line cannot move from one group to the next unnoticed
+        digest.update((byte) '\n');
     }
 
     @Override
@@ -68,38 +115,47 @@ public class CurrMapServiceImpl implements CurrMapService {
         if (!suggestedCurrMap.getRequestState().equals(destinationState)) {
             CurrMap prevCurrMap = getCurrMapById(prevCurrMapId);
             setCurrMapState(CurrMapRequestStatus.REPLACED.getKey(), prevCurrMap);
+            // The approval is logged once, against the suggested map; the replaced map follows from it
+            CurrMapOutDTO suggestedCurrMapBefore = currMapMapper.currMapToCurrMapOutDTO(suggestedCurrMap);
             suggestedCurrMap.setCmAcceptedDate(new Date());
             suggestedCurrMap.setCmRejectedDate(null);
             setCurrMapState(destinationState, suggestedCurrMap);
-            changeLogService.addChange(ChangeLogAction.UPDATE, String.valueOf(suggestedCurrMap.getCmId()), TABLE_NAME,
-                    suggestedCurrMap, prevCurrMap);
+            addActionToChangelog(suggestedCurrMap, suggestedCurrMapBefore);
             return;
         }
         throw new IllegalStateException("Curr map was already approved");
     }
 
     private void unapproveCurrMap(long prevCurrMapId, CurrMap suggestedCurrMap, String destinationState) {
-        CurrMap prevCurrMap = getCurrMapById(prevCurrMapId);
+        // Only the suggested map changes, but the one it would replace must still exist
+        getCurrMapById(prevCurrMapId);
+        CurrMapOutDTO suggestedCurrMapBefore = currMapMapper.currMapToCurrMapOutDTO(suggestedCurrMap);
         suggestedCurrMap.setCmAcceptedDate(null);
         suggestedCurrMap.setCmRejectedDate(null);
         setCurrMapState(destinationState, suggestedCurrMap);
-        changeLogService.addChange(ChangeLogAction.UPDATE, String.valueOf(suggestedCurrMap.getCmId()), TABLE_NAME,
-                suggestedCurrMap, prevCurrMap);
+        addActionToChangelog(suggestedCurrMap, suggestedCurrMapBefore);
     }
 
     private void rejectCurrMap(long prevCurrMapId, CurrMap suggestedCurrMap, String destinationState) {
         if (!suggestedCurrMap.getRequestState().equals(destinationState)) {
-            CurrMap prevCurrMap = getCurrMapById(prevCurrMapId);
+            // Only the suggested map changes, but the one it would replace must still exist
+            getCurrMapById(prevCurrMapId);
+            CurrMapOutDTO suggestedCurrMapBefore = currMapMapper.currMapToCurrMapOutDTO(suggestedCurrMap);
             suggestedCurrMap.setCmRejectedDate(new Date());
             suggestedCurrMap.setCmAcceptedDate(null);
             setCurrMapState(destinationState, suggestedCurrMap);
-            changeLogService.addChange(ChangeLogAction.UPDATE, String.valueOf(suggestedCurrMap.getCmId()), TABLE_NAME,
-                    suggestedCurrMap, prevCurrMap);
+            addActionToChangelog(suggestedCurrMap, suggestedCurrMapBefore);
             return;
         }
         throw new IllegalStateException("Curr map was already rejected");
     }
 
+    // A change is logged against the suggested CurrMap, before and after, so the record keeps its own history
+    private void addActionToChangelog(CurrMap currMap, CurrMapOutDTO currMapBefore) {
+        changeLogService.addChange(ChangeLogAction.UPDATE, String.valueOf(currMap.getCmId()), TABLE_NAME,
+                currMapMapper.currMapToCurrMapOutDTO(currMap), currMapBefore);
+    }
+
     private void setCurrMapState(String destinationState, CurrMap currMap) {
         currMap.setRequestState(CurrMapRequestStatus.valueOf(destinationState).toString());
 
@@ -143,8 +199,8 @@ public class CurrMapServiceImpl implements CurrMapService {
         if (orderedStudOutcomes.isEmpty())
             return;
         //The matrix has two empty cells at the beginning of the performance indicators row
-        perfIndicatorsRow.add(new HashMap<>());
-        perfIndicatorsRow.add(new HashMap<>());
+        perfIndicatorsRow.add(null);
+        perfIndicatorsRow.add(null);
         List<PerfIndicator> perfIndicators = getOrderedPerfIndicatorsFromStudOutcomes(orderedStudOutcomes);
         for (PerfIndicator perfIndicator : perfIndicators) {
             perfIndicator.initializeCellValues();
@@ -164,30 +220,31 @@ public class CurrMapServiceImpl implements CurrMapService {
             course.initializeCellValues();
             row.add(course.getSemester().getValues());
             row.add(course.getValues());
-            //The other rows are empty cells
-            for (int i = 0; i < numberOfPerfIndicators; i++) {
-                row.add(new HashMap<>());
-            }
+            //The other cells are empty, kept as null until a CurrMap fills them
+            row.addAll(Collections.nCopies(numberOfPerfIndicators, null));
             int index = matrix.size();
             matrix.add(row);
             indexById.put("c" + course.getCourseId(), index);
         }
     }
 
+    /**
+     * Fills the matrix with the latest CurrMap of every (performance indicator, course) pair, reading all the
+     * CurrMaps of the curriculum in a single query ordered from the most recently accepted.
+     */
     private void addCurrMapsToMatrix(List<StudOutcome> studOutcomes, List<Course> courses, long acadProgCurrId,
             long acadProgId, List<List<Map<String, String>>> matrix,
             Map<String, Integer> indexById) {
-        List<PerfIndicator> perfIndicators = getOrderedPerfIndicatorsFromStudOutcomes(studOutcomes);
-        for (PerfIndicator perfIndicator : perfIndicators) {
-            for (Course course : courses) {
-                List<CurrMap> currMap = getAllCurrMapByAcadProgCurrIdAndPerfIndIdAndCourseId(acadProgCurrId,
-                        perfIndicator.getPiId(), course.getCourseId(), acadProgId);
-                if (!currMap.isEmpty()) {
-                    currMap.get(0).initializeCellValues();
-                    int row = indexById.get("c" + course.getCourseId());
-                    int column = indexById.get("pi" + perfIndicator.getPiId());
-                    matrix.get(row).get(column).putAll(currMap.get(0).getValues());
-                }
+        if (studOutcomes.isEmpty() || courses.isEmpty()) {
+            return;
+        }
+        Set<Long> filledCells = new HashSet<>();
+        for (CurrMapCellProjection currMap : currMapRepository.findAllCellsByAcadProgCurrIdAndAcadProgId(
+                acadProgCurrId, acadProgId)) {
+            Integer row = indexById.get("c" + currMap.courseId());
+            Integer column = indexById.get("pi" + currMap.piId());
+            if (row != null && column != null && filledCells.add(((long) row << 32) | column)) {
+                matrix.get(row).set(column, currMap.getValues());
             }
         }
     }
@@ -198,6 +255,10 @@ public class CurrMapServiceImpl implements CurrMapService {
             List<CellDTO> cellsDTO = new ArrayList<>();
 
             for (Map<String, String> cell : row) {
+                if (cell == null) {
+                    cellsDTO.add(EMPTY_CELL);
+                    continue;
+                }
                 List<ValueDTO> values = cell.entrySet().stream().map(currMapMapper::fromMapElementToValueDTO).toList();
                 CellDTO cellDTO = CellDTO.builder()
                         .values(values)
@@ -214,6 +275,65 @@ public class CurrMapServiceImpl implements CurrMapService {
                 .build();
     }
 
+    /**
+     * Writes the matrix in the columnar form of {@link CompactMatrixDTO}: keys and strings are interned in
+     * dictionaries, cells with the same values share one entry of {@code values} and empty cells are left out.
+     */
+    private CompactMatrixDTO convertMatrixToCompactMatrixDTO(List<List<Map<String, String>>> matrix) {
+        Map<String, Integer> keyIndexes = new LinkedHashMap<>();
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        Map<Map<String, String>, Integer> valueIndexes = new HashMap<>();
+        List<Map<String, String>> distinctValues = new ArrayList<>();
+        int[] cells = new int[0];
+        int cellsLength = 0;
+        int columnCount = 0;
+        for (int rowIndex = 0; rowIndex < matrix.size(); rowIndex++) {
+            List<Map<String, String>> row = matrix.get(rowIndex);
+            columnCount = Math.max(columnCount, row.size());
+            for (int columnIndex = 0; columnIndex < row.size(); columnIndex++) {
+                Map<String, String> cell = row.get(columnIndex);
+                if (cell == null || cell.isEmpty()) {
+                    continue;
+                }
+                Integer valueIndex = valueIndexes.get(cell);
+                if (valueIndex == null) {
+                    valueIndex = distinctValues.size();
+                    valueIndexes.put(cell, valueIndex);
+                    distinctValues.add(cell);
+                    cell.forEach((key, value) -> {
+                        keyIndexes.putIfAbsent(key, keyIndexes.size());
+                        if (value != null) {
+                            stringIndexes.putIfAbsent(value, stringIndexes.size());
+                        }
+                    });
+                }
+                if (cellsLength + 3 > cells.length) {
+                    cells = Arrays.copyOf(cells, Math.max(48, cells.length * 2));
+                }
+                cells[cellsLength++] = rowIndex;
+                cells[cellsLength++] = columnIndex;
+                cells[cellsLength++] = valueIndex;
+            }
+        }
+        List<String> keys = List.copyOf(keyIndexes.keySet());
+        List<int[]> values = new ArrayList<>(distinctValues.size());
+        for (Map<String, String> cell : distinctValues) {
+            int[] stringIndexesByKey = new int[keys.size()];
+            Arrays.fill(stringIndexesByKey, -1);
+            cell.forEach((key, value) -> stringIndexesByKey[keyIndexes.get(key)] =
+                    value == null ? -1 : stringIndexes.get(value));
+            values.add(stringIndexesByKey);
+        }
+        return CompactMatrixDTO.builder()
+                .rowCount(matrix.size())
+                .columnCount(columnCount)
+                .keys(keys)
+                .strings(new ArrayList<>(stringIndexes.keySet()))
+                .values(values)
+                .cells(Arrays.copyOf(cells, cellsLength))
+                .build();
+    }
+
     private List<PerfIndicator> getOrderedPerfIndicatorsFromStudOutcomes(List<StudOutcome> orderedStudOutcomes) {
         List<PerfIndicator> perfIndicators = new ArrayList<>();
         for (StudOutcome studOutcome : orderedStudOutcomes) {
@@ -0,0 +1,27 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CurrMapExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes an exported curriculum map one row at a time, keeping nothing but the current row in memory.
+ */
+interface CurrMapSheetWriter {
+
+    void writeRow(String[] cells) throws IOException;
+
+    /**
+     * Writes whatever closes the sheet and flushes it. The underlying writer is left open so several sheets can be
+     * written to the same archive.
+     */
+    void finish() throws IOException;
+
+    static CurrMapSheetWriter open(CurrMapExportFormat format, Writer writer, String sheetName) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvCurrMapSheetWriter(writer);
+            case SPREADSHEET_XML -> new SpreadsheetXmlCurrMapSheetWriter(writer, sheetName);
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * XML Spreadsheet 2003 workbook with a single worksheet. Unlike XLSX it is one plain XML document, so it can be
+ * written as the rows arrive.
+ */
+class SpreadsheetXmlCurrMapSheetWriter implements CurrMapSheetWriter {
+
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    private final Writer writer;
+
+    SpreadsheetXmlCurrMapSheetWriter(Writer writer, String sheetName) throws IOException {
+        this.writer = writer;
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<?mso-application progid=\"Excel.Sheet\"?>\n"
+                + "<Workbook xmlns=\"urn:schemas-microsoft-com:office:spreadsheet\" "
+                + "xmlns:ss=\"urn:schemas-microsoft-com:office:spreadsheet\">\n"
+                + "<Worksheet ss:Name=\"");
+        writeEscaped(toSheetName(sheetName));
+        writer.write("\">\n<Table>\n");
+    }
+
+    @Override
+    public void writeRow(String[] cells) throws IOException {
+        writer.write("<Row>");
+        for (String cell : cells) {
+            if (cell == null) {
+                writer.write("<Cell/>");
+                continue;
+            }
+            writer.write("<Cell><Data ss:Type=\"String\">");
+            writeEscaped(cell);
+            writer.write("</Data></Cell>");
+        }
+        writer.write("</Row>\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.write("</Table>\n</Worksheet>\n</Workbook>\n");
+        writer.flush();
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                case '\n' -> writer.write("&#10;");
+                default -> {
+                    if (character >= 0x20 || character == '\t' || character == '\r') {
+                        writer.write(character);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String toSheetName(String name) {
+        String sheetName = name == null || name.isBlank() ? "CurrMap" : name.replaceAll("[\\[\\]:*?/\\\\]", " ");
+        return sheetName.length() > MAX_SHEET_NAME_LENGTH ? sheetName.substring(0, MAX_SHEET_NAME_LENGTH) : sheetName;
+    }
+}
@@ -9,6 +9,7 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.AcadProgramRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.faculty.AcadProgramPermType;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataCache;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.faculty.FacultyProvider;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.AcadProgramValidator;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.UserPermAccess;
@@ -17,10 +18,6 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +27,6 @@ import static co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.faculty.Acad
 
 @Service
 @RequiredArgsConstructor
-@CacheConfig(cacheNames = {"acadProgram"})
 public class AcadProgramServiceImpl implements AcadProgramService {
     //TODO add test coverage
     private static final Logger logger = LoggerFactory.getLogger(AcadProgramServiceImpl.class);
@@ -45,10 +41,12 @@ public class AcadProgramServiceImpl implements AcadProgramService {
 
     private final MeterRegistry meterRegistry;
 
+    private final ReferenceDataCache referenceDataCache;
+
     //TODO the program should not assume the operations are for CURRENT programs. It should also support Future
     // and Inactive, filterin according to the parameter used as input. Use the logger for errors.
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<AcadProgram> getAcadProgramsByFaculty(long facultyId) {
         // Agregar detalles contextuales al MDC
@@ -95,7 +93,7 @@ public class AcadProgramServiceImpl implements AcadProgramService {
     }
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public AcadProgramOutDTO getAcadProgram(long facultyId, long acadProgramId) {
         // Agregar detalles contextuales al MDC
@@ -115,10 +113,9 @@ public class AcadProgramServiceImpl implements AcadProgramService {
 
                 // Búsqueda del programa académico
                 logger.debug("Fetching academic program | facultyId={}, acadProgramId={}", facultyId, acadProgramId);
-                AcadProgram acadProgram = findAcadProgram(facultyId, acadProgramId);
-
-                // Conversión a DTO
-                AcadProgramOutDTO programOutDTO = acadProgramMapper.acadProgramToAcadProgramOutDto(acadProgram);
+                AcadProgramOutDTO programOutDTO = referenceDataCache.get(ReferenceDataCache.ACAD_PROGRAM,
+                        acadProgramId, () -> acadProgramMapper.acadProgramToAcadProgramOutDto(
+                                findAcadProgram(facultyId, acadProgramId)));
 
                 logger.info("Successfully retrieved academic program | facultyId={}, acadProgramId={}", facultyId, acadProgramId);
                 return programOutDTO;
@@ -135,9 +132,7 @@ public class AcadProgramServiceImpl implements AcadProgramService {
     }
 
 
-    //TODO enable AspectJ for non-injected cache calls, change visibility to non-public
-    @Cacheable(key = "#acadProgramId")
-    public AcadProgram findAcadProgram(long facultyId, long acadProgramId) {
+    private AcadProgram findAcadProgram(long facultyId, long acadProgramId) {
         // TODO: validate acadProgram is in faculty.
         return acadProgramRepository.findByAcpId(acadProgramId)
                 .orElseThrow(() -> new OutCurrException(OutCurrExceptionType.PROGACAD_INVALID_PROGRAM_ID));
@@ -191,7 +186,6 @@ public class AcadProgramServiceImpl implements AcadProgramService {
 
     @Transactional
     @Override
-    @CachePut(key = "#facultyId")
     public void updateAcadProgram(long facultyId, long acadProgramId, AcadProgramInDTO acadProgramInDTO) {
         //TODO validate the faculty
         // TODO: validate acadProgram is in faculty. Throw exception if program does not exists
@@ -203,7 +197,6 @@ public class AcadProgramServiceImpl implements AcadProgramService {
 
     @Transactional
     @Override
-    @CacheEvict(key = "#acadProgramId")
     public void deleteAcadProgram(long facultyId, long acadProgramId) {
         //TODO validate the faculty
         // TODO: validate acadProgram is in faculty. Throw exception if program does not exists
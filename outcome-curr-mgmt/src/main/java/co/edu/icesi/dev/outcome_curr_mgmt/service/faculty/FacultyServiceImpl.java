@@ -8,6 +8,7 @@ import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.FacultyMapper;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataCache;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.faculty.FacultyProvider;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.UserPermAccess;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -32,6 +33,7 @@ public class FacultyServiceImpl implements FacultyService {
     private final FacultyMapper facultyMapper;
     private final FacultyProvider facultyProvider;
     private final MeterRegistry meterRegistry;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
@@ -65,7 +67,7 @@ public class FacultyServiceImpl implements FacultyService {
 
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public FacultyOutDTO getFacultyByFacId(long facId) {
         // Agregar detalles contextuales al MDC
         MDC.put("operation", "getFacultyByFacId");
@@ -79,7 +81,8 @@ public class FacultyServiceImpl implements FacultyService {
 
             // Obtener facultad
             logger.debug("Fetching faculty with facultyId={}", facId);
-            FacultyOutDTO facultyOutDTO = facultyMapper.facultyToFacultyOutDTO(facultyProvider.findFacultyByFacId(facId));
+            FacultyOutDTO facultyOutDTO = referenceDataCache.get(ReferenceDataCache.FACULTY, facId,
+                    () -> facultyMapper.facultyToFacultyOutDTO(facultyProvider.findFacultyByFacId(facId)));
 
             logger.info("Successfully retrieved faculty | facultyId={}, facultyName={}", facId, facultyOutDTO.facNameSpa());
             return facultyOutDTO;
@@ -95,14 +98,14 @@ public class FacultyServiceImpl implements FacultyService {
     }
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public FacultyOutDTO getFacultyByFacNameInSpa(String name) {
         return facultyProvider.getFacultyByNameInSpa(name);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public FacultyOutDTO getFacultyByFacNameInEng(String name) {
         // Agregar detalles contextuales al MDC
         MDC.put("operation", "getFacultyByFacNameInEng");
@@ -134,7 +137,7 @@ public class FacultyServiceImpl implements FacultyService {
 
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<FacultyOutDTO> getFaculties() {
         logger.info("Getting all faculties of the system.");
@@ -150,7 +153,7 @@ public class FacultyServiceImpl implements FacultyService {
         facultyProvider.checkIfEngNameIsAlreadyUsed(facultyToUpdate.facNameEng());
 
         Faculty faculty = facultyProvider.findFacultyByFacId(facId);
-        FacultyOutDTO facultyBefore = facultyMapper.facultyToFacultyOutDTO(faculty);
+        FacultyOutDTO facultyBefore = facultyMapper.facultyToFacultyChangeDTO(faculty);
 
         faculty.setFacIsActive(facultyToUpdate.isActive().charAt(0));
         faculty.setFacNameSpa(facultyToUpdate.facNameSpa());
@@ -158,7 +161,8 @@ public class FacultyServiceImpl implements FacultyService {
 
         facultyRepository.save(faculty);
 
-        facultyProvider.addActionToChangelog(ChangeLogAction.UPDATE, facId,"FACULTY", faculty, facultyBefore);
+        facultyProvider.addActionToChangelog(ChangeLogAction.UPDATE, facId,"FACULTY",
+                facultyMapper.facultyToFacultyChangeDTO(faculty), facultyBefore);
         logger.info("Faculty successfully updated.");
 
         return facultyMapper.facultyToFacultyOutDTO(faculty);
@@ -173,10 +177,11 @@ public class FacultyServiceImpl implements FacultyService {
         Faculty facultyToDelete = facultyProvider.findFacultyByFacId(facId);
 
         logger.info("Checking if the faculty has academic programs, courses or users associated.");
-        if (facultyToDelete.getAcadPrograms().isEmpty() && facultyToDelete.getCourses().isEmpty()){
+        if (!facultyRepository.hasAcadProgramsOrCourses(facId)){
 
             facultyRepository.delete(facultyToDelete);
-            facultyProvider.addActionToChangelog(ChangeLogAction.DELETE, facId,"FACULTY", null, facultyToDelete);
+            facultyProvider.addActionToChangelog(ChangeLogAction.DELETE, facId,"FACULTY", null,
+                    facultyMapper.facultyToFacultyChangeDTO(facultyToDelete));
             logger.info("Faculty {} was successfully deleted.", facId);
 
         }else {
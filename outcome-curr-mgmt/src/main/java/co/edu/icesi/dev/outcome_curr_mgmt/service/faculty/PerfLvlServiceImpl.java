@@ -158,7 +158,7 @@ public class PerfLvlServiceImpl implements PerfLvlService {
         return acadProgramProvider.getAcadProgramPermStatusOfAPeriodRange(acadProgram.getStartAcPeriod(), acadProgram.getEndAcPeriod());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public PerfLvlOutDTO getPerfLvl(long perfLvlId, long acadProgId, long facultyId) {
         logger.info("Obtaining performance level of an academic program");
@@ -174,7 +174,7 @@ public class PerfLvlServiceImpl implements PerfLvlService {
 
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<PerfLvlOutDTO> getAllPerfLvls(long acadProgId, long facultyId) {
 
@@ -9,6 +9,7 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.AcPeriod;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.management.AcPeriodRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogServiceImpl;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,8 @@ public class AcPeriodServiceImpl implements AcPeriodService {
     private final AcademicPeriodMapper academicPeriodMapper;
 
     private final ChangeLogServiceImpl changeLogService;
+
+    private final ReferenceDataCache referenceDataCache;
     
     private static final String ACPERIOD = "AcPeriod";
 
@@ -62,13 +65,13 @@ public class AcPeriodServiceImpl implements AcPeriodService {
         logger.info("Action saved in the changelog");
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public AcadPeriodOutDTO searchAcademicPeriod(Long acadPeriodId) {
         logger.info("Searching a academic period with id: {}", acadPeriodId);
         verifyIdField(acadPeriodId);
 
-        return verifyAcadPeriod(acadPeriodId);
+        return referenceDataCache.get(ReferenceDataCache.AC_PERIOD, acadPeriodId, () -> verifyAcadPeriod(acadPeriodId));
     }
 
     private void verifyIdField(Long acadPeriodId){
@@ -111,7 +114,7 @@ public class AcPeriodServiceImpl implements AcPeriodService {
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public AcadPeriodOutDTO searchAcademicPeriodByNumber(int academicPeriodNumber) {
         logger.info("Searching academic period {}", academicPeriodNumber);
@@ -126,7 +129,7 @@ public class AcPeriodServiceImpl implements AcPeriodService {
         return academicPeriodMapper.fromAcadPeriod(acPeriod.get());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public AcadPeriodOutDTO searchAcademicPeriodBySpaName(String academicPeriodSpaName) {
 
@@ -142,7 +145,7 @@ public class AcPeriodServiceImpl implements AcPeriodService {
         return academicPeriodMapper.fromAcadPeriod(acPeriod.get());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<AcadPeriodOutDTO> getAllAcademicPeriods() {
         logger.info("Obtaining all academic periods");
@@ -0,0 +1,41 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.UserPermAccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.curriculum_qa.AssessmentGenPlanPermType.ASSEMTGENPLAN_ACADPROG_PERMISSIONS;
+import static co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.curriculum_qa.AssessmentGenPlanPermType.ASSEMTGENPLAN_ASSEMTGENPLAN_PERMISSIONS;
+import static co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.curriculum_qa.AssessmentGenPlanPermType.ASSEMTGENPLAN_FACULTY_PERMISSIONS;
+import static co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.faculty.AcadProgramPermType.ACADPROG_ACADPROG_PERMISSIONS;
+import static co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.faculty.AcadProgramPermType.ACADPROG_FACULTY_PERMISSIONS;
+import static co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.faculty.FacultyPermType.FAC_FACULTY_PERMISSIONS;
+
+/**
+ * Every permission list declared in the perm types, in the same instances the validators pass around. The roles named
+ * here are the only ones that get an ordinal in the role index.
+ */
+public final class DeclaredPermissions {
+
+    public static final List<List<String>> PERMISSION_LISTS = collect();
+
+    private DeclaredPermissions() {
+    }
+
+    private static List<List<String>> collect() {
+        List<List<String>> permissionLists = new ArrayList<>();
+        List.of(ASSEMTGENPLAN_FACULTY_PERMISSIONS, ASSEMTGENPLAN_ACADPROG_PERMISSIONS,
+                        ASSEMTGENPLAN_ASSEMTGENPLAN_PERMISSIONS, ACADPROG_FACULTY_PERMISSIONS,
+                        ACADPROG_ACADPROG_PERMISSIONS)
+                .forEach(byStatus -> byStatus.values().forEach(byLevel -> addAll(permissionLists, byLevel)));
+        addAll(permissionLists, FAC_FACULTY_PERMISSIONS);
+        return List.copyOf(permissionLists);
+    }
+
+    private static void addAll(List<List<String>> permissionLists,
+            Map<BasePermLevel, Map<UserPermAccess, List<String>>> byLevel) {
+        byLevel.values().forEach(byAccess -> permissionLists.addAll(byAccess.values()));
+    }
+}
@@ -0,0 +1,29 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util.RoleMask;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Masks of every permission list declared in the perm types, compiled once when the class is loaded. Lookups are by
+ * identity since validators always pass the constant lists; any other list is compiled on the fly.
+ */
+public final class PermissionMasks {
+
+    private static final Map<List<String>, RoleMask> MASKS = new IdentityHashMap<>();
+
+    static {
+        DeclaredPermissions.PERMISSION_LISTS
+                .forEach(permissionNames -> MASKS.put(permissionNames, RoleMask.of(permissionNames)));
+    }
+
+    private PermissionMasks() {
+    }
+
+    public static RoleMask of(List<String> permissionNames) {
+        RoleMask mask = MASKS.get(permissionNames);
+        return mask != null ? mask : RoleMask.of(permissionNames);
+    }
+}
@@ -0,0 +1,85 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.provider;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.config.PrimaryReads;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for faculties, academic programs and academic periods, keyed by their ids. It is called
+ * explicitly instead of through {@code @Cacheable}, so lookups made from inside the same bean are cached as well.
+ * Values are the read models built from the entities, never the entities themselves: a cached entity would be
+ * detached, with lazy collections that can no longer be loaded. {@link ReferenceDataInvalidationListener} evicts
+ * entries whenever one of those entities is written, and misses are loaded through {@link PrimaryReads}, so a lagging
+ * replica cannot put back what a write just evicted.
+ */
+@Component
+public class ReferenceDataCache {
+
+    public static final String FACULTY = "faculty";
+    public static final String ACAD_PROGRAM = "acadProgram";
+    public static final String AC_PERIOD = "acPeriod";
+
+    private final CacheManager cacheManager;
+    private final PrimaryReads primaryReads;
+
+    public ReferenceDataCache(CacheManager cacheManager, PrimaryReads primaryReads) {
+        this.cacheManager = cacheManager;
+        this.primaryReads = primaryReads;
+    }
+
+    /**
+     * Returns the cached value or loads it. Exceptions thrown by the loader, such as a not found
+     * {@code OutCurrException}, reach the caller unchanged and nothing is cached.
+     */
+    public <T> T get(String cacheName, long id, Supplier<T> loader) {
+        try {
+            return cache(cacheName).get(id, () -> primaryReads.read(loader));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Evicts one entry now and, when called inside a transaction, once more after it commits, so no reader can
+     * cache the data that was there before the commit.
+     */
+    public void evict(String cacheName, long id) {
+        runNowAndAfterCommit(() -> cache(cacheName).evict(id));
+    }
+
+    /**
+     * Clears a whole cache, now and again after the current transaction commits, for writes whose previous owner is
+     * no longer known.
+     */
+    public void evictAll(String cacheName) {
+        runNowAndAfterCommit(() -> cache(cacheName).clear());
+    }
+
+    private Cache cache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + cacheName + "' is not declared in cache.specs");
+        }
+        return cache;
+    }
+
+    private void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.provider;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.AcPeriod;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Entity listener for everything held by the {@link ReferenceDataCache}. A faculty is cached with its programs, so a
+ * written program clears every cached faculty: a program moved to another faculty also has to leave the faculty it
+ * was in, and that one is no longer known once the program has been written.
+ */
+@RequiredArgsConstructor
+public class ReferenceDataInvalidationListener {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Object entity) {
+        if (entity instanceof Faculty faculty) {
+            referenceDataCache.evict(ReferenceDataCache.FACULTY, faculty.getFacId());
+        } else if (entity instanceof AcadProgram acadProgram) {
+            referenceDataCache.evict(ReferenceDataCache.ACAD_PROGRAM, acadProgram.getAcpId());
+            referenceDataCache.evictAll(ReferenceDataCache.FACULTY);
+        } else if (entity instanceof AcPeriod acPeriod) {
+            referenceDataCache.evict(ReferenceDataCache.AC_PERIOD, acPeriod.getAcPeriodId());
+        }
+    }
+}
@@ -26,7 +26,7 @@ public class AcadProgramProviderImpl implements AcadProgramProvider {
                 .orElseThrow(() -> new OutCurrException(OutCurrExceptionType.PROGACAD_INVALID_PROGRAM_ID));
     }
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public AcadProgramPermType.AcadProgramPermStatus getAcadProgramPermStatusOfAPeriodRange(AcPeriod startAcadPeriod,
             AcPeriod endAcadPeriod) {
         int startAcadPeriodNumeric = startAcadPeriod.getAcPeriodNumeric();
@@ -8,8 +8,8 @@ import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.UserPermAcce
 
 public interface FacultyProvider {
     FacultyOutDTO saveFaculty(FacultyInDTO facultyInDTO);
-    void addActionToChangelog(ChangeLogAction action, long facId, String affectedTables, Faculty newfaculty,
-            Object oldFaculty);
+    void addActionToChangelog(ChangeLogAction action, long facId, String affectedTables, FacultyOutDTO newFaculty,
+            FacultyOutDTO oldFaculty);
     Faculty findFacultyByFacId(long facId);
     void checkIfEngNameIsAlreadyUsed(String facNameEng);
     void checkIfSpaNameIsAlreadyUsed(String facNameSpa);
@@ -9,12 +9,12 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogService;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataCache;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.FacultyValidator;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.UserPermAccess;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -43,28 +43,31 @@ public class FacultyProviderImpl implements FacultyProvider{
 
         logger.info("Faculty successfully saved.");
 
-        addActionToChangelog(ChangeLogAction.CREATE, newFaculty.getFacId(),"FACULTY", newFaculty, null);
+        addActionToChangelog(ChangeLogAction.CREATE, newFaculty.getFacId(),"FACULTY",
+                facultyMapper.facultyToFacultyChangeDTO(newFaculty), null);
 
         return facultyMapper.facultyToFacultyOutDTO(newFaculty);
     }
     @Override
-    public void addActionToChangelog(ChangeLogAction action, long facId, String affectedTables, Faculty newfaculty,
-            Object oldFaculty){
+    public void addActionToChangelog(ChangeLogAction action, long facId, String affectedTables,
+            FacultyOutDTO newFaculty, FacultyOutDTO oldFaculty){
         logger.info("Saving the {} action of a faculty in the changelog", action.name());
 
         changeLogService.addChange(
                 action,
                 Long.toString(facId),
                 affectedTables,
-                newfaculty,
+                newFaculty,
                 oldFaculty);
 
         logger.info("The {} action of a faculty was saved in the changelog", action.name());
     }
 
-    //TODO jcmunoz: enable AspectJ for non-injected cache calls, change visibility to non-public
+    /**
+     * Loads the managed faculty for callers that read its associations or write it. Callers that only need the
+     * faculty's read model go through the {@link ReferenceDataCache} instead.
+     */
     @Override
-    //@Cacheable(key = "#facultyId")
     public Faculty findFacultyByFacId(long facId) {
         logger.info("Finding a faculty by its id ");
         Optional<Faculty> foundedFaculty = facultyRepository.findById(facId);
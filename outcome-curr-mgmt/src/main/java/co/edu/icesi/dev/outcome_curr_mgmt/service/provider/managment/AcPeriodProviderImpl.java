@@ -13,7 +13,7 @@ public class AcPeriodProviderImpl implements AcPeriodProvider {
     private int currentAcPeriod;
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public int getCurrentAcPeriod() {
         return currentAcPeriod;
     }
@@ -157,7 +157,7 @@ public class AssessmentGenPlanValidatorImpl extends BaseValidator implements Ass
         validateAssmtGenPlanCreation(assmtGenPlanInDTO);
         AssmtGenPlan assmtGenPlan = assmtGenPlanRepository.findById(asgplaId)
                 .orElseThrow(() -> new OutCurrException(OutCurrExceptionType.ASSMTGENPLAN_INVALID_ASGPLA_ID));
-        if (assmtGenPlanInDTO.numberCycles() < assmtGenPlan.getAssmtPlanCycles().size()) {
+        if (assmtGenPlanInDTO.numberCycles() < assmtGenPlanRepository.countAssmtPlanCyclesByAsgplaId(asgplaId)) {
             throw new OutCurrException(OutCurrExceptionType.ASSMTGENPLAN_INVALID_NEW_CYCLES);
         }
         return assmtGenPlan;
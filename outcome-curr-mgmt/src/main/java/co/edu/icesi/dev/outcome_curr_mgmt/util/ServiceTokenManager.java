@@ -0,0 +1,165 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Holds the token an outbound client logs in with. The token is renewed in the background shortly before the
+ * {@code exp} it carries, so callers do not wait on a login; only the first call, or one made after a failed
+ * renewal let the token expire, logs in on the caller's thread. Logins are single-flight: callers that need a token
+ * while one is being requested wait for that one instead of logging in again. Tokens that live shorter than the
+ * refresh margin are renewed halfway through their lifetime, and never sooner than {@code MIN_REFRESH_DELAY}, so a
+ * short lived token cannot turn the renewal into a login loop.
+ */
+public class ServiceTokenManager implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ServiceTokenManager.class);
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(10);
+    private static final Duration MIN_REFRESH_DELAY = Duration.ofSeconds(5);
+
+    private record Token(String value, Instant expiresAt) {
+    }
+
+    private final String name;
+    private final Supplier<String> login;
+    private final Duration refreshAhead;
+    private final Duration fallbackLifetime;
+    private final ScheduledExecutorService scheduler;
+    private final Clock clock;
+    private final Object lock = new Object();
+    private volatile Token current;
+    private CompletableFuture<Token> inFlight;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * @param login            requests a new token from the remote service
+     * @param refreshAhead     how long before the expiry the token is renewed
+     * @param fallbackLifetime lifetime of tokens that carry no readable {@code exp}
+     */
+    public ServiceTokenManager(String name, Supplier<String> login, Duration refreshAhead, Duration fallbackLifetime) {
+        this(name, login, refreshAhead, fallbackLifetime, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemUTC());
+    }
+
+    ServiceTokenManager(String name, Supplier<String> login, Duration refreshAhead, Duration fallbackLifetime,
+            ScheduledExecutorService scheduler, Clock clock) {
+        this.name = name;
+        this.login = login;
+        this.refreshAhead = refreshAhead;
+        this.fallbackLifetime = fallbackLifetime;
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    public String getToken() {
+        Token token = current;
+        if (token != null && clock.instant().isBefore(token.expiresAt())) {
+            return token.value();
+        }
+        try {
+            return refresh().join().value();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private CompletableFuture<Token> refresh() {
+        CompletableFuture<Token> refresh;
+        synchronized (lock) {
+            if (inFlight != null) {
+                return inFlight;
+            }
+            refresh = new CompletableFuture<>();
+            inFlight = refresh;
+        }
+        try {
+            String value = login.get();
+            Token token = new Token(value, expiryOf(value));
+            current = token;
+            refresh.complete(token);
+            scheduleRefresh(refreshDelay(Duration.between(clock.instant(), token.expiresAt())));
+        } catch (RuntimeException e) {
+            refresh.completeExceptionally(e);
+        } finally {
+            synchronized (lock) {
+                inFlight = null;
+            }
+        }
+        return refresh;
+    }
+
+    private Duration refreshDelay(Duration lifetime) {
+        Duration delay = lifetime.minus(refreshAhead);
+        Duration halfLifetime = lifetime.dividedBy(2);
+        if (delay.compareTo(halfLifetime) < 0) {
+            delay = halfLifetime;
+        }
+        return delay.compareTo(MIN_REFRESH_DELAY) < 0 ? MIN_REFRESH_DELAY : delay;
+    }
+
+    private void refreshInBackground() {
+        try {
+            refresh().join();
+            logger.debug("Renewed the {} token.", name);
+        } catch (RuntimeException e) {
+            logger.warn("Could not renew the {} token, retrying in {}: {}", name, RETRY_DELAY, e.getMessage());
+            scheduleRefresh(RETRY_DELAY);
+        }
+    }
+
+    private void scheduleRefresh(Duration delay) {
+        synchronized (lock) {
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+            }
+            try {
+                scheduledRefresh = scheduler.schedule(this::refreshInBackground, delay.toMillis(),
+                        TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                scheduledRefresh = null;
+            }
+        }
+    }
+
+    private Instant expiryOf(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length == 3) {
+            try {
+                JsonNode exp = JSON.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+                if (exp != null && exp.canConvertToLong()) {
+                    return Instant.ofEpochSecond(exp.asLong());
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                logger.warn("Could not read the expiry of the {} token: {}", name, e.getMessage());
+            }
+        }
+        return clock.instant().plus(fallbackLifetime);
+    }
+}
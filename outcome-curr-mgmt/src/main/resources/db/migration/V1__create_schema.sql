@@ -0,0 +1,549 @@
+-- Baseline schema: every table, primary key and foreign key mapped in model/entity, and the sequences behind the
+-- generated ids. Sequences advance by 50, the allocation size of the pooled-lo optimizer. Written in the subset of
+-- PostgreSQL that H2 also runs in PostgreSQL mode.
+
+CREATE SEQUENCE ACAD_PROGRAM_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ACAD_PROG_CURRICULUM_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE AC_PERIOD_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ASSESSMENT_TYPE_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ASSMT_GEN_PLAN_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ASSMT_PLAN_CYCLE_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ASSMT_PLAN_OUT_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ASSMT_PLAN_PI_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ASSMT_PLAN_SUBCYCLEV_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE BANNER_SYNC_REPORT_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE BANNER_SYNC_STATE_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE CHANGELOG_OUTBOX_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE CHANGELOG_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE COURSE_BLOCK_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE COURSE_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE CURR_MAP_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE END_GOAL_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE FACTOR_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE FACULTY_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IMPROVEMENT_PLAN_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE NOTIFICATION_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE OFFERED_COURSE_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE PERF_INDICATOR_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE PERF_LVL_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE PI_LVL_CATEG_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE ROLEE_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE RUBRIC_CELL_FILLED_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE RUBRIC_CELL_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE RUBRIC_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE SEMESTER_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE STUD_OUTCOME_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE USERS_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE ACAD_PROGRAM (
+    ACP_ID BIGINT NOT NULL,
+    ACP_IS_ACTIVE CHAR(1),
+    ACP_PROG_DESC_ENG VARCHAR(255),
+    ACP_PROG_DESC_SPA VARCHAR(255),
+    ACP_PROG_NAME_ENG VARCHAR(255),
+    ACP_PROG_NAME_SPA VARCHAR(255),
+    ACP_SNIES VARCHAR(255),
+    EXTERNAL_ID VARCHAR(255),
+    END_AC_PERIOD_ID BIGINT,
+    START_AC_PERIOD_ID BIGINT,
+    FAC_FAC_ID BIGINT,
+    CONSTRAINT ACAD_PROGRAM_PK PRIMARY KEY (ACP_ID)
+);
+
+CREATE TABLE ACAD_PROG_CURRICULUM (
+    APC_ID BIGINT NOT NULL,
+    APC_NAME_ENG VARCHAR(255),
+    APC_NAME_SPA VARCHAR(255),
+    ACADP_ACP_ID BIGINT,
+    START_PERIOD BIGINT,
+    END_PERIOD BIGINT,
+    CONSTRAINT ACAD_PROG_CURRICULUM_PK PRIMARY KEY (APC_ID)
+);
+
+CREATE TABLE ACP_COURSEBLOCK (
+    ACADP_ACP_ID BIGINT NOT NULL,
+    BL_BLOCK_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT ACP_COURSEBLOCK_PK PRIMARY KEY (ACADP_ACP_ID, BL_BLOCK_ID)
+);
+
+CREATE TABLE AC_PERIOD (
+    AC_PERIOD_ID BIGINT NOT NULL,
+    AC_PERIOD_NAME_ENG VARCHAR(255),
+    AC_PERIOD_NAME_SPA VARCHAR(255),
+    AC_PERIOD_NUMERIC INTEGER,
+    CONSTRAINT AC_PERIOD_PK PRIMARY KEY (AC_PERIOD_ID)
+);
+
+CREATE TABLE ASSESSMENT_TYPE (
+    AT_ID BIGINT NOT NULL,
+    AT_IS_ACTIVE CHAR(1),
+    AT_NAME_ENG VARCHAR(255),
+    AT_NAME_SPA VARCHAR(255),
+    ACADP_ACP_ID BIGINT,
+    CONSTRAINT ASSESSMENT_TYPE_PK PRIMARY KEY (AT_ID)
+);
+
+CREATE TABLE ASSMT_GEN_PLAN (
+    ASGPLA_ID BIGINT NOT NULL,
+    ASGPLA_STATUS VARCHAR(255),
+    ACADP_ACP_ID BIGINT,
+    START_AC_PERIOD_ID BIGINT,
+    END_AC_PERIOD_ID BIGINT,
+    CONSTRAINT ASSMT_GEN_PLAN_PK PRIMARY KEY (ASGPLA_ID)
+);
+
+CREATE TABLE ASSMT_PLAN_CYCLE (
+    ASGPLACYCLE_ID BIGINT NOT NULL,
+    END_AC_PERIOD_ID BIGINT,
+    START_AC_PERIOD_ID BIGINT,
+    AGENP_ASGPLA_ID BIGINT,
+    CONSTRAINT ASSMT_PLAN_CYCLE_PK PRIMARY KEY (ASGPLACYCLE_ID)
+);
+
+CREATE TABLE ASSMT_PLAN_OUT (
+    ASPNOUT_ID BIGINT NOT NULL,
+    ASPNOUT_CDIO_LEVEL_3 VARCHAR(255),
+    ASPNOUT_EVALUATION_DATE DATE,
+    COLLECT_AC_PERIOD_ID BIGINT,
+    ASSESS_AC_PERIOD_ID BIGINT,
+    APLANSUB_ASGPLASUBCYCLE_ID BIGINT,
+    SO_SO_ID BIGINT,
+    CONSTRAINT ASSMT_PLAN_OUT_PK PRIMARY KEY (ASPNOUT_ID)
+);
+
+CREATE TABLE ASSMT_PLAN_PI (
+    ASPNPI_ID BIGINT NOT NULL,
+    ASPNPI_ASSESSMENT_METHOD VARCHAR(255),
+    ASPNPI_FILE_URL VARCHAR(255),
+    APLANOUT_ASPNOUT_ID BIGINT,
+    PI_PI_ID BIGINT,
+    USR_USR_ID BIGINT,
+    CONSTRAINT ASSMT_PLAN_PI_PK PRIMARY KEY (ASPNPI_ID)
+);
+
+CREATE TABLE ASSMT_PLAN_SUBCYCLEV (
+    ASGPLASUBCYCLE_ID BIGINT NOT NULL,
+    AP_AC_PERIOD_ID BIGINT,
+    APLANC_ASGPLACYCLE_ID BIGINT,
+    CONSTRAINT ASSMT_PLAN_SUBCYCLEV_PK PRIMARY KEY (ASGPLASUBCYCLE_ID)
+);
+
+CREATE TABLE BANNER_SYNC_REPORT (
+    BSR_ID BIGINT NOT NULL,
+    BSR_STARTED_AT TIMESTAMP(6),
+    BSR_FINISHED_AT TIMESTAMP(6),
+    BSR_STATUS VARCHAR(255),
+    BSR_PAGES_FETCHED INTEGER,
+    BSR_PAGES_NOT_MODIFIED INTEGER,
+    BSR_CREATED INTEGER,
+    BSR_UPDATED INTEGER,
+    BSR_DEACTIVATED INTEGER,
+    BSR_MESSAGE VARCHAR(1000),
+    CONSTRAINT BANNER_SYNC_REPORT_PK PRIMARY KEY (BSR_ID)
+);
+
+CREATE TABLE BANNER_SYNC_STATE (
+    BSS_ID BIGINT NOT NULL,
+    BSS_RESOURCE VARCHAR(255),
+    BSS_PAGE INTEGER,
+    BSS_LAST_PAGE INTEGER,
+    BSS_ETAG VARCHAR(255),
+    BSS_LAST_MODIFIED VARCHAR(255),
+    BSS_CONTENT_HASH VARCHAR(255),
+    BSS_EXTERNAL_IDS TEXT,
+    BSS_SYNCED_AT TIMESTAMP(6),
+    CONSTRAINT BANNER_SYNC_STATE_PK PRIMARY KEY (BSS_ID)
+);
+
+CREATE TABLE CB_ACADPCUR (
+    BL_BLOCK_ID BIGINT NOT NULL,
+    ACADP_CUR_APC_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT CB_ACADPCUR_PK PRIMARY KEY (BL_BLOCK_ID, ACADP_CUR_APC_ID)
+);
+
+CREATE TABLE CHANGELOG (
+    CLOG_ID BIGINT NOT NULL,
+    CLOG_ACTION VARCHAR(255),
+    CLOG_AFFECTED_RECORD_ID VARCHAR(255),
+    CLOG_AFFECTED_TABLE VARCHAR(255),
+    CLOG_LOG_NEW_VAL VARCHAR(1000),
+    CLOG_LOG_OLD_VAL VARCHAR(1000),
+    CLOG_VERSION INTEGER,
+    CLOG_PATCH TEXT,
+    CLOG_SNAPSHOT BYTEA,
+    CLOG_TIMESTAMP TIMESTAMP(6),
+    USR_USR_ID BIGINT,
+    CONSTRAINT CHANGELOG_PK PRIMARY KEY (CLOG_ID)
+);
+
+CREATE TABLE CHANGELOG_OUTBOX (
+    COUT_ID BIGINT NOT NULL,
+    CLOG_ACTION VARCHAR(255),
+    CLOG_AFFECTED_RECORD_ID VARCHAR(255),
+    CLOG_AFFECTED_TABLE VARCHAR(255),
+    CLOG_LOG_NEW_VAL TEXT,
+    CLOG_LOG_OLD_VAL TEXT,
+    CLOG_TIMESTAMP TIMESTAMP(6),
+    USR_NAME VARCHAR(255),
+    CONSTRAINT CHANGELOG_OUTBOX_PK PRIMARY KEY (COUT_ID)
+);
+
+CREATE TABLE COURSE (
+    COURSE_ID BIGINT NOT NULL,
+    COURSE_CREDITS INTEGER,
+    COURSE_DESCRIPTION_ENG VARCHAR(255),
+    COURSE_DESCRIPTION_SPA VARCHAR(255),
+    COURSE_GENERAL_GOAL_ENG VARCHAR(255),
+    COURSE_GENERAL_GOAL_SPA VARCHAR(255),
+    COURSE_HOURLY_INTENSITY INTEGER,
+    COURSE_IS_ACTIVE CHAR(1),
+    COURSE_NAME_ENG VARCHAR(255),
+    COURSE_NAME_SPA VARCHAR(255),
+    COURSE_WEEKLY_INTENSITY INTEGER,
+    EXTERNAL_ID VARCHAR(255),
+    END_AC_PERIOD_ID BIGINT,
+    START_AC_PERIOD_ID BIGINT,
+    PREVIOUS_COURSE_ID BIGINT,
+    FAC_FAC_ID BIGINT,
+    SEM_SEM_ID BIGINT,
+    CREATOR_USR_ID BIGINT,
+    CONSTRAINT COURSE_PK PRIMARY KEY (COURSE_ID)
+);
+
+CREATE TABLE COURSE_BLOCK (
+    BLOCK_ID BIGINT NOT NULL,
+    BLOCK_IS_ACTIVE CHAR(1),
+    BLOCK_NAME_ENG VARCHAR(255),
+    BLOCK_NAME_SPA VARCHAR(255),
+    END_AC_PERIOD_ID BIGINT,
+    START_AC_PERIOD_ID BIGINT,
+    CONSTRAINT COURSE_BLOCK_PK PRIMARY KEY (BLOCK_ID)
+);
+
+CREATE TABLE COURSE_BLOCK_COUSE (
+    BL_BLOCK_ID BIGINT NOT NULL,
+    CRS_COURSE_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT COURSE_BLOCK_COUSE_PK PRIMARY KEY (BL_BLOCK_ID, CRS_COURSE_ID)
+);
+
+CREATE TABLE COURSE_CURR (
+    ACADP_CUR_APC_ID BIGINT NOT NULL,
+    CRS_COURSE_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT COURSE_CURR_PK PRIMARY KEY (ACADP_CUR_APC_ID, CRS_COURSE_ID)
+);
+
+CREATE TABLE CURR_MAP (
+    CM_ID BIGINT NOT NULL,
+    CM_ACCEPTED_DATE DATE,
+    CM_COMMENT VARCHAR(255),
+    CM_REJECTED_DATE DATE,
+    CM_REQUEST_DATE DATE,
+    REQUEST_STATE VARCHAR(255),
+    ACADP_CUR_APC_ID BIGINT,
+    ASSMT_TYPE_AT_ID BIGINT,
+    CRS_COURSE_ID BIGINT,
+    PI_PI_ID BIGINT,
+    PILV_CATEG_ID BIGINT,
+    CREATOR_USR_ID BIGINT,
+    APPR_USR_ID BIGINT,
+    CONSTRAINT CURR_MAP_PK PRIMARY KEY (CM_ID)
+);
+
+CREATE TABLE END_GOAL (
+    EG_ID BIGINT NOT NULL,
+    EG_LONG_NAME_ENG VARCHAR(255),
+    EG_LONG_NAME_SPA VARCHAR(255),
+    EG_SHORT_NAME_ENG VARCHAR(255),
+    EG_SHORT_NAME_SPA VARCHAR(255),
+    CRS_COURSE_ID BIGINT,
+    CONSTRAINT END_GOAL_PK PRIMARY KEY (EG_ID)
+);
+
+CREATE TABLE FACTOR (
+    FACTOR_ID BIGINT NOT NULL,
+    FACTOR_DESC_ENG VARCHAR(255),
+    FACTOR_DESC_SPA VARCHAR(255),
+    PI_PI_ID BIGINT,
+    CONSTRAINT FACTOR_PK PRIMARY KEY (FACTOR_ID)
+);
+
+CREATE TABLE FACULTY (
+    FAC_ID BIGINT NOT NULL,
+    FAC_IS_ACTIVE CHAR(1),
+    FAC_NAME_ENG VARCHAR(255),
+    FAC_NAME_SPA VARCHAR(255),
+    EXTERNAL_ID VARCHAR(255),
+    CONSTRAINT FACULTY_PK PRIMARY KEY (FAC_ID)
+);
+
+CREATE TABLE IMPROVEMENT_PLAN (
+    IMP_ID BIGINT NOT NULL,
+    AUTHOR VARCHAR(255),
+    IMP_ACTION VARCHAR(255),
+    TIME_STAMP DATE,
+    AGENP_ASGPLA_ID BIGINT,
+    CONSTRAINT IMPROVEMENT_PLAN_PK PRIMARY KEY (IMP_ID)
+);
+
+CREATE TABLE NOTIFICATION (
+    NOTI_ID BIGINT NOT NULL,
+    NOTI_CREATION_DATE DATE,
+    NOTI_DESCRIPTION VARCHAR(255),
+    NOTI_TITLE VARCHAR(255),
+    CONSTRAINT NOTIFICATION_PK PRIMARY KEY (NOTI_ID)
+);
+
+CREATE TABLE NOTIFICATION_ROLE (
+    NOT_NOTI_ID BIGINT NOT NULL,
+    ROLEE_ROLE_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT NOTIFICATION_ROLE_PK PRIMARY KEY (NOT_NOTI_ID, ROLEE_ROLE_ID)
+);
+
+CREATE TABLE OFFERED_COURSE (
+    OFC_ID BIGINT NOT NULL,
+    OFC_GROUP_NUMBER INTEGER,
+    OFC_IS_ACTIVE CHAR(1),
+    OFC_NRC INTEGER,
+    AP_AC_PERIOD_ID BIGINT,
+    CRS_COURSE_ID BIGINT,
+    CONSTRAINT OFFERED_COURSE_PK PRIMARY KEY (OFC_ID)
+);
+
+CREATE TABLE PERFIND_ENDGOAL (
+    PI_PI_ID BIGINT NOT NULL,
+    EGOAL_EG_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT PERFIND_ENDGOAL_PK PRIMARY KEY (PI_PI_ID, EGOAL_EG_ID)
+);
+
+CREATE TABLE PERF_INDICATOR (
+    PI_ID BIGINT NOT NULL,
+    PI_ACRONYM VARCHAR(255),
+    PI_LONG_NAME_ENG VARCHAR(1000),
+    PI_LONG_NAME_SPA VARCHAR(1000),
+    PI_ORDINAL_NUMBER INTEGER,
+    PI_SHORT_NAME_ENG VARCHAR(255),
+    PI_SHORT_NAME_SPA VARCHAR(255),
+    SO_SO_ID BIGINT,
+    CONSTRAINT PERF_INDICATOR_PK PRIMARY KEY (PI_ID)
+);
+
+CREATE TABLE PERF_LVL (
+    PL_ID BIGINT NOT NULL,
+    PL_IS_ACTIVE CHAR(1),
+    PL_NAME_ENG VARCHAR(255),
+    PL_NAME_SPA VARCHAR(255),
+    PL_ORDER INTEGER,
+    ACADP_ACP_ID BIGINT,
+    CONSTRAINT PERF_LVL_PK PRIMARY KEY (PL_ID)
+);
+
+CREATE TABLE PI_LVL_CATEG (
+    CATEG_ID BIGINT NOT NULL,
+    CATEG_IS_ACTIVE CHAR(1),
+    CATEG_NAME_ENG VARCHAR(255),
+    CATEG_NAME_SPA VARCHAR(255),
+    CATEG_POSITION INTEGER,
+    ACADP_ACP_ID BIGINT,
+    CONSTRAINT PI_LVL_CATEG_PK PRIMARY KEY (CATEG_ID)
+);
+
+CREATE TABLE READING_STATUS (
+    USR_USR_ID BIGINT NOT NULL,
+    NOT_NOTI_ID BIGINT NOT NULL,
+    HAS_BEEN_READ VARCHAR(255),
+    CONSTRAINT READING_STATUS_PK PRIMARY KEY (USR_USR_ID, NOT_NOTI_ID)
+);
+
+CREATE TABLE ROLEE (
+    ROLEE_ID BIGINT NOT NULL,
+    CONSTRAINT ROLEE_PK PRIMARY KEY (ROLEE_ID)
+);
+
+CREATE TABLE RUBRIC (
+    RB_ID BIGINT NOT NULL,
+    RB_IS_ACTIVE CHAR(1),
+    FCT_FACTOR_ID BIGINT,
+    CONSTRAINT RUBRIC_PK PRIMARY KEY (RB_ID)
+);
+
+CREATE TABLE RUBRIC_CELL (
+    RC_ID BIGINT NOT NULL,
+    RC_PERF_LEVEL_DESCRIP_ENG VARCHAR(255),
+    RC_PERF_LEVEL_DESCRIP_SPA VARCHAR(255),
+    AP_AC_PERIOD_ID BIGINT,
+    PELV_PL_ID BIGINT,
+    RUB_RB_ID BIGINT,
+    CONSTRAINT RUBRIC_CELL_PK PRIMARY KEY (RC_ID)
+);
+
+CREATE TABLE RUBRIC_CELL_FILLED (
+    RCF_ID BIGINT NOT NULL,
+    RCF_EXP_LEVEL_OF_ACHIEVEMENT INTEGER,
+    RCF_REAL_LEVEL_OF_ACHIEVEMENT INTEGER,
+    OFC_OFC_ID BIGINT,
+    RC_RC_ID BIGINT,
+    CONSTRAINT RUBRIC_CELL_FILLED_PK PRIMARY KEY (RCF_ID)
+);
+
+CREATE TABLE SEMESTER (
+    SEM_ID BIGINT NOT NULL,
+    SEM_NAME VARCHAR(255),
+    CONSTRAINT SEMESTER_PK PRIMARY KEY (SEM_ID)
+);
+
+CREATE TABLE STUD_OUTCOME (
+    SO_ID BIGINT NOT NULL,
+    SO_ACRONYM VARCHAR(255),
+    SO_IS_ACTIVE CHAR(1),
+    SO_LONG_NAME_ENG VARCHAR(1000),
+    SO_LONG_NAME_SPA VARCHAR(1000),
+    SO_ORDINAL_NUMBER INTEGER,
+    SO_SHORT_NAME_ENG VARCHAR(255),
+    SO_SHORT_NAME_SPA VARCHAR(255),
+    AGENP_ASGPLA_ID BIGINT,
+    CONSTRAINT STUD_OUTCOME_PK PRIMARY KEY (SO_ID)
+);
+
+CREATE TABLE USERS (
+    USR_ID BIGINT NOT NULL,
+    USR_EMAIL VARCHAR(255),
+    USR_IS_ACTIVE CHAR(1),
+    USR_NAME VARCHAR(255),
+    CONSTRAINT USERS_PK PRIMARY KEY (USR_ID)
+);
+
+CREATE TABLE USR_ASSMT_GEN (
+    USR_USR_ID BIGINT NOT NULL,
+    AGENP_ASGPLA_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT USR_ASSMT_GEN_PK PRIMARY KEY (USR_USR_ID, AGENP_ASGPLA_ID)
+);
+
+CREATE TABLE USR_BLOCK (
+    USR_USR_ID BIGINT NOT NULL,
+    BL_BLOCK_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT USR_BLOCK_PK PRIMARY KEY (USR_USR_ID, BL_BLOCK_ID)
+);
+
+CREATE TABLE USR_FAC (
+    USR_USR_ID BIGINT NOT NULL,
+    FAC_FAC_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT USR_FAC_PK PRIMARY KEY (USR_USR_ID, FAC_FAC_ID)
+);
+
+CREATE TABLE USR_OFFCOURSE (
+    OFC_OFC_ID BIGINT NOT NULL,
+    USR_USR_ID BIGINT NOT NULL,
+    USFOFC_IS_TEACHER VARCHAR(255),
+    CONSTRAINT USR_OFFCOURSE_PK PRIMARY KEY (OFC_OFC_ID, USR_USR_ID)
+);
+
+CREATE TABLE USR_OUTCOME (
+    USR_USR_ID BIGINT NOT NULL,
+    SO_SO_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT USR_OUTCOME_PK PRIMARY KEY (USR_USR_ID, SO_SO_ID)
+);
+
+CREATE TABLE USR_PRG (
+    USR_USR_ID BIGINT NOT NULL,
+    ACADP_ACP_ID BIGINT NOT NULL,
+    MANY2MANY VARCHAR(255),
+    CONSTRAINT USR_PRG_PK PRIMARY KEY (USR_USR_ID, ACADP_ACP_ID)
+);
+
+CREATE TABLE ACPCU_SO (
+    SO_SO_ID BIGINT NOT NULL,
+    ACADP_CUR_APC_ID BIGINT NOT NULL,
+    CONSTRAINT ACPCU_SO_PK PRIMARY KEY (SO_SO_ID, ACADP_CUR_APC_ID)
+);
+
+ALTER TABLE ACAD_PROGRAM ADD CONSTRAINT ACAD_PROGRAM_END_AC_PERIOD_ID_FK FOREIGN KEY (END_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ACAD_PROGRAM ADD CONSTRAINT ACAD_PROGRAM_START_AC_PERIOD_ID_FK FOREIGN KEY (START_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ACAD_PROGRAM ADD CONSTRAINT ACAD_PROGRAM_FAC_FAC_ID_FK FOREIGN KEY (FAC_FAC_ID) REFERENCES FACULTY (FAC_ID);
+ALTER TABLE ACAD_PROG_CURRICULUM ADD CONSTRAINT ACAD_PROG_CURRICULUM_ACADP_ACP_ID_FK FOREIGN KEY (ACADP_ACP_ID) REFERENCES ACAD_PROGRAM (ACP_ID);
+ALTER TABLE ACAD_PROG_CURRICULUM ADD CONSTRAINT ACAD_PROG_CURRICULUM_START_PERIOD_FK FOREIGN KEY (START_PERIOD) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ACAD_PROG_CURRICULUM ADD CONSTRAINT ACAD_PROG_CURRICULUM_END_PERIOD_FK FOREIGN KEY (END_PERIOD) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ACP_COURSEBLOCK ADD CONSTRAINT ACP_COURSEBLOCK_ACADP_ACP_ID_FK FOREIGN KEY (ACADP_ACP_ID) REFERENCES ACAD_PROGRAM (ACP_ID);
+ALTER TABLE ACP_COURSEBLOCK ADD CONSTRAINT ACP_COURSEBLOCK_BL_BLOCK_ID_FK FOREIGN KEY (BL_BLOCK_ID) REFERENCES COURSE_BLOCK (BLOCK_ID);
+ALTER TABLE ASSESSMENT_TYPE ADD CONSTRAINT ASSESSMENT_TYPE_ACADP_ACP_ID_FK FOREIGN KEY (ACADP_ACP_ID) REFERENCES ACAD_PROGRAM (ACP_ID);
+ALTER TABLE ASSMT_GEN_PLAN ADD CONSTRAINT ASSMT_GEN_PLAN_ACADP_ACP_ID_FK FOREIGN KEY (ACADP_ACP_ID) REFERENCES ACAD_PROGRAM (ACP_ID);
+ALTER TABLE ASSMT_GEN_PLAN ADD CONSTRAINT ASSMT_GEN_PLAN_START_AC_PERIOD_ID_FK FOREIGN KEY (START_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ASSMT_GEN_PLAN ADD CONSTRAINT ASSMT_GEN_PLAN_END_AC_PERIOD_ID_FK FOREIGN KEY (END_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ASSMT_PLAN_CYCLE ADD CONSTRAINT ASSMT_PLAN_CYCLE_END_AC_PERIOD_ID_FK FOREIGN KEY (END_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ASSMT_PLAN_CYCLE ADD CONSTRAINT ASSMT_PLAN_CYCLE_START_AC_PERIOD_ID_FK FOREIGN KEY (START_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ASSMT_PLAN_CYCLE ADD CONSTRAINT ASSMT_PLAN_CYCLE_AGENP_ASGPLA_ID_FK FOREIGN KEY (AGENP_ASGPLA_ID) REFERENCES ASSMT_GEN_PLAN (ASGPLA_ID);
+ALTER TABLE ASSMT_PLAN_OUT ADD CONSTRAINT ASSMT_PLAN_OUT_COLLECT_AC_PERIOD_ID_FK FOREIGN KEY (COLLECT_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ASSMT_PLAN_OUT ADD CONSTRAINT ASSMT_PLAN_OUT_ASSESS_AC_PERIOD_ID_FK FOREIGN KEY (ASSESS_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ASSMT_PLAN_OUT ADD CONSTRAINT ASSMT_PLAN_OUT_APLANSUB_ASGPLASUBCYCLE_ID_FK FOREIGN KEY (APLANSUB_ASGPLASUBCYCLE_ID) REFERENCES ASSMT_PLAN_SUBCYCLEV (ASGPLASUBCYCLE_ID);
+ALTER TABLE ASSMT_PLAN_OUT ADD CONSTRAINT ASSMT_PLAN_OUT_SO_SO_ID_FK FOREIGN KEY (SO_SO_ID) REFERENCES STUD_OUTCOME (SO_ID);
+ALTER TABLE ASSMT_PLAN_PI ADD CONSTRAINT ASSMT_PLAN_PI_APLANOUT_ASPNOUT_ID_FK FOREIGN KEY (APLANOUT_ASPNOUT_ID) REFERENCES ASSMT_PLAN_OUT (ASPNOUT_ID);
+ALTER TABLE ASSMT_PLAN_PI ADD CONSTRAINT ASSMT_PLAN_PI_PI_PI_ID_FK FOREIGN KEY (PI_PI_ID) REFERENCES PERF_INDICATOR (PI_ID);
+ALTER TABLE ASSMT_PLAN_PI ADD CONSTRAINT ASSMT_PLAN_PI_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE ASSMT_PLAN_SUBCYCLEV ADD CONSTRAINT ASSMT_PLAN_SUBCYCLEV_AP_AC_PERIOD_ID_FK FOREIGN KEY (AP_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE ASSMT_PLAN_SUBCYCLEV ADD CONSTRAINT ASSMT_PLAN_SUBCYCLEV_APLANC_ASGPLACYCLE_ID_FK FOREIGN KEY (APLANC_ASGPLACYCLE_ID) REFERENCES ASSMT_PLAN_CYCLE (ASGPLACYCLE_ID);
+ALTER TABLE CB_ACADPCUR ADD CONSTRAINT CB_ACADPCUR_ACADP_CUR_APC_ID_FK FOREIGN KEY (ACADP_CUR_APC_ID) REFERENCES ACAD_PROG_CURRICULUM (APC_ID);
+ALTER TABLE CB_ACADPCUR ADD CONSTRAINT CB_ACADPCUR_BL_BLOCK_ID_FK FOREIGN KEY (BL_BLOCK_ID) REFERENCES COURSE_BLOCK (BLOCK_ID);
+ALTER TABLE CHANGELOG ADD CONSTRAINT CHANGELOG_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE COURSE ADD CONSTRAINT COURSE_END_AC_PERIOD_ID_FK FOREIGN KEY (END_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE COURSE ADD CONSTRAINT COURSE_START_AC_PERIOD_ID_FK FOREIGN KEY (START_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE COURSE ADD CONSTRAINT COURSE_PREVIOUS_COURSE_ID_FK FOREIGN KEY (PREVIOUS_COURSE_ID) REFERENCES COURSE (COURSE_ID);
+ALTER TABLE COURSE ADD CONSTRAINT COURSE_FAC_FAC_ID_FK FOREIGN KEY (FAC_FAC_ID) REFERENCES FACULTY (FAC_ID);
+ALTER TABLE COURSE ADD CONSTRAINT COURSE_SEM_SEM_ID_FK FOREIGN KEY (SEM_SEM_ID) REFERENCES SEMESTER (SEM_ID);
+ALTER TABLE COURSE ADD CONSTRAINT COURSE_CREATOR_USR_ID_FK FOREIGN KEY (CREATOR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE COURSE_BLOCK ADD CONSTRAINT COURSE_BLOCK_END_AC_PERIOD_ID_FK FOREIGN KEY (END_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE COURSE_BLOCK ADD CONSTRAINT COURSE_BLOCK_START_AC_PERIOD_ID_FK FOREIGN KEY (START_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE COURSE_BLOCK_COUSE ADD CONSTRAINT COURSE_BLOCK_COUSE_CRS_COURSE_ID_FK FOREIGN KEY (CRS_COURSE_ID) REFERENCES COURSE (COURSE_ID);
+ALTER TABLE COURSE_BLOCK_COUSE ADD CONSTRAINT COURSE_BLOCK_COUSE_BL_BLOCK_ID_FK FOREIGN KEY (BL_BLOCK_ID) REFERENCES COURSE_BLOCK (BLOCK_ID);
+ALTER TABLE COURSE_CURR ADD CONSTRAINT COURSE_CURR_ACADP_CUR_APC_ID_FK FOREIGN KEY (ACADP_CUR_APC_ID) REFERENCES ACAD_PROG_CURRICULUM (APC_ID);
+ALTER TABLE COURSE_CURR ADD CONSTRAINT COURSE_CURR_CRS_COURSE_ID_FK FOREIGN KEY (CRS_COURSE_ID) REFERENCES COURSE (COURSE_ID);
+ALTER TABLE CURR_MAP ADD CONSTRAINT CURR_MAP_ACADP_CUR_APC_ID_FK FOREIGN KEY (ACADP_CUR_APC_ID) REFERENCES ACAD_PROG_CURRICULUM (APC_ID);
+ALTER TABLE CURR_MAP ADD CONSTRAINT CURR_MAP_ASSMT_TYPE_AT_ID_FK FOREIGN KEY (ASSMT_TYPE_AT_ID) REFERENCES ASSESSMENT_TYPE (AT_ID);
+ALTER TABLE CURR_MAP ADD CONSTRAINT CURR_MAP_CRS_COURSE_ID_FK FOREIGN KEY (CRS_COURSE_ID) REFERENCES COURSE (COURSE_ID);
+ALTER TABLE CURR_MAP ADD CONSTRAINT CURR_MAP_PI_PI_ID_FK FOREIGN KEY (PI_PI_ID) REFERENCES PERF_INDICATOR (PI_ID);
+ALTER TABLE CURR_MAP ADD CONSTRAINT CURR_MAP_PILV_CATEG_ID_FK FOREIGN KEY (PILV_CATEG_ID) REFERENCES PI_LVL_CATEG (CATEG_ID);
+ALTER TABLE CURR_MAP ADD CONSTRAINT CURR_MAP_CREATOR_USR_ID_FK FOREIGN KEY (CREATOR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE CURR_MAP ADD CONSTRAINT CURR_MAP_APPR_USR_ID_FK FOREIGN KEY (APPR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE END_GOAL ADD CONSTRAINT END_GOAL_CRS_COURSE_ID_FK FOREIGN KEY (CRS_COURSE_ID) REFERENCES COURSE (COURSE_ID);
+ALTER TABLE FACTOR ADD CONSTRAINT FACTOR_PI_PI_ID_FK FOREIGN KEY (PI_PI_ID) REFERENCES PERF_INDICATOR (PI_ID);
+ALTER TABLE IMPROVEMENT_PLAN ADD CONSTRAINT IMPROVEMENT_PLAN_AGENP_ASGPLA_ID_FK FOREIGN KEY (AGENP_ASGPLA_ID) REFERENCES ASSMT_GEN_PLAN (ASGPLA_ID);
+ALTER TABLE NOTIFICATION_ROLE ADD CONSTRAINT NOTIFICATION_ROLE_NOT_NOTI_ID_FK FOREIGN KEY (NOT_NOTI_ID) REFERENCES NOTIFICATION (NOTI_ID);
+ALTER TABLE NOTIFICATION_ROLE ADD CONSTRAINT NOTIFICATION_ROLE_ROLEE_ROLE_ID_FK FOREIGN KEY (ROLEE_ROLE_ID) REFERENCES ROLEE (ROLEE_ID);
+ALTER TABLE OFFERED_COURSE ADD CONSTRAINT OFFERED_COURSE_AP_AC_PERIOD_ID_FK FOREIGN KEY (AP_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE OFFERED_COURSE ADD CONSTRAINT OFFERED_COURSE_CRS_COURSE_ID_FK FOREIGN KEY (CRS_COURSE_ID) REFERENCES COURSE (COURSE_ID);
+ALTER TABLE PERFIND_ENDGOAL ADD CONSTRAINT PERFIND_ENDGOAL_EGOAL_EG_ID_FK FOREIGN KEY (EGOAL_EG_ID) REFERENCES END_GOAL (EG_ID);
+ALTER TABLE PERFIND_ENDGOAL ADD CONSTRAINT PERFIND_ENDGOAL_PI_PI_ID_FK FOREIGN KEY (PI_PI_ID) REFERENCES PERF_INDICATOR (PI_ID);
+ALTER TABLE PERF_INDICATOR ADD CONSTRAINT PERF_INDICATOR_SO_SO_ID_FK FOREIGN KEY (SO_SO_ID) REFERENCES STUD_OUTCOME (SO_ID);
+ALTER TABLE PERF_LVL ADD CONSTRAINT PERF_LVL_ACADP_ACP_ID_FK FOREIGN KEY (ACADP_ACP_ID) REFERENCES ACAD_PROGRAM (ACP_ID);
+ALTER TABLE PI_LVL_CATEG ADD CONSTRAINT PI_LVL_CATEG_ACADP_ACP_ID_FK FOREIGN KEY (ACADP_ACP_ID) REFERENCES ACAD_PROGRAM (ACP_ID);
+ALTER TABLE READING_STATUS ADD CONSTRAINT READING_STATUS_NOT_NOTI_ID_FK FOREIGN KEY (NOT_NOTI_ID) REFERENCES NOTIFICATION (NOTI_ID);
+ALTER TABLE READING_STATUS ADD CONSTRAINT READING_STATUS_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE RUBRIC ADD CONSTRAINT RUBRIC_FCT_FACTOR_ID_FK FOREIGN KEY (FCT_FACTOR_ID) REFERENCES FACTOR (FACTOR_ID);
+ALTER TABLE RUBRIC_CELL ADD CONSTRAINT RUBRIC_CELL_AP_AC_PERIOD_ID_FK FOREIGN KEY (AP_AC_PERIOD_ID) REFERENCES AC_PERIOD (AC_PERIOD_ID);
+ALTER TABLE RUBRIC_CELL ADD CONSTRAINT RUBRIC_CELL_PELV_PL_ID_FK FOREIGN KEY (PELV_PL_ID) REFERENCES PERF_LVL (PL_ID);
+ALTER TABLE RUBRIC_CELL ADD CONSTRAINT RUBRIC_CELL_RUB_RB_ID_FK FOREIGN KEY (RUB_RB_ID) REFERENCES RUBRIC (RB_ID);
+ALTER TABLE RUBRIC_CELL_FILLED ADD CONSTRAINT RUBRIC_CELL_FILLED_OFC_OFC_ID_FK FOREIGN KEY (OFC_OFC_ID) REFERENCES OFFERED_COURSE (OFC_ID);
+ALTER TABLE RUBRIC_CELL_FILLED ADD CONSTRAINT RUBRIC_CELL_FILLED_RC_RC_ID_FK FOREIGN KEY (RC_RC_ID) REFERENCES RUBRIC_CELL (RC_ID);
+ALTER TABLE STUD_OUTCOME ADD CONSTRAINT STUD_OUTCOME_AGENP_ASGPLA_ID_FK FOREIGN KEY (AGENP_ASGPLA_ID) REFERENCES ASSMT_GEN_PLAN (ASGPLA_ID);
+ALTER TABLE USR_ASSMT_GEN ADD CONSTRAINT USR_ASSMT_GEN_AGENP_ASGPLA_ID_FK FOREIGN KEY (AGENP_ASGPLA_ID) REFERENCES ASSMT_GEN_PLAN (ASGPLA_ID);
+ALTER TABLE USR_ASSMT_GEN ADD CONSTRAINT USR_ASSMT_GEN_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE USR_BLOCK ADD CONSTRAINT USR_BLOCK_BL_BLOCK_ID_FK FOREIGN KEY (BL_BLOCK_ID) REFERENCES COURSE_BLOCK (BLOCK_ID);
+ALTER TABLE USR_BLOCK ADD CONSTRAINT USR_BLOCK_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE USR_FAC ADD CONSTRAINT USR_FAC_FAC_FAC_ID_FK FOREIGN KEY (FAC_FAC_ID) REFERENCES FACULTY (FAC_ID);
+ALTER TABLE USR_FAC ADD CONSTRAINT USR_FAC_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE USR_OFFCOURSE ADD CONSTRAINT USR_OFFCOURSE_OFC_OFC_ID_FK FOREIGN KEY (OFC_OFC_ID) REFERENCES OFFERED_COURSE (OFC_ID);
+ALTER TABLE USR_OFFCOURSE ADD CONSTRAINT USR_OFFCOURSE_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE USR_OUTCOME ADD CONSTRAINT USR_OUTCOME_SO_SO_ID_FK FOREIGN KEY (SO_SO_ID) REFERENCES STUD_OUTCOME (SO_ID);
+ALTER TABLE USR_OUTCOME ADD CONSTRAINT USR_OUTCOME_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE USR_PRG ADD CONSTRAINT USR_PRG_ACADP_ACP_ID_FK FOREIGN KEY (ACADP_ACP_ID) REFERENCES ACAD_PROGRAM (ACP_ID);
+ALTER TABLE USR_PRG ADD CONSTRAINT USR_PRG_USR_USR_ID_FK FOREIGN KEY (USR_USR_ID) REFERENCES USERS (USR_ID);
+ALTER TABLE ACPCU_SO ADD CONSTRAINT ACPCU_SO_SO_SO_ID_FK FOREIGN KEY (SO_SO_ID) REFERENCES STUD_OUTCOME (SO_ID);
+ALTER TABLE ACPCU_SO ADD CONSTRAINT ACPCU_SO_ACADP_CUR_APC_ID_FK FOREIGN KEY (ACADP_CUR_APC_ID) REFERENCES ACAD_PROG_CURRICULUM (APC_ID);
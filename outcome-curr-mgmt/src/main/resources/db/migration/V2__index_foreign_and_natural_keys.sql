@@ -0,0 +1,84 @@
+-- Indexes behind every foreign key, so joins and cascading checks do not scan the referencing table, and behind
+-- the natural keys the repositories look records up by. A foreign key that already leads the primary key or one
+-- of these indexes is not indexed again.
+
+CREATE INDEX ACAD_PROGRAM_END_AC_PERIOD_ID_IDX ON ACAD_PROGRAM (END_AC_PERIOD_ID);
+CREATE INDEX ACAD_PROGRAM_FAC_FAC_ID_IDX ON ACAD_PROGRAM (FAC_FAC_ID);
+CREATE INDEX ACAD_PROGRAM_START_AC_PERIOD_ID_IDX ON ACAD_PROGRAM (START_AC_PERIOD_ID);
+CREATE INDEX ACAD_PROG_CURRICULUM_ACADP_ACP_ID_IDX ON ACAD_PROG_CURRICULUM (ACADP_ACP_ID);
+CREATE INDEX ACAD_PROG_CURRICULUM_END_PERIOD_IDX ON ACAD_PROG_CURRICULUM (END_PERIOD);
+CREATE INDEX ACAD_PROG_CURRICULUM_START_PERIOD_IDX ON ACAD_PROG_CURRICULUM (START_PERIOD);
+CREATE INDEX ACPCU_SO_ACADP_CUR_APC_ID_IDX ON ACPCU_SO (ACADP_CUR_APC_ID);
+CREATE INDEX ACP_COURSEBLOCK_BL_BLOCK_ID_IDX ON ACP_COURSEBLOCK (BL_BLOCK_ID);
+CREATE INDEX ASSESSMENT_TYPE_ACADP_ACP_ID_IDX ON ASSESSMENT_TYPE (ACADP_ACP_ID);
+CREATE INDEX ASSMT_GEN_PLAN_END_AC_PERIOD_ID_IDX ON ASSMT_GEN_PLAN (END_AC_PERIOD_ID);
+CREATE INDEX ASSMT_GEN_PLAN_START_AC_PERIOD_ID_IDX ON ASSMT_GEN_PLAN (START_AC_PERIOD_ID);
+CREATE INDEX ASSMT_PLAN_CYCLE_AGENP_ASGPLA_ID_IDX ON ASSMT_PLAN_CYCLE (AGENP_ASGPLA_ID);
+CREATE INDEX ASSMT_PLAN_CYCLE_END_AC_PERIOD_ID_IDX ON ASSMT_PLAN_CYCLE (END_AC_PERIOD_ID);
+CREATE INDEX ASSMT_PLAN_CYCLE_START_AC_PERIOD_ID_IDX ON ASSMT_PLAN_CYCLE (START_AC_PERIOD_ID);
+CREATE INDEX ASSMT_PLAN_OUT_APLANSUB_ASGPLASUBCYCLE_ID_IDX ON ASSMT_PLAN_OUT (APLANSUB_ASGPLASUBCYCLE_ID);
+CREATE INDEX ASSMT_PLAN_OUT_ASSESS_AC_PERIOD_ID_IDX ON ASSMT_PLAN_OUT (ASSESS_AC_PERIOD_ID);
+CREATE INDEX ASSMT_PLAN_OUT_COLLECT_AC_PERIOD_ID_IDX ON ASSMT_PLAN_OUT (COLLECT_AC_PERIOD_ID);
+CREATE INDEX ASSMT_PLAN_OUT_SO_SO_ID_IDX ON ASSMT_PLAN_OUT (SO_SO_ID);
+CREATE INDEX ASSMT_PLAN_PI_APLANOUT_ASPNOUT_ID_IDX ON ASSMT_PLAN_PI (APLANOUT_ASPNOUT_ID);
+CREATE INDEX ASSMT_PLAN_PI_PI_PI_ID_IDX ON ASSMT_PLAN_PI (PI_PI_ID);
+CREATE INDEX ASSMT_PLAN_PI_USR_USR_ID_IDX ON ASSMT_PLAN_PI (USR_USR_ID);
+CREATE INDEX ASSMT_PLAN_SUBCYCLEV_APLANC_ASGPLACYCLE_ID_IDX ON ASSMT_PLAN_SUBCYCLEV (APLANC_ASGPLACYCLE_ID);
+CREATE INDEX ASSMT_PLAN_SUBCYCLEV_AP_AC_PERIOD_ID_IDX ON ASSMT_PLAN_SUBCYCLEV (AP_AC_PERIOD_ID);
+CREATE INDEX CB_ACADPCUR_ACADP_CUR_APC_ID_IDX ON CB_ACADPCUR (ACADP_CUR_APC_ID);
+CREATE INDEX COURSE_CREATOR_USR_ID_IDX ON COURSE (CREATOR_USR_ID);
+CREATE INDEX COURSE_END_AC_PERIOD_ID_IDX ON COURSE (END_AC_PERIOD_ID);
+CREATE INDEX COURSE_FAC_FAC_ID_IDX ON COURSE (FAC_FAC_ID);
+CREATE INDEX COURSE_PREVIOUS_COURSE_ID_IDX ON COURSE (PREVIOUS_COURSE_ID);
+CREATE INDEX COURSE_SEM_SEM_ID_IDX ON COURSE (SEM_SEM_ID);
+CREATE INDEX COURSE_START_AC_PERIOD_ID_IDX ON COURSE (START_AC_PERIOD_ID);
+CREATE INDEX COURSE_BLOCK_END_AC_PERIOD_ID_IDX ON COURSE_BLOCK (END_AC_PERIOD_ID);
+CREATE INDEX COURSE_BLOCK_START_AC_PERIOD_ID_IDX ON COURSE_BLOCK (START_AC_PERIOD_ID);
+CREATE INDEX COURSE_BLOCK_COUSE_CRS_COURSE_ID_IDX ON COURSE_BLOCK_COUSE (CRS_COURSE_ID);
+CREATE INDEX COURSE_CURR_CRS_COURSE_ID_IDX ON COURSE_CURR (CRS_COURSE_ID);
+CREATE INDEX CURR_MAP_ACADP_CUR_APC_ID_IDX ON CURR_MAP (ACADP_CUR_APC_ID);
+CREATE INDEX CURR_MAP_APPR_USR_ID_IDX ON CURR_MAP (APPR_USR_ID);
+CREATE INDEX CURR_MAP_ASSMT_TYPE_AT_ID_IDX ON CURR_MAP (ASSMT_TYPE_AT_ID);
+CREATE INDEX CURR_MAP_CREATOR_USR_ID_IDX ON CURR_MAP (CREATOR_USR_ID);
+CREATE INDEX CURR_MAP_CRS_COURSE_ID_IDX ON CURR_MAP (CRS_COURSE_ID);
+CREATE INDEX CURR_MAP_PILV_CATEG_ID_IDX ON CURR_MAP (PILV_CATEG_ID);
+CREATE INDEX CURR_MAP_PI_PI_ID_IDX ON CURR_MAP (PI_PI_ID);
+CREATE INDEX END_GOAL_CRS_COURSE_ID_IDX ON END_GOAL (CRS_COURSE_ID);
+CREATE INDEX FACTOR_PI_PI_ID_IDX ON FACTOR (PI_PI_ID);
+CREATE INDEX IMPROVEMENT_PLAN_AGENP_ASGPLA_ID_IDX ON IMPROVEMENT_PLAN (AGENP_ASGPLA_ID);
+CREATE INDEX NOTIFICATION_ROLE_ROLEE_ROLE_ID_IDX ON NOTIFICATION_ROLE (ROLEE_ROLE_ID);
+CREATE INDEX OFFERED_COURSE_AP_AC_PERIOD_ID_IDX ON OFFERED_COURSE (AP_AC_PERIOD_ID);
+CREATE INDEX OFFERED_COURSE_CRS_COURSE_ID_IDX ON OFFERED_COURSE (CRS_COURSE_ID);
+CREATE INDEX PERFIND_ENDGOAL_EGOAL_EG_ID_IDX ON PERFIND_ENDGOAL (EGOAL_EG_ID);
+CREATE INDEX PERF_INDICATOR_SO_SO_ID_IDX ON PERF_INDICATOR (SO_SO_ID);
+CREATE INDEX PI_LVL_CATEG_ACADP_ACP_ID_IDX ON PI_LVL_CATEG (ACADP_ACP_ID);
+CREATE INDEX READING_STATUS_NOT_NOTI_ID_IDX ON READING_STATUS (NOT_NOTI_ID);
+CREATE INDEX RUBRIC_FCT_FACTOR_ID_IDX ON RUBRIC (FCT_FACTOR_ID);
+CREATE INDEX RUBRIC_CELL_AP_AC_PERIOD_ID_IDX ON RUBRIC_CELL (AP_AC_PERIOD_ID);
+CREATE INDEX RUBRIC_CELL_PELV_PL_ID_IDX ON RUBRIC_CELL (PELV_PL_ID);
+CREATE INDEX RUBRIC_CELL_RUB_RB_ID_IDX ON RUBRIC_CELL (RUB_RB_ID);
+CREATE INDEX RUBRIC_CELL_FILLED_OFC_OFC_ID_IDX ON RUBRIC_CELL_FILLED (OFC_OFC_ID);
+CREATE INDEX RUBRIC_CELL_FILLED_RC_RC_ID_IDX ON RUBRIC_CELL_FILLED (RC_RC_ID);
+CREATE INDEX STUD_OUTCOME_AGENP_ASGPLA_ID_IDX ON STUD_OUTCOME (AGENP_ASGPLA_ID);
+CREATE INDEX USR_ASSMT_GEN_AGENP_ASGPLA_ID_IDX ON USR_ASSMT_GEN (AGENP_ASGPLA_ID);
+CREATE INDEX USR_BLOCK_BL_BLOCK_ID_IDX ON USR_BLOCK (BL_BLOCK_ID);
+CREATE INDEX USR_FAC_FAC_FAC_ID_IDX ON USR_FAC (FAC_FAC_ID);
+CREATE INDEX USR_OFFCOURSE_USR_USR_ID_IDX ON USR_OFFCOURSE (USR_USR_ID);
+CREATE INDEX USR_OUTCOME_SO_SO_ID_IDX ON USR_OUTCOME (SO_SO_ID);
+CREATE INDEX USR_PRG_ACADP_ACP_ID_IDX ON USR_PRG (ACADP_ACP_ID);
+
+CREATE UNIQUE INDEX ACAD_PROGRAM_EXTERNAL_ID_IDX ON ACAD_PROGRAM (EXTERNAL_ID);
+CREATE INDEX AC_PERIOD_NAME_SPA_IDX ON AC_PERIOD (AC_PERIOD_NAME_SPA);
+CREATE INDEX AC_PERIOD_NUMERIC_IDX ON AC_PERIOD (AC_PERIOD_NUMERIC);
+CREATE INDEX ASSMT_GEN_PLAN_PROGRAM_STATUS_IDX ON ASSMT_GEN_PLAN (ACADP_ACP_ID, ASGPLA_STATUS);
+CREATE UNIQUE INDEX BANNER_SYNC_STATE_RESOURCE_IDX ON BANNER_SYNC_STATE (BSS_RESOURCE, BSS_PAGE);
+CREATE INDEX CHANGELOG_TIMESTAMP_IDX ON CHANGELOG (CLOG_TIMESTAMP, CLOG_ID);
+CREATE INDEX CHANGELOG_TABLE_TIMESTAMP_IDX ON CHANGELOG (CLOG_AFFECTED_TABLE, CLOG_TIMESTAMP, CLOG_ID);
+CREATE INDEX CHANGELOG_USER_TIMESTAMP_IDX ON CHANGELOG (USR_USR_ID, CLOG_TIMESTAMP, CLOG_ID);
+CREATE UNIQUE INDEX CHANGELOG_RECORD_VERSION_IDX ON CHANGELOG (CLOG_AFFECTED_TABLE, CLOG_AFFECTED_RECORD_ID, CLOG_VERSION);
+CREATE INDEX FACULTY_NAME_ENG_IDX ON FACULTY (FAC_NAME_ENG);
+CREATE INDEX FACULTY_NAME_SPA_IDX ON FACULTY (FAC_NAME_SPA);
+CREATE UNIQUE INDEX FACULTY_EXTERNAL_ID_IDX ON FACULTY (EXTERNAL_ID);
+CREATE INDEX PERF_LVL_PROGRAM_NAME_SPA_IDX ON PERF_LVL (ACADP_ACP_ID, PL_NAME_SPA);
+CREATE INDEX PERF_LVL_PROGRAM_NAME_ENG_IDX ON PERF_LVL (ACADP_ACP_ID, PL_NAME_ENG);
+CREATE INDEX USERS_NAME_IDX ON USERS (USR_NAME);
@@ -0,0 +1,100 @@
+-- Moves databases created before ids were allocated in blocks of 50 to the pooled-lo optimizer.
+-- Every sequence now advances by its allocation size and restarts right after the highest id already
+-- in use; with pooled-lo, each value handed out is the first id of a block of 50. Run once, with the
+-- application stopped, before deploying the version that ships this script (PostgreSQL syntax).
+
+ALTER SEQUENCE ACAD_PROGRAM_SEQ INCREMENT BY 50;
+SELECT setval('ACAD_PROGRAM_SEQ', COALESCE((SELECT MAX(ACP_ID) FROM ACAD_PROGRAM), 0) + 1, false);
+
+ALTER SEQUENCE ACAD_PROG_CURRICULUM_SEQ INCREMENT BY 50;
+SELECT setval('ACAD_PROG_CURRICULUM_SEQ', COALESCE((SELECT MAX(APC_ID) FROM ACAD_PROG_CURRICULUM), 0) + 1, false);
+
+ALTER SEQUENCE AC_PERIOD_SEQ INCREMENT BY 50;
+SELECT setval('AC_PERIOD_SEQ', COALESCE((SELECT MAX(AC_PERIOD_ID) FROM AC_PERIOD), 0) + 1, false);
+
+ALTER SEQUENCE ASSESSMENT_TYPE_SEQ INCREMENT BY 50;
+SELECT setval('ASSESSMENT_TYPE_SEQ', COALESCE((SELECT MAX(AT_ID) FROM ASSESSMENT_TYPE), 0) + 1, false);
+
+ALTER SEQUENCE ASSMT_GEN_PLAN_SEQ INCREMENT BY 50;
+SELECT setval('ASSMT_GEN_PLAN_SEQ', COALESCE((SELECT MAX(ASGPLA_ID) FROM ASSMT_GEN_PLAN), 0) + 1, false);
+
+ALTER SEQUENCE ASSMT_PLAN_CYCLE_SEQ INCREMENT BY 50;
+SELECT setval('ASSMT_PLAN_CYCLE_SEQ', COALESCE((SELECT MAX(ASGPLACYCLE_ID) FROM ASSMT_PLAN_CYCLE), 0) + 1, false);
+
+ALTER SEQUENCE ASSMT_PLAN_OUT_SEQ INCREMENT BY 50;
+SELECT setval('ASSMT_PLAN_OUT_SEQ', COALESCE((SELECT MAX(ASPNOUT_ID) FROM ASSMT_PLAN_OUT), 0) + 1, false);
+
+ALTER SEQUENCE ASSMT_PLAN_PI_SEQ INCREMENT BY 50;
+SELECT setval('ASSMT_PLAN_PI_SEQ', COALESCE((SELECT MAX(ASPNPI_ID) FROM ASSMT_PLAN_PI), 0) + 1, false);
+
+ALTER SEQUENCE ASSMT_PLAN_SUBCYCLEV_SEQ INCREMENT BY 50;
+SELECT setval('ASSMT_PLAN_SUBCYCLEV_SEQ', COALESCE((SELECT MAX(ASGPLASUBCYCLE_ID) FROM ASSMT_PLAN_SUBCYCLEV), 0) + 1, false);
+
+ALTER SEQUENCE BANNER_SYNC_REPORT_SEQ INCREMENT BY 50;
+SELECT setval('BANNER_SYNC_REPORT_SEQ', COALESCE((SELECT MAX(BSR_ID) FROM BANNER_SYNC_REPORT), 0) + 1, false);
+
+ALTER SEQUENCE BANNER_SYNC_STATE_SEQ INCREMENT BY 50;
+SELECT setval('BANNER_SYNC_STATE_SEQ', COALESCE((SELECT MAX(BSS_ID) FROM BANNER_SYNC_STATE), 0) + 1, false);
+
+ALTER SEQUENCE CHANGELOG_OUTBOX_SEQ INCREMENT BY 50;
+SELECT setval('CHANGELOG_OUTBOX_SEQ', COALESCE((SELECT MAX(COUT_ID) FROM CHANGELOG_OUTBOX), 0) + 1, false);
+
+ALTER SEQUENCE CHANGELOG_SEQ INCREMENT BY 50;
+SELECT setval('CHANGELOG_SEQ', COALESCE((SELECT MAX(CLOG_ID) FROM CHANGELOG), 0) + 1, false);
+
+ALTER SEQUENCE COURSE_BLOCK_SEQ INCREMENT BY 50;
+SELECT setval('COURSE_BLOCK_SEQ', COALESCE((SELECT MAX(BLOCK_ID) FROM COURSE_BLOCK), 0) + 1, false);
+
+ALTER SEQUENCE COURSE_SEQ INCREMENT BY 50;
+SELECT setval('COURSE_SEQ', COALESCE((SELECT MAX(COURSE_ID) FROM COURSE), 0) + 1, false);
+
+ALTER SEQUENCE CURR_MAP_SEQ INCREMENT BY 50;
+SELECT setval('CURR_MAP_SEQ', COALESCE((SELECT MAX(CM_ID) FROM CURR_MAP), 0) + 1, false);
+
+ALTER SEQUENCE END_GOAL_SEQ INCREMENT BY 50;
+SELECT setval('END_GOAL_SEQ', COALESCE((SELECT MAX(EG_ID) FROM END_GOAL), 0) + 1, false);
+
+ALTER SEQUENCE FACTOR_SEQ INCREMENT BY 50;
+SELECT setval('FACTOR_SEQ', COALESCE((SELECT MAX(FACTOR_ID) FROM FACTOR), 0) + 1, false);
+
+ALTER SEQUENCE FACULTY_SEQ INCREMENT BY 50;
+SELECT setval('FACULTY_SEQ', COALESCE((SELECT MAX(FAC_ID) FROM FACULTY), 0) + 1, false);
+
+ALTER SEQUENCE IMPROVEMENT_PLAN_SEQ INCREMENT BY 50;
+SELECT setval('IMPROVEMENT_PLAN_SEQ', COALESCE((SELECT MAX(IMP_ID) FROM IMPROVEMENT_PLAN), 0) + 1, false);
+
+ALTER SEQUENCE NOTIFICATION_SEQ INCREMENT BY 50;
+SELECT setval('NOTIFICATION_SEQ', COALESCE((SELECT MAX(NOTI_ID) FROM NOTIFICATION), 0) + 1, false);
+
+ALTER SEQUENCE OFFERED_COURSE_SEQ INCREMENT BY 50;
+SELECT setval('OFFERED_COURSE_SEQ', COALESCE((SELECT MAX(OFC_ID) FROM OFFERED_COURSE), 0) + 1, false);
+
+ALTER SEQUENCE PERF_INDICATOR_SEQ INCREMENT BY 50;
+SELECT setval('PERF_INDICATOR_SEQ', COALESCE((SELECT MAX(PI_ID) FROM PERF_INDICATOR), 0) + 1, false);
+
+ALTER SEQUENCE PERF_LVL_SEQ INCREMENT BY 50;
+SELECT setval('PERF_LVL_SEQ', COALESCE((SELECT MAX(PL_ID) FROM PERF_LVL), 0) + 1, false);
+
+ALTER SEQUENCE PI_LVL_CATEG_SEQ INCREMENT BY 50;
+SELECT setval('PI_LVL_CATEG_SEQ', COALESCE((SELECT MAX(CATEG_ID) FROM PI_LVL_CATEG), 0) + 1, false);
+
+ALTER SEQUENCE ROLEE_SEQ INCREMENT BY 50;
+SELECT setval('ROLEE_SEQ', COALESCE((SELECT MAX(ROLEE_ID) FROM ROLEE), 0) + 1, false);
+
+ALTER SEQUENCE RUBRIC_CELL_FILLED_SEQ INCREMENT BY 50;
+SELECT setval('RUBRIC_CELL_FILLED_SEQ', COALESCE((SELECT MAX(RCF_ID) FROM RUBRIC_CELL_FILLED), 0) + 1, false);
+
+ALTER SEQUENCE RUBRIC_CELL_SEQ INCREMENT BY 50;
+SELECT setval('RUBRIC_CELL_SEQ', COALESCE((SELECT MAX(RC_ID) FROM RUBRIC_CELL), 0) + 1, false);
+
+ALTER SEQUENCE RUBRIC_SEQ INCREMENT BY 50;
+SELECT setval('RUBRIC_SEQ', COALESCE((SELECT MAX(RB_ID) FROM RUBRIC), 0) + 1, false);
+
+ALTER SEQUENCE SEMESTER_SEQ INCREMENT BY 50;
+SELECT setval('SEMESTER_SEQ', COALESCE((SELECT MAX(SEM_ID) FROM SEMESTER), 0) + 1, false);
+
+ALTER SEQUENCE STUD_OUTCOME_SEQ INCREMENT BY 50;
+SELECT setval('STUD_OUTCOME_SEQ', COALESCE((SELECT MAX(SO_ID) FROM STUD_OUTCOME), 0) + 1, false);
+
+ALTER SEQUENCE USERS_SEQ INCREMENT BY 50;
+SELECT setval('USERS_SEQ', COALESCE((SELECT MAX(USR_ID) FROM USERS), 0) + 1, false);
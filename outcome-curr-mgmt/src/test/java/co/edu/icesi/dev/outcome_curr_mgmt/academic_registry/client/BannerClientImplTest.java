@@ -0,0 +1,202 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.FacultyInDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.config.BannerClientConfig;
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.config.BannerResilienceConfig;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class BannerClientImplTest {
+
+    private static final String BANNER_URL = "http://banner.test/api/";
+    private static final int PAGE_SIZE = 2;
+
+    private BannerClientImpl bannerClient;
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        BannerClientConfig bannerClientConfig = mock(BannerClientConfig.class);
+        when(bannerClientConfig.getBannerUrl()).thenReturn(BANNER_URL);
+        when(bannerClientConfig.getBannerUser()).thenReturn("user");
+        when(bannerClientConfig.getBannerPass()).thenReturn("pass");
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+        BannerResilienceConfig resilienceConfig = new BannerResilienceConfig();
+        BannerCallGuard bannerCallGuard = new BannerCallGuard(
+                resilienceConfig.bannerCircuitBreakerRegistry(meterRegistry, 50, 2, 2, 60000, 1),
+                resilienceConfig.bannerBulkheadRegistry(meterRegistry, 4, 100),
+                resilienceConfig.bannerRetryRegistry(meterRegistry, 2, 1));
+        bannerClient = new BannerClientImpl(bannerClientConfig, restTemplate, meterRegistry, bannerCallGuard,
+                PAGE_SIZE, 1, 60000, 60000, 60, 1440);
+    }
+
+    @AfterEach
+    void shutdown() {
+        bannerClient.shutdown();
+    }
+
+    // The login and the faculties call are timed separately, tagged by endpoint.
+    @Test
+    void testCallsAreTimedByEndpoint() {
+        // Arrange
+        server.expect(requestTo(BANNER_URL + "login")).andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{\"token\":\"abc\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BANNER_URL + "faculties")).andExpect(header("Authorization", "Bearer abc"))
+                .andRespond(withSuccess("[{\"isActive\":\"Y\",\"facNameEng\":\"Engineering\"}]",
+                        MediaType.APPLICATION_JSON));
+
+        // Act
+        var faculties = bannerClient.getFacultiesList();
+
+        // Assert
+        server.verify();
+        assertEquals(1, faculties.size());
+        assertEquals(1, meterRegistry.timer("banner.request", "endpoint", "login").count());
+        assertEquals(1, meterRegistry.timer("banner.request", "endpoint", "faculties").count());
+    }
+
+    // Reading stops on the page where the last requested name shows up; at most the next page is read ahead.
+    @Test
+    void testImportFacultiesStopsOnceEveryNameIsFound() {
+        // Arrange
+        expectLogin();
+        server.expect(requestTo(facultiesPage(1))).andRespond(withSuccess(
+                "[{\"isActive\":\"Y\",\"facNameEng\":\"Engineering\",\"facNameSpa\":\"Ingeniería\"},"
+                        + "{\"isActive\":\"Y\",\"facNameEng\":\"Law\",\"facNameSpa\":\"Derecho\"}]",
+                MediaType.APPLICATION_JSON).headers(links(1, 3)));
+        server.expect(ExpectedCount.between(0, 1), requestTo(facultiesPage(2))).andRespond(withSuccess(
+                "[{\"isActive\":\"Y\",\"facNameEng\":\"Arts\",\"facNameSpa\":\"Artes\"}]",
+                MediaType.APPLICATION_JSON).headers(links(2, 3)));
+
+        // Act
+        var faculties = bannerClient.importFaculties(List.of("Ingeniería", "Law"));
+
+        // Assert
+        server.verify();
+        assertEquals(2, faculties.size());
+    }
+
+    // The stream follows the next links to the end of the resource.
+    @Test
+    void testStreamFacultiesReadsEveryPage() {
+        // Arrange
+        expectLogin();
+        server.expect(requestTo(facultiesPage(1))).andRespond(withSuccess(
+                "[{\"facNameEng\":\"Engineering\"},{\"facNameEng\":\"Law\"}]",
+                MediaType.APPLICATION_JSON).headers(links(1, 2)));
+        server.expect(requestTo(facultiesPage(2))).andRespond(withSuccess(
+                "[{\"facNameEng\":\"Arts\"}]", MediaType.APPLICATION_JSON).headers(links(2, 2)));
+
+        // Act
+        List<String> names;
+        try (var faculties = bannerClient.streamFaculties()) {
+            names = faculties.map(FacultyInDTO::facNameEng).toList();
+        }
+
+        // Assert
+        server.verify();
+        assertEquals(List.of("Engineering", "Law", "Arts"), names);
+    }
+
+    // The last page comes from the rel="last" link, whatever the spacing and order of the links.
+    @Test
+    void testFacultiesPageTotalComesFromTheLastLink() {
+        // Arrange
+        expectLogin();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.LINK, "<" + BANNER_URL + "faculties?_page=4&_limit=10>;rel=last , <"
+                + BANNER_URL + "faculties?_page=2&_limit=10>; rel=\"next\"");
+        server.expect(requestTo(BANNER_URL + "faculties?_limit=10&_page=1"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(headers));
+
+        // Act
+        var page = bannerClient.getFacultiesPage(1, 10);
+
+        // Assert
+        assertEquals(40, page.getTotalElements());
+    }
+
+    // A server error is retried, and the list read afterwards is served from the cache.
+    @Test
+    void testGetFacultiesListRetriesServerErrors() {
+        // Arrange
+        expectLogin();
+        server.expect(requestTo(BANNER_URL + "faculties")).andRespond(withServerError());
+        server.expect(requestTo(BANNER_URL + "faculties")).andRespond(withSuccess(
+                "[{\"isActive\":\"Y\",\"facNameEng\":\"Engineering\"}]", MediaType.APPLICATION_JSON));
+
+        // Act
+        var faculties = bannerClient.getFacultiesList();
+        var cachedFaculties = bannerClient.getFacultiesList();
+
+        // Assert
+        server.verify();
+        assertEquals(1, faculties.size());
+        assertEquals(faculties, cachedFaculties);
+    }
+
+    // Once the failures open the circuit, calls fail fast without reaching Banner.
+    @Test
+    void testOpenCircuitRejectsCallsWithoutCallingBanner() {
+        // Arrange
+        expectLogin();
+        server.expect(ExpectedCount.times(2), requestTo(facultiesPage(1))).andRespond(withServerError());
+
+        // Act
+        assertThrows(OutCurrException.class, () -> bannerClient.getFacultiesPage(1, PAGE_SIZE));
+        OutCurrException exception = assertThrows(OutCurrException.class,
+                () -> bannerClient.getFacultiesPage(1, PAGE_SIZE));
+
+        // Assert
+        server.verify();
+        assertEquals(OutCurrExceptionType.BANNER_UNAVAILABLE, exception.getOutCurrExceptionType());
+    }
+
+    private void expectLogin() {
+        server.expect(requestTo(BANNER_URL + "login")).andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{\"token\":\"abc\"}", MediaType.APPLICATION_JSON));
+    }
+
+    private static String facultiesPage(int page) {
+        return BANNER_URL + "faculties?_limit=" + PAGE_SIZE + "&_page=" + page;
+    }
+
+    private static HttpHeaders links(int page, int lastPage) {
+        StringBuilder link = new StringBuilder("<" + BANNER_URL + "faculties?_page=1&_limit=" + PAGE_SIZE
+                + ">; rel=\"first\"");
+        if (page < lastPage) {
+            link.append(", <").append(BANNER_URL).append("faculties?_page=").append(page + 1).append("&_limit=")
+                    .append(PAGE_SIZE).append(">; rel=\"next\"");
+        }
+        link.append(", <").append(BANNER_URL).append("faculties?_page=").append(lastPage).append("&_limit=")
+                .append(PAGE_SIZE).append(">; rel=\"last\"");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.LINK, link.toString());
+        return headers;
+    }
+}
@@ -0,0 +1,69 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StaleWhileRevalidateCacheTest {
+
+    private static final long TIME_TO_LIVE = 1000;
+    private static final long MAX_STALE = 5000;
+
+    private StaleWhileRevalidateCache<String, String> cache;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        loads = new AtomicInteger();
+        cache = new StaleWhileRevalidateCache<>("faculties", TIME_TO_LIVE, MAX_STALE, Runnable::run, meterRegistry,
+                clock::get);
+    }
+
+    // A stale entry is served once more while it is reloaded.
+    @Test
+    void testStaleEntryIsServedWhileReloading() {
+        // Arrange
+        cache.get("all", key -> "v" + loads.incrementAndGet());
+        clock.set(TIME_TO_LIVE + 1);
+
+        // Act
+        String stale = cache.get("all", key -> "v" + loads.incrementAndGet());
+        String reloaded = cache.get("all", key -> "v" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("v1", stale);
+        assertEquals("v2", reloaded);
+        assertEquals(1, meterRegistry.counter("banner.cache.stale", "cache", "faculties").count());
+    }
+
+    // When Banner fails the stale entry keeps being served until it is too old.
+    @Test
+    void testFailedReloadKeepsTheStaleEntry() {
+        // Arrange
+        cache.get("all", key -> "v1");
+        clock.set(TIME_TO_LIVE + 1);
+
+        // Act
+        String stale = cache.get("all", key -> {
+            throw new IllegalStateException("Banner is down");
+        });
+        clock.set(TIME_TO_LIVE + MAX_STALE + 1);
+
+        // Assert
+        assertEquals("v1", stale);
+        assertEquals(1, meterRegistry.counter("banner.cache.reload.failures", "cache", "faculties").count());
+        assertThrows(IllegalStateException.class, () -> cache.get("all", key -> {
+            throw new IllegalStateException("Banner is down");
+        }));
+    }
+}
@@ -0,0 +1,59 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheConfigTest {
+
+    @Test
+    void testDeclaredCachesAreBoundedAndRecordStats() {
+        // Arrange
+        CaffeineCacheManager cacheManager = CacheConfig.cacheManager(
+                Map.of("acadProgram", "maximumSize=10,expireAfterWrite=10m"), Map.of());
+
+        // Act
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("acadProgram");
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "program-" + i);
+        }
+        cache.getNativeCache().cleanUp();
+        cache.get(1000);
+
+        // Assert
+        Cache<Object, Object> nativeCache = cache.getNativeCache();
+        assertTrue(nativeCache.estimatedSize() <= 10);
+        assertEquals(1, nativeCache.stats().missCount());
+        assertNull(cacheManager.getCache("undeclared"));
+    }
+
+    @Test
+    void testMaximumWeightCountsCollectionElements() {
+        // Arrange
+        Cache<Object, Object> cache = CacheConfig.buildCache("faculties", "maximumWeight=5", null);
+
+        // Act
+        cache.put("first", List.of(1, 2, 3));
+        cache.put("second", List.of(4, 5, 6));
+        cache.cleanUp();
+
+        // Assert
+        assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    void testRefreshAfterWriteWithoutLoaderFails() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> CacheConfig.buildCache("faculty", "maximumSize=10,refreshAfterWrite=1m", null));
+    }
+}
@@ -0,0 +1,169 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Both routes point at the same in-memory database, so the test only tells the pools apart: whichever pool holds the
+ * transaction's connection is the one the transaction was routed to.
+ */
+@ActiveProfiles(profiles = "test")
+@SpringBootTest(properties = {"scheduling.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1"})
+@AutoConfigureMockMvc
+class DataSourceRoutingConfigTest {
+
+    private static final String READ_THEN_WRITE = "/routing-test/read-then-write";
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void testReadOnlyTransactionsRunOnTheReplica() {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        // Act
+        int[] activeConnections = transactionTemplate.execute(status -> {
+            facultyRepository.count();
+            return new int[] {activeConnections(primaryDataSource), activeConnections(replicaDataSource)};
+        });
+
+        // Assert
+        assertEquals(0, activeConnections[0]);
+        assertEquals(1, activeConnections[1]);
+        assertEquals("outcome-curr-replica", replicaDataSource.getPoolName());
+    }
+
+    @Test
+    void testReadWriteTransactionsRunOnThePrimary() {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Act
+        int[] activeConnections = transactionTemplate.execute(status -> {
+            facultyRepository.count();
+            return new int[] {activeConnections(primaryDataSource), activeConnections(replicaDataSource)};
+        });
+
+        // Assert
+        assertEquals(1, activeConnections[0]);
+        assertEquals(0, activeConnections[1]);
+        assertEquals("outcome-curr-primary", primaryDataSource.getPoolName());
+    }
+
+    // Cache loaders called from a read-only transaction read from the primary.
+    @Test
+    void testPrimaryReadsInsideAReadOnlyTransactionRunOnThePrimary() {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        // Act
+        int[] activeConnections = transactionTemplate.execute(status -> primaryReads.read(() -> {
+            facultyRepository.count();
+            return new int[] {activeConnections(primaryDataSource), activeConnections(replicaDataSource)};
+        }));
+
+        // Assert
+        assertEquals(1, activeConnections[0]);
+    }
+
+    // With open-in-view the session spans the request, yet a write after a read in the same request runs on the
+    // primary.
+    @Test
+    void testWriteAfterReadInOneRequestRunsOnThePrimary() throws Exception {
+        mvc.perform(get(READ_THEN_WRITE))
+                .andExpect(status().isOk())
+                .andExpect(content().string("read=0/1,write=1/0"));
+    }
+
+    @TestConfiguration
+    static class ReadThenWriteConfig {
+
+        @Bean
+        ReadThenWriteController readThenWriteController(FacultyRepository facultyRepository,
+                PlatformTransactionManager transactionManager,
+                @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+            return new ReadThenWriteController(facultyRepository, transactionManager, primaryDataSource,
+                    replicaDataSource);
+        }
+    }
+
+    @RestController
+    static class ReadThenWriteController {
+
+        private final FacultyRepository facultyRepository;
+        private final PlatformTransactionManager transactionManager;
+        private final HikariDataSource primaryDataSource;
+        private final HikariDataSource replicaDataSource;
+
+        ReadThenWriteController(FacultyRepository facultyRepository, PlatformTransactionManager transactionManager,
+                HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+            this.facultyRepository = facultyRepository;
+            this.transactionManager = transactionManager;
+            this.primaryDataSource = primaryDataSource;
+            this.replicaDataSource = replicaDataSource;
+        }
+
+        @GetMapping(READ_THEN_WRITE)
+        String readThenWrite() {
+            TransactionTemplate readTransaction = new TransactionTemplate(transactionManager);
+            readTransaction.setReadOnly(true);
+            String read = readTransaction.execute(status -> {
+                facultyRepository.count();
+                return activeConnections(primaryDataSource) + "/" + activeConnections(replicaDataSource);
+            });
+            String write = new TransactionTemplate(transactionManager).execute(status -> {
+                facultyRepository.count();
+                return activeConnections(primaryDataSource) + "/" + activeConnections(replicaDataSource);
+            });
+            return "read=" + read + ",write=" + write;
+        }
+    }
+
+    // A pool starts on its first connection, so a route that was never used has no pool yet.
+    private static int activeConnections(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+}
@@ -0,0 +1,74 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HibernateCacheConfigTest {
+
+    private CaffeineCachingProvider cachingProvider;
+    private CacheManager cacheManager;
+
+    // A provider of its own, so the managers that application contexts take from the shared one are never touched.
+    @BeforeEach
+    void init() {
+        cachingProvider = new CaffeineCachingProvider();
+        cacheManager = cachingProvider.getCacheManager(cachingProvider.getDefaultURI(),
+                HibernateCacheConfigTest.class.getClassLoader());
+    }
+
+    @AfterEach
+    void close() {
+        cacheManager.close();
+        cachingProvider.close();
+    }
+
+    @Test
+    void testRegionsAreBoundedAndExpire() {
+        // Act
+        HibernateCacheConfig.hibernateCacheManager(cacheManager, Map.of("faculty", 1000L), 60);
+
+        // Assert
+        CaffeineConfiguration<?, ?> configuration =
+                cacheManager.getCache("faculty").getConfiguration(CaffeineConfiguration.class);
+        assertEquals(OptionalLong.of(1000), configuration.getMaximumSize());
+        assertEquals(OptionalLong.of(TimeUnit.SECONDS.toNanos(60)), configuration.getExpireAfterWrite());
+        assertTrue(configuration.isStatisticsEnabled());
+    }
+
+    @Test
+    void testUpdateTimestampsNeverExpire() {
+        // Act
+        HibernateCacheConfig.hibernateCacheManager(cacheManager,
+                Map.of(HibernateCacheConfig.UPDATE_TIMESTAMPS_REGION, 1000L), 60);
+
+        // Assert
+        CaffeineConfiguration<?, ?> configuration = cacheManager.getCache(HibernateCacheConfig.UPDATE_TIMESTAMPS_REGION)
+                .getConfiguration(CaffeineConfiguration.class);
+        assertEquals(OptionalLong.empty(), configuration.getExpireAfterWrite());
+    }
+
+    // The manager is shared between application contexts, so a second context must reuse the regions.
+    @Test
+    void testExistingRegionsAreReused() {
+        // Arrange
+        HibernateCacheConfig.hibernateCacheManager(cacheManager, Map.of("faculty", 1000L), 60);
+        cacheManager.getCache("faculty").put("key", "value");
+
+        // Act
+        HibernateCacheConfig.hibernateCacheManager(cacheManager, Map.of("faculty", 1000L), 60);
+
+        // Assert
+        assertEquals("value", cacheManager.getCache("faculty").get("key"));
+    }
+}
@@ -0,0 +1,110 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_instance.RubricCellFilled;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_instace.RubricCellFilledRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.AcadProgramRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Insert throughput of the bulk writes: a Banner import of academic programs and the filled cells of a graded
+ * rubric. Ids come from sequences in blocks of 50 and inserts go out in JDBC batches of 50, so each block of rows
+ * costs about one sequence call and one batch. Runs with {@code mvn -Pbenchmark test}, not in the regular build.
+ */
+@ActiveProfiles(profiles = "test")
+@SpringBootTest(properties = {"scheduling.enabled=false", "spring.jpa.properties.hibernate.generate_statistics=true"})
+class BulkInsertBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkInsertBenchmark.class);
+    private static final int ROWS = 5000;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private AcadProgramRepository acadProgramRepository;
+
+    @Autowired
+    private RubricCellFilledRepository rubricCellFilledRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void benchmarkBannerImport() {
+        Faculty faculty = facultyRepository.save(Faculty.builder()
+                .facIsActive('Y')
+                .facNameEng("Benchmark faculty")
+                .facNameSpa("Facultad de prueba")
+                .build());
+        benchmark("Banner import", index -> AcadProgram.builder()
+                .acpIsActive('Y')
+                .acpProgNameEng("Program " + index)
+                .acpProgNameSpa("Programa " + index)
+                .externalId("BENCH-" + index)
+                .faculty(faculty)
+                .build(), acadProgramRepository::saveAll);
+    }
+
+    @Test
+    void benchmarkRubricGrading() {
+        benchmark("Rubric grading", index -> RubricCellFilled.builder()
+                .rcfExpLevelOfAchievement(index % 5)
+                .rcfRealLevelOfAchievement((index + 1) % 5)
+                .build(), rubricCellFilledRepository::saveAll);
+    }
+
+    private <T> void benchmark(String operation, IntFunction<T> rowFactory, Consumer<List<T>> saver) {
+        for (int round = 0; round <= ROUNDS; round++) {
+            List<T> rows = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                rows.add(rowFactory.apply(round * ROWS + i));
+            }
+            statistics.clear();
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> saver.accept(rows));
+            long elapsedNanos = System.nanoTime() - start;
+            long statements = statistics.getPrepareStatementCount();
+            // Round 0 only warms up the JIT and the connection pool.
+            if (round > 0) {
+                logger.info("{} | round={}, rows={}, ms={}, rowsPerSecond={}, statements={}", operation, round, ROWS,
+                        elapsedNanos / 1_000_000, ROWS * 1_000_000_000L / elapsedNanos, statements);
+            }
+            assertTrue(statements <= ROWS / 10,
+                    operation + " prepared " + statements + " statements for " + ROWS + " rows");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.TestConfigurationData;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_definition.Course;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtGenPlan;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtPlanCycle;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.AssmtPlanSubcyclev;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.StudOutcome;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_definition.CourseRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa.AssmtGenPlanRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa.StudOutcomeRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.AcadProgramRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Statements issued by the read plans behind the curricular map matrix, faculty deletion and assessment plans.
+ * Each plan must answer its use case in one statement, however many rows it touches.
+ */
+@Import(TestConfigurationData.class)
+@ActiveProfiles(profiles = "test")
+@SpringBootTest(properties = "scheduling.enabled=false")
+class ReadPlanStatementCountTest {
+
+    @Autowired
+    private StudOutcomeRepository studOutcomeRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private AssmtGenPlanRepository assmtGenPlanRepository;
+
+    @Autowired
+    private AcadProgramRepository acadProgramRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @Transactional
+    void testMatrixStudOutcomesAndPerfIndicatorsTakeOneStatement() {
+        // Act
+        List<StudOutcome> studOutcomes =
+                studOutcomeRepository.getAllStudOutcomesByAcadProgCurrIdAndAcadProgIdAndFacultyId(1, 1, 1);
+        int perfIndicators = studOutcomes.stream().mapToInt(studOutcome -> studOutcome.getPerfIndicators().size())
+                .sum();
+
+        // Assert
+        assertEquals(2, studOutcomes.size());
+        assertEquals(6, perfIndicators);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional
+    void testMatrixCoursesAndSemestersTakeOneStatement() {
+        // Act
+        List<Course> courses = courseRepository.findAllByAcadProgIdAndFacultyIdAndAcadProgCurrId(1, 1, 1);
+        long semesters = courses.stream().map(course -> course.getSemester().getSemName()).distinct().count();
+
+        // Assert
+        assertEquals(2, courses.size());
+        assertEquals(2, semesters);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional
+    void testFacultyDependentsCheckTakesOneStatement() {
+        // Act
+        boolean hasDependents = facultyRepository.hasAcadProgramsOrCourses(1);
+        boolean unknownFacultyHasDependents = facultyRepository.hasAcadProgramsOrCourses(2);
+
+        // Assert
+        assertTrue(hasDependents);
+        assertFalse(unknownFacultyHasDependents);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional
+    void testAssmtPlanCycleCountTakesOneStatement() {
+        // Act
+        long cycles = assmtGenPlanRepository.countAssmtPlanCyclesByAsgplaId(1);
+
+        // Assert
+        assertEquals(0, cycles);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional
+    void testAssmtGenPlanSummariesLeaveTheCyclesUnloaded() {
+        // Arrange
+        AcadProgram acadProgram = acadProgramRepository.findAll().get(0);
+        savePlanWithCycles(acadProgram);
+
+        // Act
+        List<AssmtGenPlan> assmtGenPlans =
+                assmtGenPlanRepository.findAllByAcadProgramAcpIdAndAsgplaStatus(acadProgram.getAcpId(), "CURRENT");
+
+        // Assert
+        assertEquals(1, assmtGenPlans.size());
+        assertFalse(Hibernate.isInitialized(assmtGenPlans.get(0).getAssmtPlanCycles()));
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    @Transactional
+    void testAssmtGenPlanDetailLoadsTheCycleTreeInOneStatement() {
+        // Arrange
+        long asgplaId = savePlanWithCycles(null);
+
+        // Act
+        AssmtGenPlan assmtGenPlan =
+                assmtGenPlanRepository.findDetailByAsgplaIdAndAsgplaStatus(asgplaId, "CURRENT").orElseThrow();
+        int assmtPlanSubcyclevs = assmtGenPlan.getAssmtPlanCycles().stream()
+                .mapToInt(assmtPlanCycle -> assmtPlanCycle.getAssmtPlanSubcyclevs().size())
+                .sum();
+
+        // Assert
+        assertEquals(2, assmtGenPlan.getAssmtPlanCycles().size());
+        assertEquals(4, assmtPlanSubcyclevs);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    // Two cycles of two subcycles each, written and detached so the read starts from an empty persistence context.
+    private long savePlanWithCycles(AcadProgram acadProgram) {
+        AssmtGenPlan assmtGenPlan = AssmtGenPlan.builder().asgplaStatus("CURRENT").acadProgram(acadProgram).build();
+        entityManager.persist(assmtGenPlan);
+        for (int cycle = 0; cycle < 2; cycle++) {
+            AssmtPlanCycle assmtPlanCycle = AssmtPlanCycle.builder().assmtGenPlan(assmtGenPlan).build();
+            entityManager.persist(assmtPlanCycle);
+            for (int subcycle = 0; subcycle < 2; subcycle++) {
+                entityManager.persist(AssmtPlanSubcyclev.builder().assmtPlanCycle(assmtPlanCycle).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return assmtGenPlan.getAsgplaId();
+    }
+}
@@ -0,0 +1,105 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The versioned migrations, run by Flyway on H2 in PostgreSQL mode, must create every table and column the entities
+ * map. Hibernate validates the migrated schema instead of creating it, so the context fails to start when a table,
+ * column, sequence or column type in the migrations does not match the mappings.
+ */
+@ActiveProfiles(profiles = "test")
+@SpringBootTest(properties = {"scheduling.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"})
+class SchemaMigrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Set<String> migratedColumns;
+
+    @BeforeEach
+    void init() throws SQLException {
+        migratedColumns = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+                ResultSet columns = connection.getMetaData().getColumns(null, "PUBLIC", null, null)) {
+            while (columns.next()) {
+                migratedColumns.add(column(columns.getString("TABLE_NAME"), columns.getString("COLUMN_NAME")));
+            }
+        }
+    }
+
+    @Test
+    void testMigrationsCreateEveryEntityColumn() {
+        // Arrange
+        List<String> missing = new ArrayList<>();
+
+        // Act
+        mappingMetamodel().forEachEntityDescriptor(descriptor -> {
+            AbstractEntityPersister persister = (AbstractEntityPersister) descriptor;
+            Stream.concat(Stream.of(persister.getIdentifierColumnNames()),
+                            Stream.of(persister.getPropertyNames())
+                                    .flatMap(property -> Stream.of(persister.getPropertyColumnNames(property))))
+                    .map(columnName -> column(persister.getTableName(), columnName))
+                    .filter(column -> !migratedColumns.contains(column))
+                    .forEach(missing::add);
+        });
+
+        // Assert
+        assertEquals(List.of(), missing);
+    }
+
+    @Test
+    void testMigrationsCreateEveryJoinTable() {
+        // Arrange
+        List<String> missing = new ArrayList<>();
+
+        // Act
+        mappingMetamodel().forEachCollectionDescriptor(descriptor -> {
+            AbstractCollectionPersister persister = (AbstractCollectionPersister) descriptor;
+            if (persister.isManyToMany()) {
+                Stream.concat(Stream.of(persister.getKeyColumnNames()), Stream.of(persister.getElementColumnNames()))
+                        .map(columnName -> column(persister.getTableName(), columnName))
+                        .filter(column -> !migratedColumns.contains(column))
+                        .forEach(missing::add);
+            }
+        });
+
+        // Assert
+        assertEquals(List.of(), missing);
+    }
+
+    private MappingMetamodel mappingMetamodel() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+    }
+
+    private static String column(String table, String column) {
+        return (table + "." + column).toUpperCase(Locale.ROOT);
+    }
+}
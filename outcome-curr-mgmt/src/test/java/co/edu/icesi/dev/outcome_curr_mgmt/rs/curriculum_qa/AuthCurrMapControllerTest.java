@@ -1,19 +1,32 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.rs.curriculum_qa;
 
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CompactMatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.MatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.rs.curriculum_qa.AuthCurrMapController;
+import co.edu.icesi.dev.outcome_curr_mgmt.config.PrimaryReads;
 import co.edu.icesi.dev.outcome_curr_mgmt.mapper.curriculum_qa.CurrMapMapper;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_definition.Course;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.StudOutcome;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_definition.CourseService;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa.CurrMapMatrixCache;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa.CurrMapService;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa.StudOutcomeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -35,7 +48,10 @@ public class AuthCurrMapControllerTest {
         courseService = mock(CourseService.class);
         currMapService = mock(CurrMapService.class);
         currMapMapper = mock(CurrMapMapper.class);
-        authCurrMapController = new AuthCurrMapControllerImpl(studOutcomeService, courseService, currMapService);
+        when(currMapService.getMatrixFingerprint(anyLong(), anyLong(), anyLong())).thenReturn("fingerprint");
+        authCurrMapController = new AuthCurrMapControllerImpl(studOutcomeService, courseService, currMapService,
+                new CurrMapMatrixCache(new CaffeineCacheManager(CurrMapMatrixCache.CURR_MAP_MATRIX),
+                        PrimaryReads.inCallerTransaction(), currMapService));
     }
 
     // Returns a MatrixDTO object with expected values when given valid facultyId, acadProgId, and acadProgCurrId, and no courses.
@@ -59,7 +75,7 @@ public class AuthCurrMapControllerTest {
         when(currMapService.getMatrixDTO(acadProgCurrId, acadProgId, studentOutcomes, courses)).thenReturn(matrixDTO);
 
         // Act
-        MatrixDTO result = authCurrMapController.getMatrix(facultyId, acadProgId, acadProgCurrId);
+        MatrixDTO result = authCurrMapController.getMatrix(facultyId, acadProgId, acadProgCurrId, null).getBody();
 
         // Assert
         assertTrue(result.matrix().isEmpty());
@@ -68,6 +84,151 @@ public class AuthCurrMapControllerTest {
         verify(currMapMapper, never()).fromMapElementToValueDTO(any());
     }
 
+    // The matrix is built once, served from the cache afterwards and answered with 304 when the ETag still matches.
+    @Test
+    void testGetMatrixIsCachedAndRevalidatedWithETag() {
+        // Arrange
+        long facultyId = 1;
+        long acadProgId = 1;
+        long acadProgCurrId = 1;
+
+        List<StudOutcome> studentOutcomes = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        MatrixDTO matrixDTO = MatrixDTO.builder()
+                .matrix(new ArrayList<>())
+                .build();
+
+        when(studOutcomeService.getAllStudOutcomesByAcadProgCurrIdAndAcadProgIdAndFacultyId(acadProgCurrId, acadProgId, facultyId)).thenReturn(studentOutcomes);
+        when(courseService.findAllByAcadProgIdAndFacultyIdAndAcadProgCurrId(acadProgId, facultyId, acadProgCurrId)).thenReturn(courses);
+        when(currMapService.getMatrixDTO(acadProgCurrId, acadProgId, studentOutcomes, courses)).thenReturn(matrixDTO);
+
+        // Act
+        ResponseEntity<MatrixDTO> first = authCurrMapController.getMatrix(facultyId, acadProgId, acadProgCurrId, null);
+        ResponseEntity<MatrixDTO> second = authCurrMapController.getMatrix(facultyId, acadProgId, acadProgCurrId, null);
+        ResponseEntity<MatrixDTO> revalidated = authCurrMapController.getMatrix(facultyId, acadProgId, acadProgCurrId,
+                first.getHeaders().getETag());
+
+        // Assert
+        assertSame(first.getBody(), second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertNull(revalidated.getBody());
+        verify(currMapService, times(1)).getMatrixDTO(acadProgCurrId, acadProgId, studentOutcomes, courses);
+    }
+
+    // A change in the persisted rows of the matrix changes its ETag, so the matrix is built again and the old ETag no
+    // longer matches.
+    @Test
+    void testGetMatrixIsRebuiltWhenItsRowsChange() {
+        // Arrange
+        List<StudOutcome> studentOutcomes = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        MatrixDTO matrixDTO = MatrixDTO.builder()
+                .matrix(new ArrayList<>())
+                .build();
+
+        when(studOutcomeService.getAllStudOutcomesByAcadProgCurrIdAndAcadProgIdAndFacultyId(1L, 1L, 1L)).thenReturn(studentOutcomes);
+        when(courseService.findAllByAcadProgIdAndFacultyIdAndAcadProgCurrId(1L, 1L, 1L)).thenReturn(courses);
+        when(currMapService.getMatrixDTO(1L, 1L, studentOutcomes, courses)).thenReturn(matrixDTO);
+        ResponseEntity<MatrixDTO> first = authCurrMapController.getMatrix(1L, 1L, 1L, null);
+
+        // Act
+        when(currMapService.getMatrixFingerprint(1L, 1L, 1L)).thenReturn("course-linked");
+        ResponseEntity<MatrixDTO> revalidated = authCurrMapController.getMatrix(1L, 1L, 1L,
+                first.getHeaders().getETag());
+
+        // Assert
+        assertEquals(HttpStatus.OK, revalidated.getStatusCode());
+        assertNotEquals(first.getHeaders().getETag(), revalidated.getHeaders().getETag());
+        verify(currMapService, times(2)).getMatrixDTO(1L, 1L, studentOutcomes, courses);
+    }
+
+    // The compact matrix is cached under an ETag with its media type, so revalidating it does not match the full matrix,
+    // and both responses vary by Accept.
+    @Test
+    void testGetCompactMatrixHasItsOwnETag() {
+        // Arrange
+        List<StudOutcome> studentOutcomes = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        CompactMatrixDTO compactMatrixDTO = CompactMatrixDTO.builder()
+                .keys(List.of())
+                .strings(List.of())
+                .values(List.of())
+                .cells(new int[0])
+                .build();
+        MatrixDTO matrixDTO = MatrixDTO.builder()
+                .matrix(new ArrayList<>())
+                .build();
+
+        when(studOutcomeService.getAllStudOutcomesByAcadProgCurrIdAndAcadProgIdAndFacultyId(1L, 1L, 1L)).thenReturn(studentOutcomes);
+        when(courseService.findAllByAcadProgIdAndFacultyIdAndAcadProgCurrId(1L, 1L, 1L)).thenReturn(courses);
+        when(currMapService.getCompactMatrixDTO(1L, 1L, studentOutcomes, courses)).thenReturn(compactMatrixDTO);
+        when(currMapService.getMatrixDTO(1L, 1L, studentOutcomes, courses)).thenReturn(matrixDTO);
+
+        // Act
+        ResponseEntity<CompactMatrixDTO> compact = authCurrMapController.getCompactMatrix(1L, 1L, 1L, null);
+        ResponseEntity<MatrixDTO> full = authCurrMapController.getMatrix(1L, 1L, 1L,
+                compact.getHeaders().getETag());
+
+        // Assert
+        assertSame(compactMatrixDTO, compact.getBody());
+        assertTrue(compact.getHeaders().getETag().contains(AuthCurrMapController.COMPACT_MATRIX_MEDIA_TYPE));
+        assertEquals(List.of(HttpHeaders.ACCEPT), compact.getHeaders().getVary());
+        assertEquals(HttpStatus.OK, full.getStatusCode());
+        assertSame(matrixDTO, full.getBody());
+        assertEquals(List.of(HttpHeaders.ACCEPT), full.getHeaders().getVary());
+    }
+
+    // The format parameter picks the representation and its media type, and an unknown format is not acceptable.
+    @Test
+    void testGetMatrixInFormat() {
+        // Arrange
+        List<StudOutcome> studentOutcomes = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        CompactMatrixDTO compactMatrixDTO = CompactMatrixDTO.builder()
+                .keys(List.of())
+                .strings(List.of())
+                .values(List.of())
+                .cells(new int[0])
+                .build();
+        MatrixDTO matrixDTO = MatrixDTO.builder()
+                .matrix(new ArrayList<>())
+                .build();
+
+        when(studOutcomeService.getAllStudOutcomesByAcadProgCurrIdAndAcadProgIdAndFacultyId(1L, 1L, 1L)).thenReturn(studentOutcomes);
+        when(courseService.findAllByAcadProgIdAndFacultyIdAndAcadProgCurrId(1L, 1L, 1L)).thenReturn(courses);
+        when(currMapService.getCompactMatrixDTO(1L, 1L, studentOutcomes, courses)).thenReturn(compactMatrixDTO);
+        when(currMapService.getMatrixDTO(1L, 1L, studentOutcomes, courses)).thenReturn(matrixDTO);
+
+        // Act
+        ResponseEntity<?> compact = authCurrMapController.getMatrixInFormat(1L, 1L, 1L, "compact", null);
+        ResponseEntity<?> full = authCurrMapController.getMatrixInFormat(1L, 1L, 1L, "json", null);
+        ResponseEntity<?> unknown = authCurrMapController.getMatrixInFormat(1L, 1L, 1L, "xml", null);
+
+        // Assert
+        assertSame(compactMatrixDTO, compact.getBody());
+        assertEquals(MediaType.parseMediaType(AuthCurrMapController.COMPACT_MATRIX_MEDIA_TYPE),
+                compact.getHeaders().getContentType());
+        assertSame(matrixDTO, full.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, full.getHeaders().getContentType());
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, unknown.getStatusCode());
+    }
+
+    // If-None-Match is matched as a list of entity tags with the weak comparison, and * matches any ETag.
+    @Test
+    void testIfNoneMatchListsWeakTagsAndWildcard() {
+        // Arrange
+        String eTag = "\"abc-1-MatrixDTO\"";
+
+        // Act & Assert
+        assertTrue(AuthCurrMapControllerImpl.matchesIfNoneMatch(eTag, eTag));
+        assertTrue(AuthCurrMapControllerImpl.matchesIfNoneMatch("W/" + eTag, eTag));
+        assertTrue(AuthCurrMapControllerImpl.matchesIfNoneMatch("\"other\", W/" + eTag, eTag));
+        assertTrue(AuthCurrMapControllerImpl.matchesIfNoneMatch("*", eTag));
+        assertFalse(AuthCurrMapControllerImpl.matchesIfNoneMatch("\"other\", W/\"abc\"", eTag));
+        assertFalse(AuthCurrMapControllerImpl.matchesIfNoneMatch(null, eTag));
+    }
+
     // Parameters passed to the controller method are valid.
     @Test
     void testUpdateSuggestedCurrMapRequestStatus() {
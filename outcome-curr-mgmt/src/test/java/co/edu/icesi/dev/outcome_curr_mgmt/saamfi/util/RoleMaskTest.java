@@ -0,0 +1,60 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.PermissionMasks;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.BasePermLevel;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.UserPermAccess;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static co.edu.icesi.dev.outcome_curr_mgmt.service.perm_types.faculty.FacultyPermType.FAC_FACULTY_PERMISSIONS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoleMaskTest {
+
+    @Test
+    void intersects_onlyWhenSomeRoleIsShared() {
+        RoleMask userRoles = RoleMask.of(Set.of("ROLE_Admin-faculties-any", "ROLE_Access-system"));
+
+        assertTrue(userRoles.intersects(RoleMask.of(List.of("ROLE_Query-faculties-any", "ROLE_Admin-faculties-any"))));
+        assertFalse(userRoles.intersects(RoleMask.of(List.of("ROLE_Query-faculties-any"))));
+        assertFalse(userRoles.intersects(RoleMask.EMPTY));
+    }
+
+    @Test
+    void of_handlesRolesBeyondTheFirstWord() {
+        List<String> manyRoles = IntStream.range(0, 200).mapToObj(i -> "ROLE_Mask-test-" + i).toList();
+        RoleIndex roleIndex = RoleIndex.of(manyRoles);
+        RoleMask lastRole = RoleMask.of(List.of(manyRoles.get(199)), roleIndex);
+
+        assertTrue(RoleMask.of(manyRoles, roleIndex).intersects(lastRole));
+        assertFalse(RoleMask.of(manyRoles.subList(0, 199), roleIndex).intersects(lastRole));
+        assertEquals(RoleMask.of(manyRoles.subList(0, 2), roleIndex),
+                RoleMask.of(List.of(manyRoles.get(1), manyRoles.get(0)), roleIndex));
+    }
+
+    @Test
+    void of_leavesOutRolesNoPermissionListNames() {
+        int declaredRoles = RoleIndex.declared().size();
+
+        RoleMask unknownRoles = RoleMask.of(Set.of("ROLE_Not-declared", "ROLE_Also-not-declared"));
+
+        assertEquals(RoleMask.EMPTY, unknownRoles);
+        assertFalse(unknownRoles.intersects(RoleMask.of(List.of("ROLE_Not-declared"))));
+        assertEquals(RoleIndex.UNKNOWN, RoleIndex.declared().ordinal("ROLE_Not-declared"));
+        assertEquals(declaredRoles, RoleIndex.declared().size());
+    }
+
+    @Test
+    void permissionMasks_reusesPrecompiledMaskForDeclaredLists() {
+        List<String> permissions = FAC_FACULTY_PERMISSIONS.get(BasePermLevel.ANY).get(UserPermAccess.QUERY);
+
+        assertSame(PermissionMasks.of(permissions), PermissionMasks.of(permissions));
+        assertEquals(RoleMask.of(permissions), PermissionMasks.of(List.copyOf(permissions)));
+    }
+}
@@ -0,0 +1,122 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.saamfi.delegate.SaamfiClient;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SaamfiJwtToolsTest {
+
+    private static final String USERNAME = "jdoe";
+    private static KeyPair keyPair;
+
+    @Mock
+    SaamfiClient saamfiClient;
+
+    SaamfiTokenCache saamfiTokenCache;
+
+    SaamfiJwtTools saamfiJwtTools;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setup() {
+        saamfiTokenCache = new SaamfiTokenCache(100, new SimpleMeterRegistry());
+        saamfiJwtTools = new SaamfiJwtTools(saamfiClient, saamfiTokenCache);
+        when(saamfiClient.getPublicKey()).thenReturn(keyPair.getPublic());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void parseClaims_readsEveryClaimInOnePass() {
+        SaamfiJwtClaims claims = saamfiJwtTools.parseClaims(token("ROLE_Admin-faculties-any,ROLE_Access-system"));
+
+        assertEquals(USERNAME, claims.username());
+        assertEquals(6L, claims.systemId());
+        assertEquals(1L, claims.institutionId());
+        assertEquals(Set.of("ROLE_Admin-faculties-any", "ROLE_Access-system"), claims.roles());
+        verify(saamfiClient).getPublicKey();
+    }
+
+    @Test
+    void parseClaims_skipsSignatureCheckForCachedToken() {
+        String token = token("ROLE_Admin-faculties-any");
+
+        SaamfiJwtClaims first = saamfiJwtTools.parseClaims(token);
+        SaamfiJwtClaims second = saamfiJwtTools.parseClaims(token);
+
+        assertEquals(first, second);
+        assertEquals(1, saamfiTokenCache.size());
+        verify(saamfiClient).getPublicKey();
+    }
+
+    @Test
+    void loggedInUserHasPermission_usesClaimsStoredInAuthentication() {
+        String token = token("ROLE_Admin-faculties-any");
+        SaamfiJwtClaims claims = saamfiJwtTools.parseClaims(token);
+        User user = new User(USERNAME, "", saamfiJwtTools.getPermissionNames(claims));
+        SecurityContextHolder.getContext().setAuthentication(saamfiJwtTools.getAuthentication(token, user, claims));
+        clearInvocations(saamfiClient);
+
+        assertTrue(saamfiJwtTools.loggedInUserHasPermission(List.of("ROLE_Query-faculties-any",
+                "ROLE_Admin-faculties-any")));
+        assertFalse(saamfiJwtTools.loggedInUserHasPermission(List.of("ROLE_Query-faculties-any")));
+        assertEquals(USERNAME, saamfiJwtTools.getLoggedInUserUsername());
+        verify(saamfiClient, never()).getPublicKey();
+    }
+
+    @Test
+    void loggedInUserHasPermission_parsesTokenWhenAuthenticationHasNoClaims() {
+        String token = token("ROLE_Admin-faculties-any");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(USERNAME, token, List.of()));
+
+        assertTrue(saamfiJwtTools.loggedInUserHasPermission(List.of("ROLE_Admin-faculties-any")));
+        verify(saamfiClient).getPublicKey();
+    }
+
+    private String token(String roles) {
+        return Jwts.builder()
+                .claim("username", USERNAME)
+                .claim("system", 6)
+                .claim("institution", 1)
+                .claim("role", roles)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+}
@@ -0,0 +1,65 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SaamfiTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+
+    SimpleMeterRegistry meterRegistry;
+
+    SaamfiTokenCache saamfiTokenCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        saamfiTokenCache = new SaamfiTokenCache(2, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void get_returnsStoredClaimsAndCountsHitsAndMisses() {
+        SaamfiJwtClaims claims = claimsExpiringAt(NOW.plusSeconds(60));
+
+        assertTrue(saamfiTokenCache.get("token").isEmpty());
+        saamfiTokenCache.put("token", claims);
+
+        assertEquals(claims, saamfiTokenCache.get("token").orElseThrow());
+        assertEquals(1.0, meterRegistry.counter("saamfi.tokenCache.hit").count());
+        assertEquals(1.0, meterRegistry.counter("saamfi.tokenCache.miss").count());
+    }
+
+    @Test
+    void get_doesNotServeExpiredTokens() {
+        saamfiTokenCache.put("token", claimsExpiringAt(NOW));
+
+        assertTrue(saamfiTokenCache.get("token").isEmpty());
+        assertEquals(0, saamfiTokenCache.size());
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedTokenWhenFull() {
+        saamfiTokenCache.put("first", claimsExpiringAt(NOW.plusSeconds(60)));
+        saamfiTokenCache.put("second", claimsExpiringAt(NOW.plusSeconds(60)));
+        saamfiTokenCache.get("first");
+        saamfiTokenCache.put("third", claimsExpiringAt(NOW.plusSeconds(60)));
+
+        assertTrue(saamfiTokenCache.get("first").isPresent());
+        assertTrue(saamfiTokenCache.get("second").isEmpty());
+        assertEquals(1.0, meterRegistry.counter("saamfi.tokenCache.eviction").count());
+    }
+
+    private SaamfiJwtClaims claimsExpiringAt(Instant expiration) {
+        return new SaamfiJwtClaims("jdoe", 6L, 1L, Set.of("ROLE_Access-system"), Date.from(expiration));
+    }
+}
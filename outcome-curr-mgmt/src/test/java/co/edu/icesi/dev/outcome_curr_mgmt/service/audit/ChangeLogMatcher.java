@@ -19,9 +19,19 @@ public class ChangeLogMatcher implements ArgumentMatcher<Changelog> {
                 Objects.equals(changelogRight.getClogAction(),changelogLeft.getClogAction()) &&
                 Objects.equals(changelogRight.getClogAffectedRecordId(),changelogLeft.getClogAffectedRecordId()) &&
                 Objects.equals(changelogRight.getClogAffectedTable(),changelogLeft.getClogAffectedTable()) &&
-                Objects.equals(changelogRight.getClogLogNewVal(),changelogLeft.getClogLogNewVal()) &&
-                Objects.equals(changelogRight.getClogLogOldVal(),changelogLeft.getClogLogOldVal()) &&
+                Objects.equals(changelogRight.getClogVersion(),changelogLeft.getClogVersion()) &&
+                Objects.equals(patch(changelogRight),patch(changelogLeft)) &&
+                Objects.equals(snapshot(changelogRight),snapshot(changelogLeft)) &&
                 changelogRight.getClogTimestamp()!=null;
 
     }
+
+    // Patches and snapshots are compared as JSON, so field order and compression do not matter
+    private static Object patch(Changelog changelog) {
+        return changelog.getClogPatch() == null ? null : ChangeLogSnapshots.readValue(changelog.getClogPatch());
+    }
+
+    private static Object snapshot(Changelog changelog) {
+        return changelog.getClogSnapshot() == null ? null : ChangeLogSnapshots.decompress(changelog.getClogSnapshot());
+    }
 }
@@ -5,8 +5,8 @@ import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
 import co.edu.icesi.dev.outcome_curr_mgmt.mapper.audit.ChangeLogMapper;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogOutboxRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogRepository;
-import co.edu.icesi.dev.outcome_curr_mgmt.persistence.management.UserRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.saamfi.util.SaamfiJwtTools;
 import co.edu.icesi.dev.outcome_curr_mgmt.util.OutcomeCurrMgmtUtil;
 
@@ -19,17 +19,26 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,7 +56,10 @@ class ChangeLogServiceTest {
     ChangeLogMapper changeLogMapper= Mappers.getMapper(ChangeLogMapper.class);
 
     @Mock
-    UserRepository userRepository;
+    ChangeLogOutboxRepository changeLogOutboxRepository;
+
+    @Mock
+    ChangeLogWriter changeLogWriter;
 
     @Mock
     SaamfiJwtTools saamfiJwtTools;
@@ -58,7 +70,8 @@ class ChangeLogServiceTest {
     void setup(){
         ReflectionTestUtils.setField(changeLogService,"changeLogRepository",changeLogRepository);
         ReflectionTestUtils.setField(changeLogService,"changeLogMapper",changeLogMapper);
-        ReflectionTestUtils.setField(changeLogService,"userRepository",userRepository);
+        ReflectionTestUtils.setField(changeLogService,"changeLogOutboxRepository",changeLogOutboxRepository);
+        ReflectionTestUtils.setField(changeLogService,"changeLogWriter",changeLogWriter);
         ReflectionTestUtils.setField(changeLogService,"saamfiJwtTools",saamfiJwtTools);
 
 
@@ -67,24 +80,39 @@ class ChangeLogServiceTest {
     @Test
     void testAddChange(){
         var change=OutcomeCurrMgmtUtil.changePerfLvl();
-        when(userRepository.findByUsrName(any())).thenReturn(OutcomeCurrMgmtUtil.testUser());
+        var perfLvl=OutcomeCurrMgmtUtil.perfLvl1OutDTO();
         when(saamfiJwtTools.getLoggedInUserUsername()).thenReturn(OutcomeCurrMgmtUtil.USRNAME);
+        when(changeLogOutboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeLogService.addChange(
+                    ChangeLogAction.CREATE,
+                    "1234",
+                    "PerfLvl",
+                    perfLvl,
+                    null
+            );
+            verify(changeLogOutboxRepository,times(1)).save(argThat(outbox ->
+                    Objects.equals(outbox.getClogAction(),change.getClogAction()) &&
+                    Objects.equals(outbox.getClogAffectedRecordId(),change.getClogAffectedRecordId()) &&
+                    Objects.equals(outbox.getClogAffectedTable(),change.getClogAffectedTable()) &&
+                    Objects.equals(outbox.getClogLogNewVal(),change.getClogLogNewVal()) &&
+                    Objects.equals(outbox.getClogLogOldVal(),change.getClogLogOldVal()) &&
+                    Objects.equals(outbox.getUsrName(),OutcomeCurrMgmtUtil.USRNAME) &&
+                    outbox.getClogTimestamp()!=null));
+            verify(changeLogWriter,never()).enqueue(anyLong());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
 
-        Changelog changelog= changeLogService.addChange(
-                ChangeLogAction.CREATE,
-                "1234",
-                "PerfLvl",
-                OutcomeCurrMgmtUtil.perfLvl1OutDTO(),
-                null
-        );
-        verify(changeLogRepository,times(1)).save(argThat(new ChangeLogMatcher(change)));
-
+        verify(changeLogWriter,times(1)).enqueue(0L);
+        verify(changeLogRepository,times(0)).save(any());
     }
 
     @Test
     void testAddChangeJsonProcessingException(){
-        when(userRepository.findByUsrName(any())).thenReturn(OutcomeCurrMgmtUtil.testUser());
-        when(saamfiJwtTools.getLoggedInUserUsername()).thenReturn(OutcomeCurrMgmtUtil.USRNAME);
 
         try {
              changeLogService.addChange(
@@ -102,7 +130,7 @@ class ChangeLogServiceTest {
             assertEquals("clogLogNewVal or clogLogOldValStr",outCurrExceptionType.getParameterName());
             assertEquals(HttpStatus.INTERNAL_SERVER_ERROR,outCurrExceptionType.getResponseStatus());
 
-            verify(changeLogRepository,times(0)).save(any());
+            verify(changeLogOutboxRepository,times(0)).save(any());
 
         }
 
@@ -175,4 +203,105 @@ class ChangeLogServiceTest {
 
     }
 
+    @Test
+    void testSearchChangesReturnsCursorWhenThereAreMoreChanges(){
+        // Arrange
+        List<Changelog> changelogs= new ArrayList<>();
+        for (long clogId = 3; clogId > 0; clogId--) {
+            Changelog changelog = OutcomeCurrMgmtUtil.changePerfLvl();
+            changelog.setClogId(clogId);
+            changelogs.add(changelog);
+        }
+        when(changeLogRepository.findNewest(any(),eq(3))).thenReturn(changelogs);
+
+        // Act
+        var page = changeLogService.searchChanges(OutcomeCurrMgmtUtil.changeLogUserFilterInDTO(),null,2);
+
+        // Assert
+        assertEquals(2,page.changes().size());
+        ChangeLogCursor cursor = ChangeLogCursor.decode(page.nextCursor());
+        assertEquals(2,cursor.clogId());
+        assertEquals(changelogs.get(1).getClogTimestamp(),cursor.clogTimestamp());
+    }
+
+    @Test
+    void testSearchChangesLastPage(){
+        // Arrange
+        List<Changelog> changelogs= new ArrayList<>();
+        changelogs.add(OutcomeCurrMgmtUtil.changePerfLvl());
+        when(changeLogRepository.findNewest(any(),anyInt())).thenReturn(changelogs);
+        String cursor = new ChangeLogCursor(new Timestamp(new Date().getTime()),10).encode();
+
+        // Act
+        var page = changeLogService.searchChanges(OutcomeCurrMgmtUtil.changeLogEntityFilterInDTO(),cursor,50);
+
+        // Assert
+        assertEquals(1,page.changes().size());
+        assertNull(page.nextCursor());
+        verify(changeLogRepository,times(1)).findNewest(any(),eq(51));
+    }
+
+    @Test
+    void testSearchChangesClampsLimit(){
+        // Arrange
+        when(changeLogRepository.findNewest(any(),anyInt())).thenReturn(new ArrayList<>());
+
+        // Act
+        changeLogService.searchChanges(OutcomeCurrMgmtUtil.changeLogUserFilterInDTO(),null,100000);
+
+        // Assert
+        verify(changeLogRepository,times(1)).findNewest(any(),eq(ChangeLogServiceImpl.MAX_SEARCH_LIMIT+1));
+    }
+
+    @Test
+    void testSearchChangesInvalidCursor(){
+        try {
+            changeLogService.searchChanges(OutcomeCurrMgmtUtil.changeLogUserFilterInDTO(),"not a cursor",50);
+            fail();
+        } catch (OutCurrException e){
+            OutCurrExceptionType outCurrExceptionType = e.getOutCurrExceptionType();
+            assertEquals(4154,outCurrExceptionType.getCode());
+            assertEquals("cursor",outCurrExceptionType.getParameterName());
+            assertEquals(HttpStatus.BAD_REQUEST,outCurrExceptionType.getResponseStatus());
+
+            verify(changeLogRepository,times(0)).findNewest(any(),anyInt());
+        }
+    }
+
+    @Test
+    void testGetVersionAppliesPatchesAfterSnapshot(){
+        // Arrange
+        Changelog snapshot = OutcomeCurrMgmtUtil.changePerfLvl();
+        snapshot.setClogVersion(1);
+        snapshot.setClogSnapshot(ChangeLogSnapshots.compress(ChangeLogSnapshots.readValue("{\"plId\":1234,\"plOrder\":1}")));
+        Changelog update = OutcomeCurrMgmtUtil.changePerfLvl();
+        update.setClogVersion(2);
+        update.setClogPatch("[{\"op\":\"replace\",\"path\":\"/plOrder\",\"value\":2}]");
+        when(changeLogRepository.findFirstByClogAffectedTableAndClogAffectedRecordIdAndClogVersionLessThanEqualAndClogSnapshotIsNotNullOrderByClogVersionDesc(
+                OutcomeCurrMgmtUtil.CLOG_AFFECTED_TABLE,"1234",2)).thenReturn(Optional.of(snapshot));
+        when(changeLogRepository.findAllByClogAffectedTableAndClogAffectedRecordIdAndClogVersionBetweenOrderByClogVersionAsc(
+                OutcomeCurrMgmtUtil.CLOG_AFFECTED_TABLE,"1234",2,2)).thenReturn(List.of(update));
+
+        // Act
+        var version = changeLogService.getVersion(OutcomeCurrMgmtUtil.CLOG_AFFECTED_TABLE,"1234",2);
+
+        // Assert
+        assertEquals(2,version.clogVersion());
+        assertEquals("{\"plId\":1234,\"plOrder\":2}",version.clogValue());
+    }
+
+    @Test
+    void testGetVersionNotFound(){
+        when(changeLogRepository.findFirstByClogAffectedTableAndClogAffectedRecordIdAndClogVersionLessThanEqualAndClogSnapshotIsNotNullOrderByClogVersionDesc(
+                any(),any(),any())).thenReturn(Optional.empty());
+        try {
+            changeLogService.getVersion(OutcomeCurrMgmtUtil.CLOG_AFFECTED_TABLE,"1234",3);
+            fail();
+        } catch (OutCurrException e){
+            OutCurrExceptionType outCurrExceptionType = e.getOutCurrExceptionType();
+            assertEquals(4155,outCurrExceptionType.getCode());
+            assertEquals(HttpStatus.NOT_FOUND,outCurrExceptionType.getResponseStatus());
+        }
+    }
+
 }
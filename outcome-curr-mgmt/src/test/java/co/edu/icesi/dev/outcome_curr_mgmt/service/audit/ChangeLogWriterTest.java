@@ -0,0 +1,346 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.Changelog;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.audit.ChangelogOutbox;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.audit.ChangeLogVersionProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogOutboxRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.audit.ChangeLogRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.management.UserRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.util.OutcomeCurrMgmtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChangeLogWriterTest {
+
+    private static final String VERSION_3 = "{\"plId\":1234,\"plOrder\":0}";
+    private static final String VERSION_4 = "{\"plId\":1234,\"plOrder\":1}";
+
+    private ChangeLogWriter changeLogWriter;
+    private ChangeLogOutboxRepository changeLogOutboxRepository;
+    private ChangeLogRepository changeLogRepository;
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        changeLogOutboxRepository = mock(ChangeLogOutboxRepository.class);
+        changeLogRepository = mock(ChangeLogRepository.class);
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        changeLogWriter = new ChangeLogWriter(changeLogOutboxRepository, changeLogRepository, userRepository,
+                mock(PlatformTransactionManager.class), meterRegistry, 10, 2, 10, 2);
+    }
+
+    // A batch becomes changelog rows with their user resolved in one query, and leaves the outbox.
+    @Test
+    void testWriteBatchMovesOutboxRowsToChangelog() {
+        var change = OutcomeCurrMgmtUtil.changePerfLvl();
+        List<ChangelogOutbox> rows = List.of(toOutbox(1L, change), toOutbox(2L, change));
+        when(changeLogOutboxRepository.findAllByCoutIdIn(List.of(1L, 2L))).thenReturn(rows);
+        when(userRepository.findAllByUsrNameIn(List.of(OutcomeCurrMgmtUtil.USRNAME)))
+                .thenReturn(List.of(OutcomeCurrMgmtUtil.testUser()));
+        Changelog firstVersion = expected(change, 1,
+                "[{\"op\":\"replace\",\"path\":\"\",\"value\":" + change.getClogLogNewVal() + "}]",
+                change.getClogLogNewVal());
+        Changelog secondVersion = expected(change, 2, "[]", null);
+
+        changeLogWriter.writeBatch(List.of(1L, 2L));
+
+        verify(changeLogRepository, times(1)).saveAllAndFlush(argThat((List<Changelog> changelogs) ->
+                changelogs.size() == 2
+                        && new ChangeLogMatcher(firstVersion).matches(changelogs.get(0))
+                        && new ChangeLogMatcher(secondVersion).matches(changelogs.get(1))
+                        && changelogs.stream().allMatch(changelog -> changelog.getUser() != null)));
+        verify(changeLogOutboxRepository, times(1)).deleteAllInBatch(rows);
+        verify(userRepository, times(1)).findAllByUsrNameIn(any());
+        assertEquals(2, meterRegistry.counter("changelog.written").count());
+    }
+
+    // Versions continue from the latest one written for the record and patch from its rebuilt value, not from the
+    // old value each change captured, with a snapshot every snapshotInterval versions.
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWriteBatchStoresPatchesAndSnapshots() {
+        var change = OutcomeCurrMgmtUtil.changePerfLvl();
+        ChangelogOutbox update = toOutbox(1L, ChangeLogAction.UPDATE, "{\"plId\":1234,\"plOrder\":2}", VERSION_4);
+        ChangelogOutbox unrelatedOldValue = toOutbox(2L, ChangeLogAction.UPDATE, "{\"plId\":1234,\"plOrder\":3}",
+                "{\"acadProgramId\":12345}");
+        when(changeLogOutboxRepository.findAllByCoutIdIn(List.of(1L, 2L))).thenReturn(List.of(unrelatedOldValue, update));
+        when(changeLogRepository.findLatestVersions(any(), any())).thenReturn(List.of(new ChangeLogVersionProjection(
+                change.getClogAffectedTable(), change.getClogAffectedRecordId(), 4)));
+        stubHistory(List.of(written(3, null, VERSION_3),
+                written(4, "[{\"op\":\"replace\",\"path\":\"/plOrder\",\"value\":1}]", null)));
+
+        changeLogWriter.writeBatch(List.of(1L, 2L));
+
+        ArgumentCaptor<List<Changelog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository, times(1)).saveAllAndFlush(captor.capture());
+        List<Changelog> changelogs = captor.getValue();
+        assertEquals(5, changelogs.get(0).getClogVersion());
+        assertNotNull(changelogs.get(0).getClogSnapshot());
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/plOrder\",\"value\":2}]", changelogs.get(0).getClogPatch());
+        assertEquals(6, changelogs.get(1).getClogVersion());
+        assertNull(changelogs.get(1).getClogSnapshot());
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/plOrder\",\"value\":3}]", changelogs.get(1).getClogPatch());
+        assertNull(changelogs.get(1).getClogLogNewVal());
+    }
+
+    // When the latest version cannot be rebuilt there is nothing to patch from, so the next one is a snapshot.
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWriteBatchAfterBrokenHistoryStoresSnapshot() {
+        var change = OutcomeCurrMgmtUtil.changePerfLvl();
+        ChangelogOutbox update = toOutbox(1L, ChangeLogAction.UPDATE, "{\"plId\":1234,\"plOrder\":2}", VERSION_4);
+        when(changeLogOutboxRepository.findAllByCoutIdIn(List.of(1L))).thenReturn(List.of(update));
+        when(changeLogRepository.findLatestVersions(any(), any())).thenReturn(List.of(new ChangeLogVersionProjection(
+                change.getClogAffectedTable(), change.getClogAffectedRecordId(), 5)));
+        stubHistory(List.of(written(3, null, VERSION_3), written(5, null, null)));
+
+        changeLogWriter.writeBatch(List.of(1L));
+
+        ArgumentCaptor<List<Changelog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository, times(1)).saveAllAndFlush(captor.capture());
+        Changelog changelog = captor.getValue().get(0);
+        assertEquals(6, changelog.getClogVersion());
+        assertNull(changelog.getClogPatch());
+        assertEquals(ChangeLogSnapshots.readValue("{\"plId\":1234,\"plOrder\":2}"),
+                ChangeLogSnapshots.decompress(changelog.getClogSnapshot()));
+    }
+
+    // A stored value that cannot be read leaves a version without patch or snapshot, and the version after it is
+    // stored as a snapshot.
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWriteBatchWithUnreadableValueStoresTheEventOnly() {
+        ChangelogOutbox unreadable = toOutbox(1L, ChangeLogAction.UPDATE, "{\"plId\":", null);
+        ChangelogOutbox update = toOutbox(2L, ChangeLogAction.UPDATE, VERSION_4, VERSION_3);
+        when(changeLogOutboxRepository.findAllByCoutIdIn(List.of(1L, 2L))).thenReturn(List.of(unreadable, update));
+
+        changeLogWriter.writeBatch(List.of(1L, 2L));
+
+        ArgumentCaptor<List<Changelog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository, times(1)).saveAllAndFlush(captor.capture());
+        List<Changelog> changelogs = captor.getValue();
+        assertEquals(1, changelogs.get(0).getClogVersion());
+        assertNull(changelogs.get(0).getClogPatch());
+        assertNull(changelogs.get(0).getClogSnapshot());
+        assertEquals(2, changelogs.get(1).getClogVersion());
+        assertNull(changelogs.get(1).getClogPatch());
+        assertEquals(ChangeLogSnapshots.readValue(VERSION_4),
+                ChangeLogSnapshots.decompress(changelogs.get(1).getClogSnapshot()));
+        verify(changeLogOutboxRepository, times(1)).deleteAllInBatch(List.of(unreadable, update));
+    }
+
+    // A version taken by another writer rolls the batch back and leaves it in the outbox for the next sweep.
+    @Test
+    void testWriteBatchWithVersionConflictStaysInTheOutbox() {
+        var change = OutcomeCurrMgmtUtil.changePerfLvl();
+        List<ChangelogOutbox> rows = List.of(toOutbox(1L, change));
+        when(changeLogOutboxRepository.findAllByCoutIdIn(List.of(1L))).thenReturn(rows);
+        when(changeLogRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("CHANGELOG_RECORD_VERSION_IDX"));
+
+        changeLogWriter.writeBatch(List.of(1L));
+
+        verify(changeLogOutboxRepository, never()).deleteAllInBatch(any());
+        assertEquals(1, meterRegistry.counter("changelog.version.conflict").count());
+        assertEquals(0, meterRegistry.counter("changelog.written").count());
+    }
+
+    // Replaying the snapshots and patches written over several batches gives back every version of the record.
+    @Test
+    void testWrittenVersionsReplayToTheirValues() {
+        List<String> values = new ArrayList<>();
+        values.add("{\"plId\":1234,\"plNameEng\":\"Low\",\"plOrder\":1}");
+        values.add("{\"plId\":1234,\"plNameEng\":\"Low\",\"plOrder\":2}");
+        values.add("{\"plId\":1234,\"plNameEng\":\"Basic\",\"plOrder\":2}");
+        values.add("{\"plId\":1234,\"plNameEng\":\"Basic\",\"plOrder\":3,\"plNameSpa\":\"Basico\"}");
+        values.add("{\"plId\":1234,\"plNameEng\":\"Basic\",\"plOrder\":3}");
+        values.add(null);
+        List<ChangelogOutbox> rows = List.of(
+                toOutbox(1L, ChangeLogAction.CREATE, values.get(0), null),
+                toOutbox(2L, ChangeLogAction.UPDATE, values.get(1), "{\"plId\":1234}"),
+                toOutbox(3L, ChangeLogAction.UPDATE, values.get(2), values.get(0)),
+                toOutbox(4L, ChangeLogAction.UPDATE, values.get(3), null),
+                toOutbox(5L, ChangeLogAction.UPDATE, values.get(4), values.get(4)),
+                toOutbox(6L, ChangeLogAction.DELETE, values.get(5), values.get(4)));
+        when(changeLogOutboxRepository.findAllByCoutIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return rows.stream().filter(row -> ids.contains(row.getCoutId())).toList();
+        });
+        List<Changelog> changelog = new ArrayList<>();
+        when(changeLogRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Changelog> changelogs = invocation.getArgument(0);
+            changelog.addAll(changelogs);
+            return changelogs;
+        });
+        when(changeLogRepository.findLatestVersions(any(), any())).thenAnswer(invocation -> changelog.stream()
+                .collect(Collectors.groupingBy(Changelog::getClogAffectedRecordId,
+                        Collectors.mapping(Changelog::getClogVersion, Collectors.maxBy(Comparator.naturalOrder()))))
+                .entrySet().stream()
+                .map(latest -> new ChangeLogVersionProjection(OutcomeCurrMgmtUtil.CLOG_AFFECTED_TABLE,
+                        latest.getKey(), latest.getValue().orElseThrow()))
+                .toList());
+        stubHistory(changelog);
+
+        changeLogWriter.writeBatch(List.of(1L));
+        changeLogWriter.writeBatch(List.of(2L, 3L));
+        changeLogWriter.writeBatch(List.of(4L));
+        changeLogWriter.writeBatch(List.of(5L, 6L));
+
+        assertEquals(6, changelog.size());
+        for (int clogVersion = 1; clogVersion <= values.size(); clogVersion++) {
+            assertEquals(ChangeLogSnapshots.readValue(values.get(clogVersion - 1)),
+                    ChangeLogHistory.rebuild(changeLogRepository, OutcomeCurrMgmtUtil.CLOG_AFFECTED_TABLE, "1234",
+                            clogVersion));
+        }
+    }
+
+    // Ids already written by a sweep are skipped without touching the changelog.
+    @Test
+    void testWriteBatchOfAlreadyWrittenRowsDoesNothing() {
+        when(changeLogOutboxRepository.findAllByCoutIdIn(List.of(1L))).thenReturn(List.of());
+
+        changeLogWriter.writeBatch(List.of(1L));
+
+        verify(changeLogRepository, never()).saveAllAndFlush(anyList());
+        verify(changeLogOutboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    // The sweep keeps reading the outbox while full batches come back.
+    @Test
+    void testSweepDrainsTheOutbox() {
+        var change = OutcomeCurrMgmtUtil.changePerfLvl();
+        List<ChangelogOutbox> firstBatch = List.of(toOutbox(1L, change), toOutbox(2L, change));
+        List<ChangelogOutbox> lastBatch = List.of(toOutbox(3L, change));
+        when(changeLogOutboxRepository.findAllByOrderByCoutIdAsc(any(Pageable.class)))
+                .thenReturn(firstBatch, lastBatch);
+
+        changeLogWriter.sweep();
+
+        verify(changeLogOutboxRepository, times(2)).findAllByOrderByCoutIdAsc(any(Pageable.class));
+        verify(changeLogOutboxRepository, times(1)).deleteAllInBatch(firstBatch);
+        verify(changeLogOutboxRepository, times(1)).deleteAllInBatch(lastBatch);
+    }
+
+    // Ids that do not fit in the queue are counted and left in the outbox for the sweep.
+    @Test
+    void testEnqueueNeverBlocks() {
+        changeLogWriter = new ChangeLogWriter(changeLogOutboxRepository, changeLogRepository, userRepository,
+                mock(PlatformTransactionManager.class), meterRegistry, 1, 2, 10, 2);
+
+        changeLogWriter.enqueue(1L);
+        changeLogWriter.enqueue(2L);
+
+        assertEquals(1, meterRegistry.counter("changelog.queue.overflow").count());
+    }
+
+    // Stopping writes the ids still queued instead of leaving them for the next start.
+    @Test
+    void testStopWritesTheQueuedIds() {
+        var change = OutcomeCurrMgmtUtil.changePerfLvl();
+        List<ChangelogOutbox> rows = List.of(toOutbox(1L, change), toOutbox(2L, change));
+        when(changeLogOutboxRepository.findAllByCoutIdIn(List.of(1L, 2L))).thenReturn(rows);
+        changeLogWriter.enqueue(1L);
+        changeLogWriter.enqueue(2L);
+
+        changeLogWriter.stop();
+
+        verify(changeLogOutboxRepository, times(1)).deleteAllInBatch(rows);
+        assertEquals(2, meterRegistry.counter("changelog.written").count());
+    }
+
+    // Answers the version finders of the changelog repository from the given rows of the test record.
+    private void stubHistory(List<Changelog> changelog) {
+        when(changeLogRepository
+                .findFirstByClogAffectedTableAndClogAffectedRecordIdAndClogVersionLessThanEqualAndClogSnapshotIsNotNullOrderByClogVersionDesc(
+                        anyString(), anyString(), anyInt()))
+                .thenAnswer(invocation -> {
+                    int clogVersion = invocation.getArgument(2);
+                    return changelog.stream()
+                            .filter(written -> written.getClogVersion() <= clogVersion
+                                    && written.getClogSnapshot() != null)
+                            .max(Comparator.comparing(Changelog::getClogVersion));
+                });
+        when(changeLogRepository
+                .findAllByClogAffectedTableAndClogAffectedRecordIdAndClogVersionBetweenOrderByClogVersionAsc(
+                        anyString(), anyString(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    int fromVersion = invocation.getArgument(2);
+                    int toVersion = invocation.getArgument(3);
+                    return changelog.stream()
+                            .filter(written -> written.getClogVersion() >= fromVersion
+                                    && written.getClogVersion() <= toVersion)
+                            .sorted(Comparator.comparing(Changelog::getClogVersion))
+                            .toList();
+                });
+    }
+
+    private static Changelog written(int clogVersion, String clogPatch, String snapshot) {
+        Changelog changelog = expected(OutcomeCurrMgmtUtil.changePerfLvl(), clogVersion, clogPatch, snapshot);
+        changelog.setClogAction(ChangeLogAction.UPDATE.toString());
+        return changelog;
+    }
+
+    private static Changelog expected(Changelog change, int clogVersion, String clogPatch, String snapshot) {
+        Changelog changelog = OutcomeCurrMgmtUtil.changePerfLvl();
+        changelog.setClogAction(change.getClogAction());
+        changelog.setClogVersion(clogVersion);
+        changelog.setClogPatch(clogPatch);
+        changelog.setClogSnapshot(snapshot == null ? null
+                : ChangeLogSnapshots.compress(ChangeLogSnapshots.readValue(snapshot)));
+        return changelog;
+    }
+
+    private static ChangelogOutbox toOutbox(long coutId, ChangeLogAction action, String newValue, String oldValue) {
+        var change = OutcomeCurrMgmtUtil.changePerfLvl();
+        return ChangelogOutbox.builder()
+                .coutId(coutId)
+                .clogAction(action.toString())
+                .clogAffectedRecordId(change.getClogAffectedRecordId())
+                .clogAffectedTable(change.getClogAffectedTable())
+                .clogLogNewVal(newValue)
+                .clogLogOldVal(oldValue)
+                .clogTimestamp(change.getClogTimestamp())
+                .build();
+    }
+
+    private static ChangelogOutbox toOutbox(long coutId, Changelog change) {
+        return ChangelogOutbox.builder()
+                .coutId(coutId)
+                .clogAction(change.getClogAction())
+                .clogAffectedRecordId(change.getClogAffectedRecordId())
+                .clogAffectedTable(change.getClogAffectedTable())
+                .clogLogNewVal(change.getClogLogNewVal())
+                .clogLogOldVal(change.getClogLogOldVal())
+                .clogTimestamp(change.getClogTimestamp())
+                .usrName(OutcomeCurrMgmtUtil.USRNAME)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonPatchesTest {
+
+    // Only the fields that changed end up in the patch.
+    @Test
+    void testDiffOfObjectsKeepsOnlyChangedFields() {
+        // Arrange
+        JsonNode source = ChangeLogSnapshots.readValue("{\"id\":1,\"name\":\"a\",\"old\":true,\"nested\":{\"x\":1}}");
+        JsonNode target = ChangeLogSnapshots.readValue("{\"id\":1,\"name\":\"b\",\"nested\":{\"x\":2},\"new\":[1]}");
+
+        // Act
+        ArrayNode patch = JsonPatches.diff(source, target);
+
+        // Assert
+        assertEquals(ChangeLogSnapshots.readValue("["
+                + "{\"op\":\"remove\",\"path\":\"/old\"},"
+                + "{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"b\"},"
+                + "{\"op\":\"replace\",\"path\":\"/nested/x\",\"value\":2},"
+                + "{\"op\":\"add\",\"path\":\"/new\",\"value\":[1]}]"), patch);
+        assertEquals(target, JsonPatches.apply(source, patch));
+    }
+
+    // Arrays that grow or shrink, and field names that need escaping, round-trip through the patch.
+    @Test
+    void testDiffOfArraysAppliesBack() {
+        // Arrange
+        JsonNode source = ChangeLogSnapshots.readValue("{\"a/b\":[1,2,3],\"c~d\":[{\"x\":1}]}");
+        JsonNode target = ChangeLogSnapshots.readValue("{\"a/b\":[1,5],\"c~d\":[{\"x\":1},{\"x\":2},{\"x\":3}]}");
+
+        // Act
+        ArrayNode patch = JsonPatches.diff(source, target);
+
+        // Assert
+        assertEquals(target, JsonPatches.apply(source, patch));
+        assertEquals("/a~1b/1", patch.get(0).get("path").asText());
+    }
+
+    // Creating and deleting a record replace the whole document.
+    @Test
+    void testDiffFromAndToNothing() {
+        // Arrange
+        JsonNode value = ChangeLogSnapshots.readValue("{\"id\":1}");
+
+        // Act
+        ArrayNode create = JsonPatches.diff(NullNode.getInstance(), value);
+        ArrayNode delete = JsonPatches.diff(value, NullNode.getInstance());
+
+        // Assert
+        assertEquals(1, create.size());
+        assertEquals(value, JsonPatches.apply(NullNode.getInstance(), create));
+        assertTrue(JsonPatches.apply(value, delete).isNull());
+    }
+
+    // A snapshot decompresses to the same document.
+    @Test
+    void testSnapshotRoundTrip() {
+        JsonNode value = ChangeLogSnapshots.readValue("{\"id\":1,\"name\":\"a\"}");
+
+        assertEquals(value, ChangeLogSnapshots.decompress(ChangeLogSnapshots.compress(value)));
+    }
+}
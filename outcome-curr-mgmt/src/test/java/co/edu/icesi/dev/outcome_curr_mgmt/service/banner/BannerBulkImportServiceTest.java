@@ -0,0 +1,139 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.banner;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.FacultyInDTO;
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.AcadProgramOutDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client.BannerAPI;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.AcadProgramMapper;
+import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.FacultyMapper;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.AcadProgramRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogService;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.FacultyValidator;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.UserPermAccess;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static co.edu.icesi.dev.outcome_curr_mgmt.util.OutcomeCurrMgmtUtil.secondFacultyInDTO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BannerBulkImportServiceTest {
+
+    private BannerBulkImportServiceImpl bannerBulkImportService;
+    private BannerAPI bannerAPI;
+    private FacultyValidator facultyValidator;
+    private FacultyRepository facultyRepository;
+    private AcadProgramRepository acadProgramRepository;
+    private ChangeLogService changeLogService;
+
+    @BeforeEach
+    void init() {
+        bannerAPI = mock(BannerAPI.class);
+        facultyValidator = mock(FacultyValidator.class);
+        facultyRepository = mock(FacultyRepository.class);
+        acadProgramRepository = mock(AcadProgramRepository.class);
+        changeLogService = mock(ChangeLogService.class);
+        bannerBulkImportService = new BannerBulkImportServiceImpl(bannerAPI, facultyValidator, facultyRepository,
+                acadProgramRepository, Mappers.getMapper(FacultyMapper.class),
+                Mappers.getMapper(AcadProgramMapper.class), changeLogService, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 2);
+        when(facultyRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(acadProgramRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void shutdown() {
+        bannerBulkImportService.shutdown();
+    }
+
+    // New faculties come in with all their programs; programs already imported are left out.
+    @Test
+    void testImportAllSavesNewFacultiesWithTheirPrograms() {
+        // Arrange
+        FacultyInDTO bannerFaculty = secondFacultyInDTO();
+        when(bannerAPI.getFacultiesList()).thenReturn(List.of(bannerFaculty));
+        when(bannerAPI.getAcadProgramsList(bannerFaculty.externalId()))
+                .thenReturn(List.of(bannerProgram(1L), bannerProgram(2L), bannerProgram(3L)));
+        when(facultyRepository.findAllByExternalIdInOrFacNameEngInOrFacNameSpaIn(any(), any(), any()))
+                .thenReturn(List.of());
+        when(acadProgramRepository.findAllExternalIdsByExternalIdIn(any())).thenReturn(List.of("3"));
+
+        // Act
+        var result = bannerBulkImportService.importAll();
+
+        // Assert
+        assertEquals(1, result.facultiesImported());
+        assertEquals(2, result.acadProgramsImported());
+        assertEquals(1, result.acadProgramsSkipped());
+        verify(facultyValidator, times(1)).enforceUsrFacForFaculty(0L, UserPermAccess.ADMIN);
+        verify(facultyRepository, times(1)).save(argThat(faculty ->
+                bannerFaculty.externalId().equals(faculty.getExternalId())));
+        verify(acadProgramRepository, times(1)).saveAll(argThat((List<AcadProgram> programs) ->
+                programs.size() == 2 && programs.stream().allMatch(program -> program.getFaculty() != null)));
+        verify(changeLogService, times(3)).addChange(eq(ChangeLogAction.CREATE), any(), any(), any(), isNull());
+    }
+
+    // Faculties already imported are not saved again, and one that clashes by name is skipped.
+    @Test
+    void testImportAllSkipsExistingFaculties() {
+        // Arrange
+        FacultyInDTO imported = secondFacultyInDTO();
+        FacultyInDTO clashing = FacultyInDTO.builder().isActive("Y").facNameEng("Taken").facNameSpa("Nueva")
+                .externalId("999").build();
+        when(bannerAPI.getFacultiesList()).thenReturn(List.of(imported, clashing));
+        when(bannerAPI.getAcadProgramsList(any())).thenReturn(List.of());
+        Faculty existing = Faculty.builder().facNameEng(imported.facNameEng()).facNameSpa(imported.facNameSpa())
+                .externalId(imported.externalId()).build();
+        Faculty sameName = Faculty.builder().facNameEng("Taken").facNameSpa("Tomada").build();
+        when(facultyRepository.findAllByExternalIdInOrFacNameEngInOrFacNameSpaIn(any(), any(), any()))
+                .thenReturn(List.of(existing, sameName));
+
+        // Act
+        var result = bannerBulkImportService.importAll();
+
+        // Assert
+        assertEquals(0, result.facultiesImported());
+        assertEquals(2, result.facultiesSkipped());
+        verify(facultyRepository, never()).save(any());
+        verify(changeLogService, never()).addChange(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testImportAllWithoutFacultiesInBanner() {
+        when(bannerAPI.getFacultiesList()).thenReturn(List.of());
+
+        OutCurrException exception = assertThrows(OutCurrException.class, () -> bannerBulkImportService.importAll());
+
+        assertEquals(OutCurrExceptionType.FACULTY_NOT_FOUND, exception.getOutCurrExceptionType());
+    }
+
+    private static AcadProgramOutDTO bannerProgram(long acpId) {
+        return AcadProgramOutDTO.builder()
+                .acpId(acpId)
+                .acpIsActive('Y')
+                .acpProgNameEng("Program " + acpId)
+                .acpProgNameSpa("Programa " + acpId)
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.banner;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.FacultyInDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client.BannerAPI;
+import co.edu.icesi.dev.outcome_curr_mgmt.academic_registry.client.BannerConditionalPage;
+import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.AcadProgramMapper;
+import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.FacultyMapper;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.banner.BannerSyncReport;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.banner.BannerSyncState;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.banner.BannerSyncReportRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.banner.BannerSyncStateRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.AcadProgramRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BannerSyncServiceTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    private BannerSyncServiceImpl bannerSyncService;
+    private BannerAPI bannerAPI;
+    private FacultyRepository facultyRepository;
+    private AcadProgramRepository acadProgramRepository;
+    private BannerSyncStateRepository bannerSyncStateRepository;
+    private BannerSyncReportRepository bannerSyncReportRepository;
+    private ChangeLogService changeLogService;
+
+    @BeforeEach
+    void init() {
+        bannerAPI = mock(BannerAPI.class);
+        facultyRepository = mock(FacultyRepository.class);
+        acadProgramRepository = mock(AcadProgramRepository.class);
+        bannerSyncStateRepository = mock(BannerSyncStateRepository.class);
+        bannerSyncReportRepository = mock(BannerSyncReportRepository.class);
+        changeLogService = mock(ChangeLogService.class);
+        bannerSyncService = new BannerSyncServiceImpl(bannerAPI, facultyRepository, acadProgramRepository,
+                bannerSyncStateRepository, bannerSyncReportRepository, Mappers.getMapper(FacultyMapper.class),
+                Mappers.getMapper(AcadProgramMapper.class), changeLogService, new ObjectMapper(),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), PAGE_SIZE);
+        when(facultyRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    // A page Banner reports as not modified is neither applied nor stored again.
+    @Test
+    void testSynchronizeSkipsPagesThatDidNotChange() {
+        // Arrange
+        BannerSyncState state = facultiesState("10");
+        when(bannerSyncStateRepository.findAllByBssResource("faculties")).thenReturn(List.of(state));
+        when(bannerAPI.getFacultiesPageIfChanged(1, PAGE_SIZE, "\"v1\"", "Mon, 12 Oct 2026 02:30:00 GMT"))
+                .thenReturn(BannerConditionalPage.unchanged());
+
+        // Act
+        bannerSyncService.synchronize();
+
+        // Assert
+        BannerSyncReport report = savedReport();
+        assertEquals("COMPLETED", report.getBsrStatus());
+        assertEquals(1, report.getBsrPagesNotModified());
+        assertEquals(0, report.getBsrPagesFetched());
+        verify(bannerSyncStateRepository, never()).save(any());
+        verify(facultyRepository, never()).save(any());
+        verify(changeLogService, never()).addChange(any(), any(), any(), any(), any());
+    }
+
+    // Deactivation does not depend on a page having changed in this run, so a faculty dropped while an earlier run
+    // failed is still deactivated, and so are the active programs of a faculty deactivated before.
+    @Test
+    void testSynchronizeDeactivatesMissingRecordsOnUnchangedRuns() {
+        // Arrange
+        Faculty removed = Faculty.builder().facId(30L).facIsActive('Y').facNameEng("Arts").facNameSpa("Artes")
+                .externalId("30").build();
+        Faculty removedBefore = Faculty.builder().facId(40L).facIsActive('N').facNameEng("Music")
+                .facNameSpa("Música").externalId("40").build();
+        AcadProgram program = AcadProgram.builder().acpId(7L).acpIsActive('Y').externalId("700")
+                .faculty(removedBefore).build();
+        when(bannerSyncStateRepository.findAllByBssResource("faculties")).thenReturn(List.of(facultiesState("10")));
+        when(bannerAPI.getFacultiesPageIfChanged(1, PAGE_SIZE, "\"v1\"", "Mon, 12 Oct 2026 02:30:00 GMT"))
+                .thenReturn(BannerConditionalPage.unchanged());
+        when(facultyRepository.findAllByExternalIdIsNotNull()).thenReturn(List.of(removed, removedBefore));
+        when(acadProgramRepository.findAllByFacultyFacIdInAndExternalIdIsNotNullAndAcpIsActive(List.of(30L, 40L),
+                'Y')).thenReturn(List.of(program));
+
+        // Act
+        bannerSyncService.synchronize();
+
+        // Assert
+        BannerSyncReport report = savedReport();
+        assertEquals(2, report.getBsrDeactivated());
+        assertEquals('N', removed.getFacIsActive());
+        assertEquals('N', program.getAcpIsActive());
+        verify(facultyRepository, times(1)).save(removed);
+        verify(facultyRepository, never()).save(removedBefore);
+        verify(acadProgramRepository, times(1)).save(program);
+    }
+
+    // A changed page creates the faculties Banner added and updates the ones it renamed.
+    @Test
+    void testSynchronizeUpsertsChangedPages() {
+        // Arrange
+        FacultyInDTO added = bannerFaculty("20", "Law", "Derecho");
+        FacultyInDTO renamed = bannerFaculty("10", "Engineering", "Ingeniería");
+        Faculty existing = Faculty.builder().facIsActive('Y').facNameEng("Engineering Faculty")
+                .facNameSpa("Facultad de Ingeniería").externalId("10").build();
+        when(bannerSyncStateRepository.findAllByBssResource("faculties")).thenReturn(List.of());
+        when(bannerAPI.getFacultiesPageIfChanged(1, PAGE_SIZE, null, null))
+                .thenReturn(new BannerConditionalPage<>(false, List.of(added, renamed), "\"v1\"", null, 1));
+        when(facultyRepository.findAllByExternalIdInOrFacNameEngInOrFacNameSpaIn(any(), any(), any()))
+                .thenReturn(List.of(existing));
+        when(facultyRepository.findAllByExternalIdIsNotNull()).thenReturn(List.of(existing));
+
+        // Act
+        bannerSyncService.synchronize();
+
+        // Assert
+        BannerSyncReport report = savedReport();
+        assertEquals(1, report.getBsrCreated());
+        assertEquals(1, report.getBsrUpdated());
+        assertEquals(0, report.getBsrDeactivated());
+        assertEquals("Engineering", existing.getFacNameEng());
+        verify(facultyRepository, times(2)).save(any());
+        verify(changeLogService, times(1)).addChange(eq(ChangeLogAction.CREATE), any(), eq("FACULTY"), any(),
+                isNull());
+        verify(changeLogService, times(1)).addChange(eq(ChangeLogAction.UPDATE), any(), eq("FACULTY"), any(),
+                any());
+        verify(bannerSyncStateRepository, times(1)).save(argThat(state ->
+                "10".equals(state.getBssExternalIds().split(",")[1]) && "\"v1\"".equals(state.getBssETag())));
+    }
+
+    // Imported faculties that Banner no longer lists are deactivated, not deleted.
+    @Test
+    void testSynchronizeDeactivatesMissingFaculties() {
+        // Arrange
+        FacultyInDTO kept = bannerFaculty("10", "Engineering", "Ingeniería");
+        Faculty existing = Faculty.builder().facIsActive('Y').facNameEng("Engineering").facNameSpa("Ingeniería")
+                .externalId("10").build();
+        Faculty removed = Faculty.builder().facIsActive('Y').facNameEng("Arts").facNameSpa("Artes")
+                .externalId("30").build();
+        when(bannerSyncStateRepository.findAllByBssResource("faculties")).thenReturn(List.of(facultiesState("10,30")));
+        when(bannerAPI.getFacultiesPageIfChanged(1, PAGE_SIZE, "\"v1\"", "Mon, 12 Oct 2026 02:30:00 GMT"))
+                .thenReturn(new BannerConditionalPage<>(false, List.of(kept), "\"v2\"", null, 1));
+        when(facultyRepository.findAllByExternalIdInOrFacNameEngInOrFacNameSpaIn(any(), any(), any()))
+                .thenReturn(List.of(existing));
+        when(facultyRepository.findAllByExternalIdIsNotNull()).thenReturn(List.of(existing, removed));
+
+        // Act
+        bannerSyncService.synchronize();
+
+        // Assert
+        BannerSyncReport report = savedReport();
+        assertEquals(0, report.getBsrUpdated());
+        assertEquals(1, report.getBsrDeactivated());
+        assertEquals('N', removed.getFacIsActive());
+        assertEquals('Y', existing.getFacIsActive());
+        verify(facultyRepository, times(1)).save(removed);
+    }
+
+    private BannerSyncReport savedReport() {
+        ArgumentCaptor<BannerSyncReport> report = ArgumentCaptor.forClass(BannerSyncReport.class);
+        verify(bannerSyncReportRepository, times(1)).save(report.capture());
+        return report.getValue();
+    }
+
+    private static BannerSyncState facultiesState(String externalIds) {
+        return BannerSyncState.builder()
+                .bssResource("faculties")
+                .bssPage(1)
+                .bssLastPage(1)
+                .bssETag("\"v1\"")
+                .bssLastModified("Mon, 12 Oct 2026 02:30:00 GMT")
+                .bssContentHash("previous")
+                .bssExternalIds(externalIds)
+                .build();
+    }
+
+    private static FacultyInDTO bannerFaculty(String externalId, String facNameEng, String facNameSpa) {
+        return FacultyInDTO.builder().isActive("Y").facNameEng(facNameEng).facNameSpa(facNameSpa)
+                .externalId(externalId).build();
+    }
+}
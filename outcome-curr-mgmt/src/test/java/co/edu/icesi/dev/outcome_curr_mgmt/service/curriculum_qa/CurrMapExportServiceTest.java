@@ -0,0 +1,113 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CurrMapExportFormat;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportColumnProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportCurriculumProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapExportRowProjection;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_definition.AcadProgCurriculumRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa.CurrMapRepository;
+import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa.PerfIndicatorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CurrMapExportServiceTest {
+
+    private CurrMapExportService currMapExportService;
+    private CurrMapRepository currMapRepository;
+    private PerfIndicatorRepository perfIndicatorRepository;
+    private AcadProgCurriculumRepository acadProgCurriculumRepository;
+
+    @BeforeEach
+    void init() {
+        currMapRepository = mock(CurrMapRepository.class);
+        perfIndicatorRepository = mock(PerfIndicatorRepository.class);
+        acadProgCurriculumRepository = mock(AcadProgCurriculumRepository.class);
+        currMapExportService = new CurrMapExportServiceImpl(currMapRepository, perfIndicatorRepository,
+                acadProgCurriculumRepository);
+    }
+
+    // Each course becomes one row and only the latest CurrMap of a cell is written.
+    @Test
+    void testExportCurrMapAsCsv() throws IOException {
+        // Arrange
+        stubCurriculum(1L, 1L);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        currMapExportService.exportCurrMap(1L, 1L, 1L, CurrMapExportFormat.CSV, outputStream);
+
+        // Assert
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertEquals("\uFEFFSemester,Course,PI 1,\"PI 2, written\"\r\n"
+                + "1,Calculus,High (Exam),\r\n"
+                + "2,Physics,,\r\n", csv);
+    }
+
+    @Test
+    void testExportCurrMapAsSpreadsheetXmlEscapesValues() throws IOException {
+        // Arrange
+        stubCurriculum(1L, 1L);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        currMapExportService.exportCurrMap(1L, 1L, 1L, CurrMapExportFormat.SPREADSHEET_XML, outputStream);
+
+        // Assert
+        String xml = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(xml.startsWith("<?xml"));
+        assertTrue(xml.contains("<Cell><Data ss:Type=\"String\">High (Exam)</Data></Cell><Cell/>"));
+        assertTrue(xml.endsWith("</Workbook>\n"));
+    }
+
+    // A faculty archive has one entry per curriculum.
+    @Test
+    void testExportFacultyCurrMapsWritesOneEntryPerCurriculum() throws IOException {
+        // Arrange
+        when(acadProgCurriculumRepository.findAllExportCurriculumsByFacultyId(1L)).thenReturn(List.of(
+                new CurrMapExportCurriculumProjection(1L, 1L, "Systems", "2020"),
+                new CurrMapExportCurriculumProjection(2L, 2L, "Design", "2021")));
+        stubCurriculum(1L, 1L);
+        stubCurriculum(2L, 2L);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        currMapExportService.exportFacultyCurrMaps(1L, CurrMapExportFormat.CSV, outputStream);
+
+        // Assert
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.add(entry.getName());
+                assertTrue(new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8).contains("Calculus"));
+            }
+        }
+        assertEquals(List.of("Systems - 2020 (1).csv", "Design - 2021 (2).csv"), entries);
+    }
+
+    private void stubCurriculum(long acadProgId, long acadProgCurrId) {
+        when(perfIndicatorRepository.findAllExportColumnsByAcadProgCurrId(acadProgCurrId)).thenReturn(List.of(
+                new CurrMapExportColumnProjection(10L, "PI 1"),
+                new CurrMapExportColumnProjection(20L, "PI 2, written")));
+        when(currMapRepository.streamExportRowsByAcadProgCurrIdAndAcadProgIdAndFacultyId(acadProgCurrId, acadProgId,
+                1L)).thenAnswer(invocation -> Stream.of(
+                new CurrMapExportRowProjection("1", 1L, "Calculus", 10L, "High", "Exam"),
+                new CurrMapExportRowProjection("1", 1L, "Calculus", 10L, "Low", null),
+                new CurrMapExportRowProjection("2", 2L, "Physics", null, null, null)));
+    }
+}
@@ -0,0 +1,109 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
+
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.MatrixDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.config.PrimaryReads;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CurrMapMatrixCacheTest {
+
+    private static final String JSON = MediaType.APPLICATION_JSON_VALUE;
+    private static final CurrMapMatrixCache.Key CURRICULUM_1 = new CurrMapMatrixCache.Key(1L, 1L, 1L);
+    private static final CurrMapMatrixCache.Key CURRICULUM_2 = new CurrMapMatrixCache.Key(1L, 1L, 2L);
+
+    private CurrMapService currMapService;
+    private CurrMapMatrixCache currMapMatrixCache;
+
+    @BeforeEach
+    void init() {
+        currMapService = mock(CurrMapService.class);
+        when(currMapService.getMatrixFingerprint(1L, 1L, 1L)).thenReturn("curriculum-1");
+        when(currMapService.getMatrixFingerprint(1L, 1L, 2L)).thenReturn("curriculum-2");
+        currMapMatrixCache = newCache();
+    }
+
+    // A change in the rows of one curriculum changes its ETag and rebuilds its matrix, and leaves the others cached.
+    @Test
+    void testChangedRowsOnlyAffectTheirCurriculum() {
+        // Arrange
+        MatrixDTO matrix1 = getOrBuild(CURRICULUM_1);
+        MatrixDTO matrix2 = getOrBuild(CURRICULUM_2);
+        String eTag1 = currMapMatrixCache.currentETag(CURRICULUM_1, JSON);
+        String eTag2 = currMapMatrixCache.currentETag(CURRICULUM_2, JSON);
+
+        // Act
+        when(currMapService.getMatrixFingerprint(1L, 1L, 1L)).thenReturn("curriculum-1-changed");
+
+        // Assert
+        assertNotEquals(eTag1, currMapMatrixCache.currentETag(CURRICULUM_1, JSON));
+        assertEquals(eTag2, currMapMatrixCache.currentETag(CURRICULUM_2, JSON));
+        assertNotSame(matrix1, getOrBuild(CURRICULUM_1));
+        assertSame(matrix2, getOrBuild(CURRICULUM_2));
+    }
+
+    // The ETag only depends on the persisted rows and the media type, so another instance or a restart gives the same.
+    @Test
+    void testETagIsTheSameAcrossInstances() {
+        // Act
+        String eTag = currMapMatrixCache.currentETag(CURRICULUM_1, JSON);
+
+        // Assert
+        assertEquals(eTag, newCache().currentETag(CURRICULUM_1, JSON));
+        assertNotEquals(eTag, currMapMatrixCache.currentETag(CURRICULUM_1, "application/vnd.test+json"));
+    }
+
+    // A matrix cached under an ETag that is no longer current is built again.
+    @Test
+    void testMatrixCachedUnderAnOldETagIsRebuilt() {
+        // Arrange
+        String oldETag = currMapMatrixCache.currentETag(CURRICULUM_1, JSON);
+        MatrixDTO stale = currMapMatrixCache.getOrBuild(CURRICULUM_1, JSON, oldETag, this::emptyMatrix).matrix();
+        when(currMapService.getMatrixFingerprint(1L, 1L, 1L)).thenReturn("curriculum-1-changed");
+
+        // Act
+        MatrixDTO rebuilt = getOrBuild(CURRICULUM_1);
+
+        // Assert
+        assertNotSame(stale, rebuilt);
+        assertSame(rebuilt, getOrBuild(CURRICULUM_1));
+    }
+
+    // The cache must be declared in cache.specs, or the matrices would be kept without bounds.
+    @Test
+    void testUndeclaredCacheIsRejected() {
+        // Arrange
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new CurrMapMatrixCache(cacheManager,
+                PrimaryReads.inCallerTransaction(), currMapService));
+    }
+
+    private CurrMapMatrixCache newCache() {
+        return new CurrMapMatrixCache(new CaffeineCacheManager(CurrMapMatrixCache.CURR_MAP_MATRIX),
+                PrimaryReads.inCallerTransaction(), currMapService);
+    }
+
+    private MatrixDTO getOrBuild(CurrMapMatrixCache.Key key) {
+        return currMapMatrixCache.getOrBuild(key, JSON, currMapMatrixCache.currentETag(key, JSON), this::emptyMatrix)
+                .matrix();
+    }
+
+    private MatrixDTO emptyMatrix() {
+        return MatrixDTO.builder().matrix(new ArrayList<>()).build();
+    }
+}
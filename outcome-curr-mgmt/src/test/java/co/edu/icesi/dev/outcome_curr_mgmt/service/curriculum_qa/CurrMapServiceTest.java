@@ -1,5 +1,6 @@
 package co.edu.icesi.dev.outcome_curr_mgmt.service.curriculum_qa;
 
+import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.CompactMatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.MatrixDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.curriculum_qa.ValueDTO;
 import co.edu.icesi.dev.outcome_curr_mgmt.mapper.curriculum_qa.CurrMapMapper;
@@ -7,7 +8,9 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_definition.Cou
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.CurrMap;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.curriculum_qa.StudOutcome;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.User;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.ChangeLogAction;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.enums.CurrMapRequestStatus;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.projection.curriculum_qa.CurrMapCellProjection;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.curriculum_qa.CurrMapRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogService;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.component.management.UserProvider;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -29,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class CurrMapServiceTest {
@@ -65,11 +70,9 @@ class CurrMapServiceTest {
                 .build();
 
         // Mock the repository and mapper methods
-        when(currMapRepository.getAllByAcadProgCurriculumApcIdAndPerfIndicatorPiIdAndCourseCourseIdAndAcadProgCurriculumAcadProgramAcpIdOrderByCmAcceptedDateDesc(1L, 1L, 1L, 1L)).thenReturn(List.of(currMaps.get(0)));
-        when(currMapRepository.getAllByAcadProgCurriculumApcIdAndPerfIndicatorPiIdAndCourseCourseIdAndAcadProgCurriculumAcadProgramAcpIdOrderByCmAcceptedDateDesc(1L, 2L, 1L, 1L)).thenReturn(List.of(currMaps.get(1)));
-        when(currMapRepository.getAllByAcadProgCurriculumApcIdAndPerfIndicatorPiIdAndCourseCourseIdAndAcadProgCurriculumAcadProgramAcpIdOrderByCmAcceptedDateDesc(1L, 1L, 2L, 1L)).thenReturn(List.of(currMaps.get(2)));
-        when(currMapRepository.getAllByAcadProgCurriculumApcIdAndPerfIndicatorPiIdAndCourseCourseIdAndAcadProgCurriculumAcadProgramAcpIdOrderByCmAcceptedDateDesc(1L, 2L, 2L, 1L)).thenReturn(List.of(currMaps.get(3)));
-        when(currMapRepository.getAllByAcadProgCurriculumApcIdAndPerfIndicatorPiIdAndCourseCourseIdAndAcadProgCurriculumAcadProgramAcpIdOrderByCmAcceptedDateDesc(1L, 3L, 2L, 1L)).thenReturn(List.of(currMaps.get(4)));
+        when(currMapRepository.findAllCellsByAcadProgCurrIdAndAcadProgId(1L, 1L)).thenReturn(List.of(
+                toCell(currMaps.get(0), 1L, 1L), toCell(currMaps.get(1), 2L, 1L), toCell(currMaps.get(2), 1L, 2L),
+                toCell(currMaps.get(3), 2L, 2L), toCell(currMaps.get(4), 3L, 2L)));
         when(currMapMapper.fromMapElementToValueDTO(any())).thenReturn(valueDTO);
 
         // Act
@@ -160,7 +163,7 @@ class CurrMapServiceTest {
         List<Course> courses = CoursesDummies.getCoursesDummies();
 
         // Mock the repository and mapper methods
-        when(currMapRepository.getAllByAcadProgCurriculumApcIdAndPerfIndicatorPiIdAndCourseCourseIdAndAcadProgCurriculumAcadProgramAcpIdOrderByCmAcceptedDateDesc(anyLong(), anyLong(), anyLong(), anyLong())).thenReturn(new ArrayList<>());
+        when(currMapRepository.findAllCellsByAcadProgCurrIdAndAcadProgId(anyLong(), anyLong())).thenReturn(new ArrayList<>());
         when(currMapMapper.fromMapElementToValueDTO(any())).thenReturn(null);
 
         // Act
@@ -214,6 +217,7 @@ class CurrMapServiceTest {
         verify(currMapRepository, times(2)).findById(anyLong());
         verify(currMapRepository, times(2)).save(any(CurrMap.class));
         verify(changeLogService, times(1)).addChange(any(), anyString(), anyString(), any(), any());
+        verify(changeLogService).addChange(eq(ChangeLogAction.UPDATE), eq("2"), anyString(), any(), any());
     }
 
     // The method updates the status of a suggested curriculum map to 'PENDING'.
@@ -402,4 +406,66 @@ class CurrMapServiceTest {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> currMapService.updateSuggestedCurrMapRequestStatus(facultyId, programId, acadProgCurrId, prevCurrMapId, suggestedCurrMapId, destinationState));
     }
-}
\ No newline at end of file
+
+    // Only the first (most recently accepted) CurrMap of a performance indicator and course pair fills the cell.
+    @Test
+    void testOnlyLatestCurrMapOfEachCellIsUsed() {
+        // Arrange
+        List<StudOutcome> studOutcomes = SODummies.getStudentOutcomesDummies();
+        List<Course> courses = CoursesDummies.getCoursesDummiesWithCoursesInTheSameSemester();
+        List<CurrMap> currMaps = CurrMapsDummies.getCurrMapsDummies();
+
+        when(currMapRepository.findAllCellsByAcadProgCurrIdAndAcadProgId(1L, 1L)).thenReturn(List.of(
+                toCell(currMaps.get(2), 1L, 1L), toCell(currMaps.get(0), 1L, 1L)));
+        when(currMapMapper.fromMapElementToValueDTO(any())).thenAnswer(invocation -> {
+            Map.Entry<String, String> entry = invocation.getArgument(0);
+            return ValueDTO.builder().key(entry.getKey()).value(entry.getValue()).build();
+        });
+
+        // Act
+        MatrixDTO result = currMapService.getMatrixDTO(1L, 1L, studOutcomes, courses);
+
+        // Assert
+        assertTrue(result.matrix().get(1).cells().get(2).values()
+                .contains(ValueDTO.builder().key("currMapId").value("3").build()));
+        verify(currMapRepository, times(1)).findAllCellsByAcadProgCurrIdAndAcadProgId(1L, 1L);
+    }
+
+    // The compact matrix lists only populated cells and shares the strings repeated between them.
+    @Test
+    void testCompactMatrixListsOnlyPopulatedCells() {
+        // Arrange
+        List<StudOutcome> studOutcomes = SODummies.getStudentOutcomesDummies();
+        List<Course> courses = CoursesDummies.getCoursesDummiesWithCoursesInTheSameSemester();
+        List<CurrMap> currMaps = CurrMapsDummies.getCurrMapsDummies();
+
+        when(currMapRepository.findAllCellsByAcadProgCurrIdAndAcadProgId(1L, 1L)).thenReturn(List.of(
+                toCell(currMaps.get(0), 1L, 1L), toCell(currMaps.get(1), 2L, 1L)));
+
+        // Act
+        CompactMatrixDTO result = currMapService.getCompactMatrixDTO(1L, 1L, studOutcomes, courses);
+        MatrixDTO full = currMapService.getMatrixDTO(1L, 1L, SODummies.getStudentOutcomesDummies(),
+                CoursesDummies.getCoursesDummiesWithCoursesInTheSameSemester());
+
+        // Assert
+        assertEquals(full.matrix().size(), result.rowCount());
+        assertEquals(full.matrix().get(0).cells().size(), result.columnCount());
+        assertEquals(0, result.cells().length % 3);
+        long populatedCells = full.matrix().stream()
+                .flatMap(row -> row.cells().stream())
+                .filter(cell -> !cell.values().isEmpty())
+                .count();
+        assertEquals(populatedCells, result.cells().length / 3);
+        assertTrue(result.keys().contains("currMapId"));
+        assertEquals(result.strings().size(), result.strings().stream().distinct().count());
+        for (int i = 0; i < result.cells().length; i += 3) {
+            assertTrue(result.cells()[i + 2] < result.values().size());
+            assertEquals(result.keys().size(), result.values().get(result.cells()[i + 2]).length);
+        }
+    }
+
+    private static CurrMapCellProjection toCell(CurrMap currMap, long piId, long courseId) {
+        return new CurrMapCellProjection(currMap.getCmId(), piId, courseId, currMap.getPiLvlCateg().getCategNameEng(),
+                null);
+    }
+}
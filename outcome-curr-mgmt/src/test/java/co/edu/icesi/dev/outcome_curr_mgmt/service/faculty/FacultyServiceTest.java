@@ -2,6 +2,7 @@ package co.edu.icesi.dev.outcome_curr_mgmt.service.faculty;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.faculty.FacultyInDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.faculty.FacultyOutDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.config.PrimaryReads;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
 import co.edu.icesi.dev.outcome_curr_mgmt.mapper.faculty.FacultyMapper;
@@ -9,6 +10,7 @@ import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.faculty.FacultyRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogServiceImpl;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.faculty.matcher.FacultyMatcher;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataCache;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.faculty.FacultyProviderImpl;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.validator.faculty.FacultyValidator;
 import io.micrometer.core.instrument.Counter;
@@ -23,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -66,6 +69,8 @@ public class FacultyServiceTest {
         ReflectionTestUtils.setField(facultyService, "facultyProvider", facultyProvider);
         ReflectionTestUtils.setField(facultyService, "facultyRepository", facultyRepository);
         ReflectionTestUtils.setField(facultyService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(facultyService, "referenceDataCache",
+                new ReferenceDataCache(new NoOpCacheManager(), PrimaryReads.inCallerTransaction()));
     }
 
     @Test
@@ -151,6 +156,7 @@ public class FacultyServiceTest {
 
         // Arrange
         when(facultyProvider.findFacultyByFacId(anyLong())).thenReturn(defaultFaculty());
+        when(facultyRepository.hasAcadProgramsOrCourses(anyLong())).thenReturn(true);
 
         try {
 
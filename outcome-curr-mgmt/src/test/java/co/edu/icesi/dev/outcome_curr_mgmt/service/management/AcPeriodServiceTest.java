@@ -2,11 +2,13 @@ package co.edu.icesi.dev.outcome_curr_mgmt.service.management;
 
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdindto.management.AcadPeriodInDTO;
 import co.edu.icesi.dev.outcome_curr.mgmt.model.stdoutdto.management.AcadPeriodOutDTO;
+import co.edu.icesi.dev.outcome_curr_mgmt.config.PrimaryReads;
 import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
 import co.edu.icesi.dev.outcome_curr_mgmt.mapper.management.AcademicPeriodMapper;
 import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.management.AcPeriod;
 import co.edu.icesi.dev.outcome_curr_mgmt.persistence.management.AcPeriodRepository;
 import co.edu.icesi.dev.outcome_curr_mgmt.service.audit.ChangeLogServiceImpl;
+import co.edu.icesi.dev.outcome_curr_mgmt.service.provider.ReferenceDataCache;
 import co.edu.icesi.dev.outcome_curr_mgmt.util.OutcomeCurrMgmtUtil;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
@@ -54,7 +57,8 @@ class AcPeriodServiceTest {
 
     @BeforeEach
     void setup(){
-        acPeriodService = new AcPeriodServiceImpl(acPeriodRepository, academicPeriodMapper, changeLogService);
+        acPeriodService = new AcPeriodServiceImpl(acPeriodRepository, academicPeriodMapper, changeLogService,
+                new ReferenceDataCache(new NoOpCacheManager(), PrimaryReads.inCallerTransaction()));
         validator = Validation.buildDefaultValidatorFactory().getValidator();
     }
 
@@ -0,0 +1,107 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.service.provider;
+
+import co.edu.icesi.dev.outcome_curr_mgmt.config.PrimaryReads;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrException;
+import co.edu.icesi.dev.outcome_curr_mgmt.exception.OutCurrExceptionType;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.AcadProgram;
+import co.edu.icesi.dev.outcome_curr_mgmt.model.entity.faculty.Faculty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReferenceDataCacheTest {
+
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void init() {
+        referenceDataCache = new ReferenceDataCache(
+                new CaffeineCacheManager(ReferenceDataCache.FACULTY, ReferenceDataCache.ACAD_PROGRAM),
+                PrimaryReads.inCallerTransaction());
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testLookupsAreLoadedOnce() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> "faculty-" + loads.incrementAndGet();
+
+        // Act
+        String first = referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, loader);
+        String second = referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, loader);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testLoaderExceptionsReachTheCallerAndAreNotCached() {
+        // Arrange
+        OutCurrException notFound = new OutCurrException(OutCurrExceptionType.FACULTY_INVALID_FAC_ID);
+
+        // Act
+        OutCurrException thrown = assertThrows(OutCurrException.class,
+                () -> referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, () -> {
+                    throw notFound;
+                }));
+
+        // Assert
+        assertSame(notFound, thrown);
+        assertEquals("loaded", referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, () -> "loaded"));
+    }
+
+    // A reader that repopulates the entry before the writing transaction commits must not keep the old value.
+    @Test
+    void testWrittenProgramEvictsItselfAndItsFacultyAgainAfterCommit() {
+        // Arrange
+        Faculty faculty = Faculty.builder().facId(1L).build();
+        AcadProgram acadProgram = AcadProgram.builder().acpId(7L).faculty(faculty).build();
+        referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, () -> "before");
+        referenceDataCache.get(ReferenceDataCache.ACAD_PROGRAM, 7L, () -> "before");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        new ReferenceDataInvalidationListener(referenceDataCache).evict(acadProgram);
+        referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, () -> "during");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals("after", referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, () -> "after"));
+        assertEquals("after", referenceDataCache.get(ReferenceDataCache.ACAD_PROGRAM, 7L, () -> "after"));
+    }
+
+    // A program moved to another faculty evicts the faculty it left as well as the one it joined.
+    @Test
+    void testProgramMovedToAnotherFacultyEvictsBothFaculties() {
+        // Arrange
+        Faculty newFaculty = Faculty.builder().facId(2L).build();
+        AcadProgram acadProgram = AcadProgram.builder().acpId(7L).faculty(newFaculty).build();
+        referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, () -> "before");
+        referenceDataCache.get(ReferenceDataCache.FACULTY, 2L, () -> "before");
+
+        // Act
+        new ReferenceDataInvalidationListener(referenceDataCache).evict(acadProgram);
+
+        // Assert
+        assertEquals("after", referenceDataCache.get(ReferenceDataCache.FACULTY, 1L, () -> "after"));
+        assertEquals("after", referenceDataCache.get(ReferenceDataCache.FACULTY, 2L, () -> "after"));
+    }
+}
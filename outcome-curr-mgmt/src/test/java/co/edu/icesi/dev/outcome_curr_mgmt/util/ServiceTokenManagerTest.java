@@ -0,0 +1,126 @@
+package co.edu.icesi.dev.outcome_curr_mgmt.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ServiceTokenManagerTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T10:00:00Z");
+
+    // Callers that ask for a token during a login wait for it instead of logging in again.
+    @Test
+    void testConcurrentCallersShareOneLogin() throws Exception {
+        // Arrange
+        AtomicInteger logins = new AtomicInteger();
+        CountDownLatch loginStarted = new CountDownLatch(1);
+        CountDownLatch releaseLogin = new CountDownLatch(1);
+        ServiceTokenManager tokenManager = new ServiceTokenManager("banner", () -> {
+            logins.incrementAndGet();
+            loginStarted.countDown();
+            await(releaseLogin);
+            return "token";
+        }, Duration.ofSeconds(60), Duration.ofMinutes(10), mock(ScheduledExecutorService.class),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+
+        // Act
+        List<Future<String>> tokens = new ArrayList<>();
+        tokens.add(callers.submit(tokenManager::getToken));
+        loginStarted.await(5, TimeUnit.SECONDS);
+        for (int caller = 0; caller < 3; caller++) {
+            tokens.add(callers.submit(tokenManager::getToken));
+        }
+        Thread.sleep(100);
+        releaseLogin.countDown();
+
+        // Assert
+        for (Future<String> token : tokens) {
+            assertEquals("token", token.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, logins.get());
+        callers.shutdownNow();
+    }
+
+    // The renewal is scheduled from the token's exp, ahead of it by the refresh margin.
+    @Test
+    void testRenewalIsScheduledBeforeTheTokenExpiry() {
+        // Arrange
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        String jwt = jwt(NOW.plusSeconds(600));
+        ServiceTokenManager tokenManager = new ServiceTokenManager("banner", () -> jwt, Duration.ofSeconds(60),
+                Duration.ofMinutes(10), scheduler, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        String token = tokenManager.getToken();
+
+        // Assert
+        assertEquals(jwt, token);
+        verify(scheduler).schedule(any(Runnable.class), eq(540_000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    // A token that lives shorter than the refresh margin is renewed halfway through its lifetime, not right away.
+    @Test
+    void testShortLivedTokenIsRenewedHalfwayThroughItsLifetime() {
+        // Arrange
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ServiceTokenManager tokenManager = new ServiceTokenManager("banner", () -> jwt(NOW.plusSeconds(30)),
+                Duration.ofSeconds(60), Duration.ofMinutes(10), scheduler, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        tokenManager.getToken();
+
+        // Assert
+        verify(scheduler).schedule(any(Runnable.class), eq(15_000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    // A token that is already expired when it arrives is not renewed again before the minimum delay.
+    @Test
+    void testExpiredTokenRenewalWaitsTheMinimumDelay() {
+        // Arrange
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ServiceTokenManager tokenManager = new ServiceTokenManager("banner", () -> jwt(NOW.minusSeconds(30)),
+                Duration.ofSeconds(60), Duration.ofMinutes(10), scheduler, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        tokenManager.getToken();
+
+        // Assert
+        verify(scheduler).schedule(any(Runnable.class), eq(5_000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    private static String jwt(Instant expiry) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"exp\":" + expiry.getEpochSecond() + "}")
+                .getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}